@@ -1,9 +1,32 @@
+import battle.menu.HeroPolicy;
+import battle.menu.auto.AutoHeroPolicies;
 import game.GameLauncher;
+import game.lov.advisor.MctsHeroAdvisor;
+import game.lov.simulation.LegendsSimulationRunner;
+import monster.MonsterFactory;
+import upload.GameDataRepository;
 import utils.BGMPlayer;
 import utils.EndOfInputException;
+import utils.GameConstants;
+import utils.GameRandom;
+import worldMap.LegendsMapConfig;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class Main {
     public static void main(String[] args) {
+        // Headless mode: java Main --simulate <games> [seed] [rush|greedy|random|rules|mcts|script:<file>] [--shards <n>]
+        if (args.length > 1 && args[0].equals(GameConstants.SIMULATE_FLAG)) {
+            boolean sharded = args.length > 3 && args[args.length - 2].equals(GameConstants.LANE_SHARDS_FLAG);
+            int simulateArgs = sharded ? args.length - 2 : args.length;
+            simulate(Integer.parseInt(args[1].trim()),
+                    simulateArgs > 2 ? Long.parseLong(args[2].trim()) : GameRandom.withRandomSeed().getSeed(),
+                    simulateArgs > 3 ? args[3].trim() : AutoHeroPolicies.RUSH,
+                    sharded ? Integer.parseInt(args[args.length - 1].trim()) : 0);
+            return;
+        }
+
         // Start background music (WAV format preferred, MP3 not supported by Java AudioSystem)
         if (new java.io.File("BGM.wav").exists()) {
             BGMPlayer.start("BGM.wav");
@@ -11,7 +34,12 @@ public class Main {
             BGMPlayer.start("BGM.mp3");  // Will show error message if format unsupported
         }
         
-        GameLauncher launcher = new GameLauncher();
+        // Optional arguments: seed of a game to replay, then --advisor for move hints in Legends of Valor
+        boolean showAdvice = args.length > 0 && args[args.length - 1].equals(GameConstants.ADVISOR_FLAG);
+        int seedArgs = showAdvice ? args.length - 1 : args.length;
+        GameLauncher launcher = (seedArgs > 0)
+                ? new GameLauncher(Long.parseLong(args[0].trim()), showAdvice)
+                : new GameLauncher(showAdvice);
         try {
             launcher.run();
         } catch (EndOfInputException e) {
@@ -20,4 +48,44 @@ public class Main {
             BGMPlayer.stop();
         }
     }
-}
\ No newline at end of file
+
+    private static void simulate(int games, long seed, String policy, int laneShards) {
+        GameDataRepository data = GameDataRepository.load();
+        // Keep hold of the advisor so its search speed can be reported
+        MctsHeroAdvisor advisor = policy.equals(AutoHeroPolicies.MCTS)
+                ? new MctsHeroAdvisor(new MonsterFactory(data, GameRandom.withRandomSeed()))
+                : null;
+        HeroPolicy heroPolicy = advisor != null
+                ? AutoHeroPolicies.mcts(advisor)
+                : AutoHeroPolicies.forName(policy);
+        LegendsSimulationRunner runner = new LegendsSimulationRunner(
+                data,
+                LegendsMapConfig.DEFAULT,
+                heroPolicy,
+                GameConstants.LOV_SIMULATION_MAX_ROUNDS,
+                Runtime.getRuntime().availableProcessors());
+        // Lane groups of every game share one pool, sized like the runner's own
+        ExecutorService laneWorkers = laneShards > 0
+                ? Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())
+                : null;
+        runner.setLaneWorkers(laneWorkers, laneShards);
+        // Waves are drawn ahead on their own thread; outcomes are the same without it
+        ExecutorService waveBuilder = Executors.newSingleThreadExecutor();
+        runner.setWaveBuilder(waveBuilder);
+        System.out.println(data.describeLoadTimes());
+        System.out.println("Simulation seed: " + seed + ", hero policy: " + policy
+                + (laneShards > 0 ? ", lane shards: " + laneShards : ""));
+        try {
+            System.out.println(runner.run(games, seed));
+        } finally {
+            waveBuilder.shutdownNow();
+            if (laneWorkers != null) {
+                laneWorkers.shutdown();
+            }
+        }
+        if (advisor != null) {
+            System.out.println(advisor);
+            advisor.shutdown();
+        }
+    }
+}
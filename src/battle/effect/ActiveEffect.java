@@ -0,0 +1,47 @@
+package battle.effect;
+
+import entity.GamePiece;
+
+/**
+ * A {@link StatusEffect} applied to one piece, handed out by
+ * {@link StatusEffects#apply} so it can be cancelled early.
+ */
+public final class ActiveEffect extends TimingWheel.Timer {
+
+    private final StatusEffects owner;
+    private final GamePiece target;
+    private final StatusEffect effect;
+
+    /** What a modifier changed the stat by, to give back on expiry */
+    int delta;
+    /** Rounds a periodic effect still acts */
+    int roundsLeft;
+
+    ActiveEffect(StatusEffects owner, GamePiece target, StatusEffect effect, int delta, int roundsLeft) {
+        this.owner = owner;
+        this.target = target;
+        this.effect = effect;
+        this.delta = delta;
+        this.roundsLeft = roundsLeft;
+    }
+
+    public GamePiece getTarget() {
+        return target;
+    }
+
+    public StatusEffect getEffect() {
+        return effect;
+    }
+
+    /**
+     * Checks whether the effect still lasts.
+     */
+    public boolean isActive() {
+        return isScheduled();
+    }
+
+    @Override
+    protected void expire() {
+        owner.onExpire(this);
+    }
+}
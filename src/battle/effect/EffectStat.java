@@ -0,0 +1,121 @@
+package battle.effect;
+
+import entity.GamePiece;
+import hero.Hero;
+import monster.Monster;
+
+/**
+ * Stats a {@link StatusEffect} can change. HP applies to every piece;
+ * strength, dexterity and agility only to heroes; damage, defense and
+ * dodge only to monsters.
+ */
+public enum EffectStat {
+    HP,
+    STRENGTH,
+    DEXTERITY,
+    AGILITY,
+    DAMAGE,
+    DEFENSE,
+    DODGE;
+
+    /**
+     * Checks whether a piece has this stat.
+     * @param piece a hero or a monster
+     */
+    public boolean appliesTo(GamePiece piece) {
+        switch (this) {
+            case HP:
+                return piece instanceof Hero || piece instanceof Monster;
+            case STRENGTH:
+            case DEXTERITY:
+            case AGILITY:
+                return piece instanceof Hero;
+            default:
+                return piece instanceof Monster;
+        }
+    }
+
+    int get(GamePiece piece) {
+        if (piece instanceof Hero) {
+            Hero hero = (Hero) piece;
+            switch (this) {
+                case HP:
+                    return hero.getHp();
+                case STRENGTH:
+                    return hero.getStrength();
+                case DEXTERITY:
+                    return hero.getDexterity();
+                case AGILITY:
+                    return hero.getAgility();
+                default:
+                    break;
+            }
+        } else if (piece instanceof Monster) {
+            Monster monster = (Monster) piece;
+            switch (this) {
+                case HP:
+                    return monster.getHp();
+                case DAMAGE:
+                    return monster.getBaseDamage();
+                case DEFENSE:
+                    return monster.getDefense();
+                case DODGE:
+                    return monster.getDodgeAbility();
+                default:
+                    break;
+            }
+        }
+        throw new IllegalArgumentException(this + " does not apply to " + piece.getName());
+    }
+
+    void set(GamePiece piece, int value) {
+        if (piece instanceof Hero) {
+            Hero hero = (Hero) piece;
+            switch (this) {
+                case HP:
+                    hero.setHp(value);
+                    return;
+                case STRENGTH:
+                    hero.setStrength(value);
+                    return;
+                case DEXTERITY:
+                    hero.setDexterity(value);
+                    return;
+                case AGILITY:
+                    hero.setAgility(value);
+                    return;
+                default:
+                    break;
+            }
+        } else if (piece instanceof Monster) {
+            Monster monster = (Monster) piece;
+            switch (this) {
+                case HP:
+                    monster.setHp(value);
+                    return;
+                case DAMAGE:
+                    monster.setBaseDamage(value);
+                    return;
+                case DEFENSE:
+                    monster.setDefense(value);
+                    return;
+                case DODGE:
+                    monster.setDodgeAbility(value);
+                    return;
+                default:
+                    break;
+            }
+        }
+        throw new IllegalArgumentException(this + " does not apply to " + piece.getName());
+    }
+
+    /**
+     * Gets the highest value the stat may reach on a piece.
+     */
+    int max(GamePiece piece) {
+        if (this == HP) {
+            return piece instanceof Hero ? ((Hero) piece).getMaxHp() : ((Monster) piece).getMaxHp();
+        }
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,111 @@
+package battle.effect;
+
+/**
+ * Immutable description of a buff, debuff or damage-over-time, e.g. "ice
+ * lowers damage to 90%" or "poison deals 20 per round". How long it lasts
+ * is given when it is applied with {@link StatusEffects#apply}.
+ *
+ * A modifier ({@link #scale} or {@link #boost}) changes the stat once when
+ * applied and gives back exactly what it changed when it expires, so
+ * effects stacked on the same stat undo cleanly in any order. A periodic
+ * effect ({@link #overTime}) changes the stat at the end of every round it
+ * lasts and is never undone.
+ */
+public final class StatusEffect {
+
+    private enum Kind {
+        SCALE,
+        BOOST,
+        PERIODIC
+    }
+
+    private final String name;
+    private final EffectStat stat;
+    private final Kind kind;
+    private final double factor;
+    private final int amount;
+
+    private StatusEffect(String name, EffectStat stat, Kind kind, double factor, int amount) {
+        if (name == null || stat == null) {
+            throw new IllegalArgumentException("name and stat are required");
+        }
+        this.name = name;
+        this.stat = stat;
+        this.kind = kind;
+        this.factor = factor;
+        this.amount = amount;
+    }
+
+    /**
+     * Creates a modifier that multiplies a stat while it lasts.
+     * @param factor e.g. 0.9 for a 10% debuff or 1.1 for a 10% bonus
+     */
+    public static StatusEffect scale(String name, EffectStat stat, double factor) {
+        if (factor < 0) {
+            throw new IllegalArgumentException("factor cannot be negative");
+        }
+        return new StatusEffect(name, stat, Kind.SCALE, factor, 0);
+    }
+
+    /**
+     * Creates a modifier that adds to a stat while it lasts.
+     * @param amount what to add; negative to subtract
+     */
+    public static StatusEffect boost(String name, EffectStat stat, int amount) {
+        return new StatusEffect(name, stat, Kind.BOOST, 1.0, amount);
+    }
+
+    /**
+     * Creates an effect that changes a stat at the end of every round, e.g.
+     * regeneration or damage-over-time on {@link EffectStat#HP}.
+     * @param amountPerRound what to add each round; negative to subtract
+     */
+    public static StatusEffect overTime(String name, EffectStat stat, int amountPerRound) {
+        return new StatusEffect(name, stat, Kind.PERIODIC, 1.0, amountPerRound);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EffectStat getStat() {
+        return stat;
+    }
+
+    /**
+     * Checks whether this effect acts every round instead of once.
+     */
+    public boolean isPeriodic() {
+        return kind == Kind.PERIODIC;
+    }
+
+    public double getFactor() {
+        return factor;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * Gets the value a stat takes when this effect acts on it.
+     */
+    int changedValue(int value) {
+        if (kind == Kind.SCALE) {
+            return (int) (value * factor);
+        }
+        return value + amount;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case SCALE:
+                return name + " (" + stat + " x" + factor + ")";
+            case BOOST:
+                return name + " (" + stat + (amount < 0 ? " " : " +") + amount + ")";
+            default:
+                return name + " (" + stat + (amount < 0 ? " " : " +") + amount + " per round)";
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package battle.effect;
+
+import entity.GamePiece;
+import java.util.List;
+
+/**
+ * Keeps track of the {@link StatusEffect}s on the pieces of one battle or
+ * game and ends them on time.
+ *
+ * Every effect sits on a {@link TimingWheel} that ticks once per round, so
+ * ending a round only costs the effects that expire or act in it. Effects
+ * last a whole number of rounds: one applied for 3 rounds during round 5
+ * wears off at the end of round 7, and a periodic one acts at the end of
+ * rounds 5, 6 and 7.
+ */
+public class StatusEffects {
+
+    private final TimingWheel wheel = new TimingWheel();
+
+    /**
+     * Puts an effect on a piece. A modifier changes the stat right away.
+     * @param target the piece
+     * @param effect the effect; its stat must apply to the piece
+     * @param rounds how many round ends it lasts, at least 1
+     * @return the running effect, e.g. to {@link #cancel} it
+     */
+    public ActiveEffect apply(GamePiece target, StatusEffect effect, int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("rounds must be at least 1");
+        }
+        EffectStat stat = effect.getStat();
+        if (!stat.appliesTo(target)) {
+            throw new IllegalArgumentException(stat + " does not apply to " + target.getName());
+        }
+        ActiveEffect active;
+        if (effect.isPeriodic()) {
+            active = new ActiveEffect(this, target, effect, 0, rounds);
+            wheel.schedule(active, 1);
+        } else {
+            if (stat == EffectStat.HP) {
+                throw new IllegalArgumentException("HP can only change over time");
+            }
+            int before = stat.get(target);
+            int after = Math.max(0, effect.changedValue(before));
+            stat.set(target, after);
+            active = new ActiveEffect(this, target, effect, after - before, 0);
+            wheel.schedule(active, rounds);
+        }
+        return active;
+    }
+
+    /**
+     * Ends an effect early; a modifier gives back what it changed.
+     * @return false if the effect had already ended
+     */
+    public boolean cancel(ActiveEffect active) {
+        if (!wheel.cancel(active)) {
+            return false;
+        }
+        revert(active);
+        return true;
+    }
+
+    /**
+     * Ends the current round: effects whose time is up wear off and
+     * periodic effects act.
+     */
+    public void endRound() {
+        wheel.advance();
+    }
+
+    /**
+     * Ends every effect, e.g. when the battle is over.
+     */
+    public void clear() {
+        if (wheel.size() == 0) {
+            return;
+        }
+        for (TimingWheel.Timer timer : wheel.getScheduled()) {
+            cancel((ActiveEffect) timer);
+        }
+    }
+
+    public int getActiveCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Gets the number of rounds ended so far.
+     */
+    public long getRound() {
+        return wheel.getTime();
+    }
+
+    void onExpire(ActiveEffect active) {
+        StatusEffect effect = active.getEffect();
+        if (!effect.isPeriodic()) {
+            revert(active);
+            return;
+        }
+        GamePiece target = active.getTarget();
+        if (!target.isAlive()) {
+            return;
+        }
+        EffectStat stat = effect.getStat();
+        int value = effect.changedValue(stat.get(target));
+        stat.set(target, Math.max(0, Math.min(stat.max(target), value)));
+        if (--active.roundsLeft > 0) {
+            wheel.schedule(active, 1);
+        }
+    }
+
+    private static void revert(ActiveEffect active) {
+        if (active.delta == 0) {
+            return;
+        }
+        EffectStat stat = active.getEffect().getStat();
+        GamePiece target = active.getTarget();
+        stat.set(target, Math.max(0, stat.get(target) - active.delta));
+        active.delta = 0;
+    }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Records the running effects, to go with a snapshot of the pieces they
+     * changed.
+     */
+    public Snapshot snapshot() {
+        List<TimingWheel.Timer> timers = wheel.getScheduled();
+        ActiveEffect[] effects = new ActiveEffect[timers.size()];
+        long[] delays = new long[effects.length];
+        for (int i = 0; i < effects.length; i++) {
+            effects[i] = (ActiveEffect) timers.get(i);
+            delays[i] = effects[i].getDeadline() - wheel.getTime();
+        }
+        return new Snapshot(effects, delays);
+    }
+
+    /**
+     * Puts the effects back as recorded, without touching any stat: the
+     * pieces are expected to be restored from a snapshot of the same moment.
+     * Effects handed out before are no longer tracked.
+     */
+    public void restore(Snapshot snapshot) {
+        wheel.clear();
+        for (int i = 0; i < snapshot.effects.length; i++) {
+            ActiveEffect saved = snapshot.effects[i];
+            ActiveEffect active = new ActiveEffect(this, saved.getTarget(), saved.getEffect(),
+                    snapshot.deltas[i], snapshot.roundsLeft[i]);
+            wheel.schedule(active, snapshot.delays[i]);
+        }
+    }
+
+    /**
+     * Immutable record of the running effects, taken with {@link #snapshot()}.
+     */
+    public static final class Snapshot {
+        private final ActiveEffect[] effects;
+        private final int[] deltas;
+        private final int[] roundsLeft;
+        private final long[] delays;
+
+        private Snapshot(ActiveEffect[] effects, long[] delays) {
+            this.effects = effects;
+            this.delays = delays;
+            this.deltas = new int[effects.length];
+            this.roundsLeft = new int[effects.length];
+            for (int i = 0; i < effects.length; i++) {
+                deltas[i] = effects[i].delta;
+                roundsLeft[i] = effects[i].roundsLeft;
+            }
+        }
+
+        public int size() {
+            return effects.length;
+        }
+    }
+}
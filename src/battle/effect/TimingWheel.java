@@ -0,0 +1,225 @@
+package battle.effect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: fires timers a whole number of ticks (e.g.
+ * rounds) after they were scheduled.
+ *
+ * Four levels of 64 slots each cover delays up to 64^4 - 1 ticks. A timer
+ * goes into the coarsest level its delay needs and moves down a level each
+ * time the finer wheel wraps around, so advancing one tick only touches
+ * the timers that fire (plus, every 64 ticks, one slot of timers moving
+ * down), never all the timers that exist. Scheduling and cancelling are
+ * O(1); timers are linked in place, so neither allocates.
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Longest delay a timer can be scheduled with */
+    public static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /** slots[level][slot] heads a circular list of timers */
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+    /** Timers of the tick being fired, so handlers can cancel any of them */
+    private final Timer firing = new Sentinel();
+
+    /** Last tick fired */
+    private long now;
+    private int size;
+
+    /**
+     * Something that fires once at a given tick. Subclass it to carry the
+     * state the handler needs; an instance can be scheduled again after it
+     * fired or was cancelled.
+     */
+    public abstract static class Timer {
+        Timer prev;
+        Timer next;
+        long deadline;
+
+        public final boolean isScheduled() {
+            return next != null;
+        }
+
+        /**
+         * Gets the tick this timer fires at, or last fired at.
+         * @return the deadline tick
+         */
+        public final long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Called when the timer's tick is reached; it is no longer scheduled.
+         */
+        protected abstract void expire();
+    }
+
+    private static final class Sentinel extends Timer {
+        Sentinel() {
+            prev = this;
+            next = this;
+        }
+
+        @Override
+        protected void expire() {
+            // A list head never fires
+        }
+    }
+
+    public TimingWheel() {
+        for (Timer[] level : slots) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                level[slot] = new Sentinel();
+            }
+        }
+    }
+
+    /**
+     * Schedules a timer.
+     * @param timer a timer that is not scheduled
+     * @param delay ticks from now, between 1 and {@link #MAX_DELAY}
+     */
+    public void schedule(Timer timer, long delay) {
+        if (delay < 1 || delay > MAX_DELAY) {
+            throw new IllegalArgumentException("delay must be between 1 and " + MAX_DELAY);
+        }
+        if (timer.isScheduled()) {
+            throw new IllegalStateException("Timer is already scheduled");
+        }
+        timer.deadline = now + delay;
+        insert(timer, now + 1);
+        size++;
+    }
+
+    /**
+     * Unschedules a timer without firing it.
+     * @param timer the timer
+     * @return false if it was not scheduled
+     */
+    public boolean cancel(Timer timer) {
+        if (!timer.isScheduled()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves on one tick and fires every timer due at it, in the order they
+     * were scheduled for that tick. Handlers may schedule and cancel timers.
+     */
+    public void advance() {
+        long base = now + 1;
+        int index = (int) (base & MASK);
+        if (index == 0) {
+            // The finest wheel wrapped: bring the next slot of each coarser level down
+            for (int level = 1; level < LEVELS; level++) {
+                int slot = (int) ((base >>> (SLOT_BITS * level)) & MASK);
+                cascade(slots[level][slot], base);
+                if (slot != 0) {
+                    break;
+                }
+            }
+        }
+        now = base;
+
+        moveAll(slots[0][index], firing);
+        while (firing.next != firing) {
+            Timer timer = firing.next;
+            unlink(timer);
+            size--;
+            timer.expire();
+        }
+    }
+
+    /**
+     * Gets every scheduled timer, e.g. to take a snapshot of them.
+     * @return the timers, in no particular order
+     */
+    public List<Timer> getScheduled() {
+        List<Timer> timers = new ArrayList<>(size);
+        for (Timer[] level : slots) {
+            for (Timer head : level) {
+                for (Timer timer = head.next; timer != head; timer = timer.next) {
+                    timers.add(timer);
+                }
+            }
+        }
+        return timers;
+    }
+
+    /**
+     * Unschedules every timer without firing any.
+     */
+    public void clear() {
+        for (Timer timer : getScheduled()) {
+            cancel(timer);
+        }
+    }
+
+    /**
+     * Gets the last tick that was fired; 0 before the first {@link #advance()}.
+     * @return the current tick
+     */
+    public long getTime() {
+        return now;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ==================== SLOTS ====================
+
+    /**
+     * Puts a timer into the slot that will be reached at its deadline.
+     * @param reference the next tick to fire
+     */
+    private void insert(Timer timer, long reference) {
+        long distance = timer.deadline - reference;
+        int level = 0;
+        while (level < LEVELS - 1 && distance >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((timer.deadline >>> (SLOT_BITS * level)) & MASK);
+        linkLast(slots[level][slot], timer);
+    }
+
+    private void cascade(Timer head, long reference) {
+        while (head.next != head) {
+            Timer timer = head.next;
+            unlink(timer);
+            insert(timer, reference);
+        }
+    }
+
+    private static void moveAll(Timer from, Timer to) {
+        while (from.next != from) {
+            Timer timer = from.next;
+            unlink(timer);
+            linkLast(to, timer);
+        }
+    }
+
+    private static void linkLast(Timer head, Timer timer) {
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private static void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
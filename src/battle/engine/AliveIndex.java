@@ -0,0 +1,84 @@
+package battle.engine;
+
+import java.util.Arrays;
+
+/**
+ * Which of n combatants are still alive, in their original order.
+ *
+ * A Fenwick tree over alive flags, so removing a combatant and finding the
+ * k-th alive one both take O(log n). Picking {@code select(random.nextInt(size()))}
+ * therefore chooses exactly like picking from a freshly filtered list of
+ * the alive ones, without building that list.
+ */
+final class AliveIndex {
+
+    private final int[] tree;
+    private final boolean[] alive;
+    private final int topBit;
+    private int size;
+
+    /**
+     * Creates an index with every combatant alive.
+     * @param count number of combatants
+     */
+    AliveIndex(int count) {
+        this.tree = new int[count + 1];
+        this.alive = new boolean[count];
+        this.topBit = count == 0 ? 0 : Integer.highestOneBit(count);
+        for (int i = 1; i <= count; i++) {
+            tree[i] += 1;
+            int parent = i + (i & -i);
+            if (parent <= count) {
+                tree[parent] += tree[i];
+            }
+        }
+        Arrays.fill(alive, true);
+        this.size = count;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isAlive(int index) {
+        return alive[index];
+    }
+
+    /**
+     * Marks a combatant as dead; does nothing if it already is.
+     * @param index the combatant
+     */
+    void remove(int index) {
+        if (!alive[index]) {
+            return;
+        }
+        alive[index] = false;
+        size--;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i]--;
+        }
+    }
+
+    /**
+     * Finds the k-th alive combatant in original order.
+     * @param k rank among the alive ones, from 0 to size() - 1
+     * @return the combatant's index
+     */
+    int select(int k) {
+        if (k < 0 || k >= size) {
+            throw new IllegalArgumentException("rank out of range: " + k);
+        }
+        int position = 0;
+        int remaining = k + 1;
+        for (int step = topBit; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        // position is the longest one-based prefix with fewer alive, so the
+        // answer sits just after it: one-based position + 1, zero-based position
+        return position;
+    }
+}
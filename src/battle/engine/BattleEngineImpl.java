@@ -1,24 +1,23 @@
 package battle.engine;
 
+import battle.event.BattleEventLog;
 import battle.heroAction.BattleContext;
-import game.GameType;
 import battle.menu.BattleMenu;
+import entity.GamePiece;
 import battle.enums.HeroActionType;
 import battle.heroAction.HeroActionStrategy;
-import battle.heroAction.BattleActionsConfig;
 import hero.Hero;
 import hero.Party;
 import monster.Monster;
 import monster.MonsterFactory;
 import utils.MessageUtils;
 import utils.GameConstants;
+import utils.GameRandom;
 import utils.IOUtils;
 import worldMap.IWorldMap;
-import worldMap.ILegendsWorldMap;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of {@link BattleEngine} interface
@@ -29,31 +28,109 @@ public class BattleEngineImpl implements BattleEngine {
     private final BattleMenu battleMenu;
     private final IOUtils ioUtils;
     private final MonsterFactory monsterFactory;
+    private final GameRandom random;
+    private final BattleEventLog events;
+    /** Reused by every battle of this engine */
+    private final BattleSession session;
+
+    /** Resolve battles with {@link MassBattle} instead of asking the menu */
+    private boolean massBattleMode;
+    /** Order turns with an {@link InitiativeScheduler} instead of side by side */
+    private boolean initiativeTurns;
 
     public BattleEngineImpl(BattleMenu battleMenu, IOUtils ioUtils,
-                            MonsterFactory monsterFactory) {
+                            MonsterFactory monsterFactory, GameRandom random) {
         this.battleMenu = battleMenu;
         this.ioUtils = ioUtils;
         this.monsterFactory = monsterFactory;
+        this.random = random;
+        this.events = BattleEventLog.forOutput(ioUtils, GameConstants.BATTLE_EVENT_LOG_CAPACITY);
+        this.session = new BattleSession(battleMenu, ioUtils, monsterFactory, random, events);
     }
 
-    @Override
-    public boolean runBattle(Party party, IWorldMap iWorldMap) {
-        GameType gameType = (iWorldMap instanceof ILegendsWorldMap)
-                ? GameType.LEGENDS_OF_VALOR
-                : GameType.MONSTERS_AND_HEROES;
-        HashMap<HeroActionType, HeroActionStrategy> actions = (HashMap<HeroActionType, HeroActionStrategy>)
-                BattleActionsConfig.createActions(gameType, iWorldMap, ioUtils);
+    /**
+     * Gets the log every battle of this engine publishes its events to,
+     * e.g. to subscribe a statistics collector.
+     * @return the event log
+     */
+    public BattleEventLog getEvents() {
+        return events;
+    }
 
-        List<Monster> monsters = monsterFactory.createMonstersForParty(party);
+    /**
+     * Gets the stream battles roll their dice from, so a game snapshot can save and rewind it.
+     * @return the random stream
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
 
-        List<Monster> originalMonsters = new ArrayList<>(monsters);
+    /**
+     * Gets the factory that draws each battle's monsters.
+     * @return the monster factory
+     */
+    public MonsterFactory getMonsterFactory() {
+        return monsterFactory;
+    }
+
+    /**
+     * Gets the menu that makes the heroes' choices in battle.
+     * @return the battle menu
+     */
+    public BattleMenu getBattleMenu() {
+        return battleMenu;
+    }
 
-        List<Hero> heroes = new ArrayList<>(party.getHeroes());
+    /**
+     * Switches mass-battle mode on or off. In mass-battle mode every hero
+     * attacks the weakest monster without consulting the menu, and the whole
+     * battle is resolved at once by a {@link MassBattle}. Results match an
+     * automated menu that always attacks, at a fraction of the cost for
+     * large battles; hits are not reported as events.
+     * @param massBattleMode true to resolve battles in bulk
+     */
+    public void setMassBattleMode(boolean massBattleMode) {
+        this.massBattleMode = massBattleMode;
+    }
+
+    /**
+     * Switches initiative turns on or off. With initiative turns heroes and
+     * monsters act in the order an {@link InitiativeScheduler} gives, with
+     * quicker combatants acting more often, instead of every hero and then
+     * every monster. Heroes recover whenever a round's worth of clock ticks
+     * has passed. Ignored in mass-battle mode.
+     * @param initiativeTurns true to schedule turns by initiative
+     */
+    public void setInitiativeTurns(boolean initiativeTurns) {
+        this.initiativeTurns = initiativeTurns;
+    }
+
+    @Override
+    public boolean runBattle(Party party, IWorldMap iWorldMap) {
+        session.reset(party, iWorldMap);
+        List<Hero> heroes = session.heroes;
+        List<Monster> monsters = session.monsters;
+        if (massBattleMode) {
+            return runMassBattle(party, heroes, session.originalMonsters);
+        }
         battleMenu.showBattleStatus(heroes, monsters);
 
-        BattleContext context = new BattleContext(battleMenu);
+        BattleContext context = session.getContext();
+        Map<HeroActionType, HeroActionStrategy> actions = session.getActions();
+        boolean heroesWon = initiativeTurns
+                ? fightByInitiative(party, heroes, monsters, actions, context)
+                : fightBySides(party, heroes, monsters, actions, context);
+        // Buffs and debuffs do not outlast the battle
+        context.getEffects().clear();
+        return endBattle(party, session.originalMonsters, heroesWon);
+    }
 
+    /**
+     * Plays rounds of every hero, then every monster.
+     * @return true if the heroes won
+     */
+    private boolean fightBySides(Party party, List<Hero> heroes, List<Monster> monsters,
+                                 Map<HeroActionType, HeroActionStrategy> actions, BattleContext context) {
         while (true) {
             for (Hero hero : heroes) {
                 if (!hero.isAlive()) {
@@ -61,32 +138,14 @@ public class BattleEngineImpl implements BattleEngine {
                 }
 
                 if (allMonstersDefeated(monsters)) {
-                    ioUtils.printlnSuccess(MessageUtils.HEROES_DEFEAT_MONSTERS);
-                    grantBattleRewards(party, originalMonsters);
-                    applyPostBattleRecovery(party);
                     return true;
                 }
 
-                HeroActionType actionType = battleMenu.chooseActionForHero(hero, monsters);
-
-                if (actionType == HeroActionType.SKIP) {
-                    ioUtils.printlnWarning(String.format(MessageUtils.SKIP_TURN, hero.getName()));
-                } else {
-                    HeroActionStrategy strategy = actions.get(actionType);
-                    if (strategy != null) {
-                        strategy.execute(hero, monsters, context, ioUtils);
-                    } else {
-                        ioUtils.printlnFail(MessageUtils.UNKNOWN_COMMAND);
-                    }
-                }
-
+                playHeroTurn(hero, monsters, actions, context);
                 removeDeadMonsters(monsters);
                 battleMenu.showBattleStatus(heroes, monsters);
 
                 if (allMonstersDefeated(monsters)) {
-                    ioUtils.printlnSuccess(MessageUtils.HEROES_DEFEAT_MONSTERS);
-                    grantBattleRewards(party, originalMonsters);
-                    applyPostBattleRecovery(party);
                     return true;
                 }
             }
@@ -99,39 +158,128 @@ public class BattleEngineImpl implements BattleEngine {
 
                 Hero hero = pickRandomAliveHero(heroes);
                 if (hero == null) {
-                    ioUtils.printlnFail(MessageUtils.MONSTERS_DEFEAT_HEROES);
-                    applyPostBattleRecovery(party);
                     return false;
                 }
+                playMonsterTurn(monster, hero);
+            }
 
-                int damage = monster.computeAttackDamage();
-                boolean dodged = hero.dodgesAttack();
-                if (dodged) {
-                    ioUtils.printlnWarning(String.format(MessageUtils.ATTACK_WAS_DODGED, monster.getName(), hero.getName()));
-                } else {
-                    hero.takeDamage(damage);
-                    ioUtils.printlnWarning(String.format(MessageUtils.SUCCESSFUL_ATTACK,  monster.getName(), hero.getName(), damage));
-                }
+            if (party.allHeroesDefeated()) {
+                return false;
+            }
 
-                if (!hero.isAlive()) {
-                    ioUtils.printlnWarning(String.format(MessageUtils.CHARACTER_FAINTED, hero.getName()));
-                }
+            recoverHeroes(heroes);
+            context.getEffects().endRound();
+            battleMenu.showBattleStatus(heroes, monsters);
+        }
+    }
+
+    /**
+     * Plays turns in initiative order until one side is defeated.
+     * @return true if the heroes won
+     */
+    private boolean fightByInitiative(Party party, List<Hero> heroes, List<Monster> monsters,
+                                      Map<HeroActionType, HeroActionStrategy> actions, BattleContext context) {
+        InitiativeScheduler turns = session.getTurns();
+        for (Hero hero : heroes) {
+            if (hero.isAlive()) {
+                turns.add(hero);
             }
+        }
+        for (Monster monster : monsters) {
+            turns.add(monster);
+        }
 
+        long roundEnd = GameConstants.INITIATIVE_ROUND_TICKS;
+        while (true) {
+            if (allMonstersDefeated(monsters)) {
+                return true;
+            }
             if (party.allHeroesDefeated()) {
-                ioUtils.printlnFail(MessageUtils.MONSTERS_DEFEAT_HEROES);
-                applyPostBattleRecovery(party);
                 return false;
             }
+            if (turns.peekTime() >= roundEnd) {
+                recoverHeroes(heroes);
+                context.getEffects().endRound();
+                battleMenu.showBattleStatus(heroes, monsters);
+                roundEnd += GameConstants.INITIATIVE_ROUND_TICKS;
+                continue;
+            }
 
-            for (Hero hero : heroes) {
-                if (hero.isAlive()) {
-                    hero.recoverAfterRound();
+            GamePiece piece = turns.next();
+            if (piece.isHero()) {
+                playHeroTurn((Hero) piece, monsters, actions, context);
+                for (Monster monster : monsters) {
+                    if (!monster.isAlive()) {
+                        turns.remove(monster);
+                    }
+                }
+                removeDeadMonsters(monsters);
+                battleMenu.showBattleStatus(heroes, monsters);
+            } else {
+                Hero hero = pickRandomAliveHero(heroes);
+                playMonsterTurn((Monster) piece, hero);
+                if (!hero.isAlive()) {
+                    turns.remove(hero);
                 }
             }
+        }
+    }
 
-            battleMenu.showBattleStatus(heroes, monsters);
+    private void playHeroTurn(Hero hero, List<Monster> monsters,
+                              Map<HeroActionType, HeroActionStrategy> actions, BattleContext context) {
+        HeroActionType actionType = battleMenu.chooseActionForHero(hero, monsters);
+
+        if (actionType == HeroActionType.SKIP) {
+            events.turnSkipped(hero);
+        } else {
+            HeroActionStrategy strategy = actions.get(actionType);
+            if (strategy != null) {
+                strategy.execute(hero, monsters, context, ioUtils);
+            } else {
+                ioUtils.printlnFail(MessageUtils.UNKNOWN_COMMAND);
+            }
+        }
+    }
+
+    private void playMonsterTurn(Monster monster, Hero hero) {
+        int damage = monster.computeAttackDamage();
+        boolean dodged = hero.dodgesAttack(random);
+        if (dodged) {
+            events.attackDodged(monster, hero);
+        } else {
+            hero.takeDamage(damage);
+            events.attackHit(monster, hero, damage);
+        }
+
+        if (!hero.isAlive()) {
+            events.fainted(monster, hero);
+        }
+    }
+
+    private void recoverHeroes(List<Hero> heroes) {
+        for (Hero hero : heroes) {
+            if (hero.isAlive()) {
+                hero.recoverAfterRound();
+            }
+        }
+    }
+
+    private boolean endBattle(Party party, List<Monster> originalMonsters, boolean heroesWon) {
+        if (heroesWon) {
+            ioUtils.printlnSuccess(MessageUtils.HEROES_DEFEAT_MONSTERS);
+            grantBattleRewards(party, originalMonsters);
+        } else {
+            ioUtils.printlnFail(MessageUtils.MONSTERS_DEFEAT_HEROES);
         }
+        applyPostBattleRecovery(party);
+        return heroesWon;
+    }
+
+    private boolean runMassBattle(Party party, List<Hero> heroes, List<Monster> monsters) {
+        MassBattle battle = new MassBattle(heroes, monsters);
+        boolean heroesWon = battle.fight(random);
+        battle.applyResults();
+        return endBattle(party, monsters, heroesWon);
     }
 
     private boolean allMonstersDefeated(List<Monster> monsters) {
@@ -148,7 +296,8 @@ public class BattleEngineImpl implements BattleEngine {
     }
 
     private Hero pickRandomAliveHero(List<Hero> heroes) {
-        List<Hero> alive = new ArrayList<>();
+        List<Hero> alive = session.aliveHeroes;
+        alive.clear();
         for (Hero h : heroes) {
             if (h.isAlive()) {
                 alive.add(h);
@@ -157,8 +306,7 @@ public class BattleEngineImpl implements BattleEngine {
         if (alive.isEmpty()) {
             return null;
         }
-        int idx = (int) (Math.random() * alive.size());
-        return alive.get(idx);
+        return random.pick(alive);
     }
 
     private void applyPostBattleRecovery(Party party) {
@@ -187,7 +335,9 @@ public class BattleEngineImpl implements BattleEngine {
 
         for (Hero hero : party.getHeroes()) {
             boolean heroFainted = !hero.isAlive();
+            int goldBefore = hero.getGold();
             hero.rewardFromBattle(highestMonsterLevel, numberOfMonsters, heroFainted);
+            events.reward(hero, hero.getGold() - goldBefore, numberOfMonsters * GameConstants.HERO_EXP_PER_MONSTER);
         }
     }
 }
@@ -0,0 +1,103 @@
+package battle.engine;
+
+import battle.effect.StatusEffects;
+import battle.enums.HeroActionType;
+import battle.event.BattleEventLog;
+import battle.heroAction.BattleActionsConfig;
+import battle.heroAction.BattleContext;
+import battle.heroAction.HeroActionStrategy;
+import battle.menu.BattleMenu;
+import game.GameType;
+import hero.Hero;
+import hero.Party;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import monster.Monster;
+import monster.MonsterFactory;
+import utils.GameRandom;
+import utils.IOUtils;
+import worldMap.ILegendsWorldMap;
+import worldMap.IWorldMap;
+
+/**
+ * Everything a {@link BattleEngineImpl} battle needs besides the menu,
+ * created once per engine and reset between encounters: the actions, the
+ * context, the combatant lists and the turn schedule. Monsters come from
+ * the factory's pool, so once every kind of monster has been fielded,
+ * setting up a battle allocates nothing.
+ *
+ * One battle at a time: reset drops the monsters of the previous battle.
+ */
+final class BattleSession {
+
+    private final IOUtils ioUtils;
+    private final MonsterFactory monsterFactory;
+    private final BattleContext context;
+    private final InitiativeScheduler turns;
+
+    /** The map the actions were made for; actions are rebuilt if it changes */
+    private IWorldMap actionsMap;
+    private Map<HeroActionType, HeroActionStrategy> actions;
+
+    final List<Hero> heroes = new ArrayList<>();
+    /** Monsters still in the fight */
+    final List<Monster> monsters = new ArrayList<>();
+    /** Every monster the battle started with, for the rewards */
+    final List<Monster> originalMonsters = new ArrayList<>();
+    /** Scratch list for picking a monster's target */
+    final List<Hero> aliveHeroes = new ArrayList<>();
+
+    BattleSession(BattleMenu battleMenu, IOUtils ioUtils, MonsterFactory monsterFactory,
+                  GameRandom random, BattleEventLog events) {
+        this.ioUtils = ioUtils;
+        this.monsterFactory = monsterFactory;
+        this.context = new BattleContext(battleMenu, random, events, new StatusEffects());
+        this.turns = new InitiativeScheduler(random);
+    }
+
+    /**
+     * Sets up the next encounter: fresh monsters for the party and an
+     * empty schedule.
+     * @param party the party that fights
+     * @param worldMap the map the battle happens on
+     */
+    void reset(Party party, IWorldMap worldMap) {
+        if (actions == null || worldMap != actionsMap) {
+            GameType gameType = (worldMap instanceof ILegendsWorldMap)
+                    ? GameType.LEGENDS_OF_VALOR
+                    : GameType.MONSTERS_AND_HEROES;
+            actions = BattleActionsConfig.createActions(gameType, worldMap, ioUtils);
+            actionsMap = worldMap;
+        }
+
+        monsterFactory.reuseMonstersForParty(party, monsters);
+        // Copied by index: addAll and iterators would allocate
+        originalMonsters.clear();
+        for (int i = 0; i < monsters.size(); i++) {
+            originalMonsters.add(monsters.get(i));
+        }
+
+        List<Hero> partyHeroes = party.getHeroes();
+        heroes.clear();
+        for (int i = 0; i < partyHeroes.size(); i++) {
+            heroes.add(partyHeroes.get(i));
+        }
+        aliveHeroes.clear();
+
+        context.getEffects().clear();
+        turns.clear();
+    }
+
+    Map<HeroActionType, HeroActionStrategy> getActions() {
+        return actions;
+    }
+
+    BattleContext getContext() {
+        return context;
+    }
+
+    InitiativeScheduler getTurns() {
+        return turns;
+    }
+}
@@ -0,0 +1,170 @@
+package battle.engine;
+
+import entity.GamePiece;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import utils.GameConstants;
+import utils.GameRandom;
+
+/**
+ * Decides who acts next when battle turns follow initiative instead of
+ * "every hero, then every monster".
+ *
+ * Combatants act at regular intervals on a shared clock. The interval
+ * comes from the dodge chance, i.e. a hero's agility or a monster's dodge
+ * ability: the slowest combatant acts once per round of
+ * {@link GameConstants#INITIATIVE_ROUND_TICKS}, the quickest possible
+ * {@code 1 + MAX_DODGE_CHANCE} times as often. Each action schedules the
+ * next one from the dodge chance at that moment, so buffs and debuffs
+ * change the pace from the following turn on.
+ *
+ * Combatants due at the same tick act in an order drawn from the battle's
+ * random stream, so a seed always replays the same order. Every operation
+ * is O(log n); removed combatants are dropped when they reach the front.
+ */
+public class InitiativeScheduler {
+
+    private final GameRandom random;
+    private final PriorityQueue<Turn> queue = new PriorityQueue<>();
+    private final Map<GamePiece, Turn> turns = new IdentityHashMap<>();
+    /** Turns left over by {@link #clear()}, handed out again by {@link #add} */
+    private final ArrayDeque<Turn> spare = new ArrayDeque<>();
+
+    /** Tick of the action in progress */
+    private long now;
+
+    /**
+     * Creates an empty schedule with the clock at 0.
+     * @param random the battle's random stream, used to break ties
+     */
+    public InitiativeScheduler(GameRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("random cannot be null");
+        }
+        this.random = random;
+    }
+
+    /**
+     * Gets the number of clock ticks between two actions of a combatant.
+     * @param dodgeChance the combatant's dodge chance
+     * @return the interval, at most one round
+     */
+    public static long intervalFor(double dodgeChance) {
+        double quickness = 1.0 + Math.max(0.0, dodgeChance);
+        return Math.max(1, Math.round(GameConstants.INITIATIVE_ROUND_TICKS / quickness));
+    }
+
+    /**
+     * Schedules a combatant's first action one interval from now.
+     * @param piece the combatant, not already scheduled
+     */
+    public void add(GamePiece piece) {
+        if (turns.containsKey(piece)) {
+            throw new IllegalArgumentException(piece.getName() + " is already scheduled");
+        }
+        Turn turn = spare.isEmpty() ? new Turn() : spare.pop();
+        turn.piece = piece;
+        turn.removed = false;
+        turns.put(piece, turn);
+        schedule(turn);
+    }
+
+    /**
+     * Takes a combatant out of the schedule, e.g. once it is defeated.
+     * Does nothing if it is not scheduled.
+     * @param piece the combatant
+     */
+    public void remove(GamePiece piece) {
+        Turn turn = turns.remove(piece);
+        if (turn != null) {
+            turn.removed = true;
+        }
+    }
+
+    public boolean contains(GamePiece piece) {
+        return turns.containsKey(piece);
+    }
+
+    public boolean isEmpty() {
+        return turns.isEmpty();
+    }
+
+    /**
+     * Gets the tick of the next action without taking it.
+     * @return the tick, or {@link Long#MAX_VALUE} if nobody is scheduled
+     */
+    public long peekTime() {
+        dropRemoved();
+        Turn head = queue.peek();
+        return head != null ? head.time : Long.MAX_VALUE;
+    }
+
+    /**
+     * Moves the clock to the next action and schedules the combatant's
+     * following one.
+     * @return the combatant whose turn it is
+     */
+    public GamePiece next() {
+        dropRemoved();
+        Turn turn = queue.poll();
+        if (turn == null) {
+            throw new IllegalStateException("Nobody is scheduled to act");
+        }
+        now = turn.time;
+        schedule(turn);
+        return turn.piece;
+    }
+
+    /**
+     * Empties the schedule and sets the clock back to 0, e.g. to reuse it
+     * for the next battle.
+     */
+    public void clear() {
+        while (!queue.isEmpty()) {
+            Turn turn = queue.poll();
+            turn.piece = null;
+            spare.push(turn);
+        }
+        turns.clear();
+        now = 0;
+    }
+
+    /**
+     * Gets the tick of the action last handed out by {@link #next()}.
+     * @return the current tick
+     */
+    public long getTime() {
+        return now;
+    }
+
+    private void schedule(Turn turn) {
+        turn.time = now + intervalFor(turn.piece.getDodgeChance());
+        turn.tiebreak = random.nextLong();
+        queue.add(turn);
+    }
+
+    private void dropRemoved() {
+        while (!queue.isEmpty() && queue.peek().removed) {
+            Turn turn = queue.poll();
+            turn.piece = null;
+            spare.push(turn);
+        }
+    }
+
+    private static final class Turn implements Comparable<Turn> {
+        GamePiece piece;
+        long time;
+        long tiebreak;
+        boolean removed;
+
+        @Override
+        public int compareTo(Turn other) {
+            if (time != other.time) {
+                return Long.compare(time, other.time);
+            }
+            return Long.compare(tiebreak, other.tiebreak);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package battle.engine;
+
+import hero.Hero;
+import java.util.List;
+import market.model.item.Armor;
+import market.model.item.Weapon;
+import monster.Monster;
+import utils.GameConstants;
+import utils.GameRandom;
+
+/**
+ * Resolves a battle between many heroes and many monsters with every
+ * combatant's numbers held in primitive arrays, one array per stat and side.
+ *
+ * The rules are those of {@link BattleEngineImpl} when every hero attacks:
+ * heroes act in party order and hit the weakest monster (what the automated
+ * menus pick), then every monster left attacks a random hero, then the
+ * survivors recover. Weapon and armor wear, dodges and damage floors are
+ * applied the same way and the dice are rolled in the same order, so a
+ * small battle ends exactly as it would through the engine. Nobody casts
+ * spells or drinks potions.
+ *
+ * Finding the weakest monster and picking a random alive hero both take
+ * O(log n), and nothing is allocated while fighting, so thousands of
+ * combatants a side resolve in milliseconds. Results stay in the arrays
+ * until {@link #applyResults()} writes them back onto the heroes and monsters.
+ */
+public class MassBattle {
+
+    private final List<Hero> heroes;
+    private final List<Monster> monsters;
+
+    // ==== HEROES ====
+    private final int[] heroHp;
+    private final int[] heroMp;
+    private final int[] heroMaxHp;
+    private final int[] heroDamage;
+    private final double[] heroDodge;
+    private final int[] weaponUses;
+    private final boolean[] armored;
+    private final int[] armorReduction;
+    private final int[] armorUses;
+
+    // ==== MONSTERS ====
+    private final int[] monsterHp;
+    private final int[] monsterDamage;
+    private final int[] monsterMitigation;
+    private final double[] monsterDodge;
+
+    private final AliveIndex aliveHeroes;
+    private final WeakestIndex weakestMonster;
+    /** Monsters standing at the start of the monsters' turn, in order */
+    private final int[] monsterOrder;
+    private int monsterCount;
+    private int aliveMonsters;
+
+    private int rounds;
+    private boolean fought;
+
+    /**
+     * Loads both sides into arrays. The heroes and monsters are not touched
+     * until {@link #applyResults()}.
+     * @param heroes the party, in turn order
+     * @param monsters the monsters, in turn order
+     */
+    public MassBattle(List<Hero> heroes, List<Monster> monsters) {
+        if (heroes == null || monsters == null) {
+            throw new IllegalArgumentException("heroes and monsters cannot be null");
+        }
+        this.heroes = heroes;
+        this.monsters = monsters;
+
+        int heroCount = heroes.size();
+        heroHp = new int[heroCount];
+        heroMp = new int[heroCount];
+        heroMaxHp = new int[heroCount];
+        heroDamage = new int[heroCount];
+        heroDodge = new double[heroCount];
+        weaponUses = new int[heroCount];
+        armored = new boolean[heroCount];
+        armorReduction = new int[heroCount];
+        armorUses = new int[heroCount];
+        for (int i = 0; i < heroCount; i++) {
+            loadHero(i, heroes.get(i));
+        }
+
+        int count = monsters.size();
+        monsterHp = new int[count];
+        monsterDamage = new int[count];
+        monsterMitigation = new int[count];
+        monsterDodge = new double[count];
+        monsterOrder = new int[count];
+        for (int i = 0; i < count; i++) {
+            Monster monster = monsters.get(i);
+            monsterHp[i] = monster.getHp();
+            monsterDamage[i] = monster.computeAttackDamage();
+            monsterMitigation[i] = monster.getDefense() / GameConstants.MONSTER_DEFENSE_DIVISOR;
+            monsterDodge[i] = monster.getDodgeChance();
+            if (monsterHp[i] > 0) {
+                monsterOrder[monsterCount++] = i;
+            }
+        }
+        aliveMonsters = monsterCount;
+
+        aliveHeroes = new AliveIndex(heroCount);
+        for (int i = 0; i < heroCount; i++) {
+            if (heroHp[i] <= 0) {
+                aliveHeroes.remove(i);
+            }
+        }
+        weakestMonster = new WeakestIndex(monsterHp);
+    }
+
+    private void loadHero(int i, Hero hero) {
+        heroHp[i] = hero.getHp();
+        heroMp[i] = hero.getMp();
+        heroMaxHp[i] = hero.getLevel() * GameConstants.HERO_HP_PER_LEVEL;
+        heroDodge[i] = hero.getDodgeChance();
+
+        int weaponDamage = 0;
+        Weapon weapon = hero.getEquippedWeapon();
+        weaponUses[i] = weapon != null ? weapon.getUsesRemaining() : 0;
+        if (weapon != null) {
+            weaponDamage = weapon.getDamage();
+            if (weapon.getHandsRequired() == 1) {
+                // Automated menus always wield a one-handed weapon with both hands
+                weaponDamage = (int) Math.round(weaponDamage * GameConstants.ONE_HANDED_WEAPON_BONUS_MULTIPLIER);
+            }
+        }
+        heroDamage[i] = (int) Math.round((hero.getStrength() + weaponDamage) * GameConstants.HERO_ATTACK_MULTIPLIER);
+
+        Armor armor = hero.getEquippedArmor();
+        armored[i] = armor != null;
+        armorReduction[i] = armor != null ? armor.getDamageReduction() : 0;
+        armorUses[i] = armor != null ? armor.getUsesRemaining() : 0;
+    }
+
+    /**
+     * Plays the battle to the end.
+     * @param random the battle's dice
+     * @return true if the heroes won
+     */
+    public boolean fight(GameRandom random) {
+        if (fought) {
+            throw new IllegalStateException("This battle has already been fought");
+        }
+        fought = true;
+
+        while (true) {
+            rounds++;
+            for (int hero = 0; hero < heroHp.length; hero++) {
+                if (heroHp[hero] <= 0) {
+                    continue;
+                }
+                if (aliveMonsters == 0) {
+                    return true;
+                }
+                heroAttack(hero, random);
+                if (aliveMonsters == 0) {
+                    return true;
+                }
+            }
+
+            compactMonsters();
+            for (int k = 0; k < monsterCount; k++) {
+                if (aliveHeroes.size() == 0) {
+                    return false;
+                }
+                int hero = aliveHeroes.select(random.nextInt(aliveHeroes.size()));
+                monsterAttack(monsterOrder[k], hero, random);
+            }
+            if (aliveHeroes.size() == 0) {
+                return false;
+            }
+
+            for (int hero = 0; hero < heroHp.length; hero++) {
+                if (heroHp[hero] > 0) {
+                    heroHp[hero] = Math.min(heroMaxHp[hero],
+                            (int) Math.round(heroHp[hero] * GameConstants.HERO_ROUND_RECOVERY_MULTIPLIER));
+                    heroMp[hero] = (int) Math.round(heroMp[hero] * GameConstants.HERO_ROUND_RECOVERY_MULTIPLIER);
+                }
+            }
+        }
+    }
+
+    private void heroAttack(int hero, GameRandom random) {
+        int monster = weakestMonster.weakest();
+        if (random.chance(monsterDodge[monster])) {
+            return;
+        }
+
+        int damage = heroDamage[hero];
+        if (damage > 0) {
+            int effective = Math.max(GameConstants.MONSTER_MIN_DAMAGE_ON_HIT, damage - monsterMitigation[monster]);
+            monsterHp[monster] = Math.max(0, monsterHp[monster] - effective);
+            weakestMonster.update(monster, monsterHp[monster]);
+            if (monsterHp[monster] == 0) {
+                aliveMonsters--;
+            }
+        }
+        if (weaponUses[hero] > 0) {
+            weaponUses[hero]--;
+        }
+    }
+
+    private void monsterAttack(int monster, int hero, GameRandom random) {
+        int damage = monsterDamage[monster];
+        if (random.chance(heroDodge[hero])) {
+            return;
+        }
+
+        if (armored[hero]) {
+            damage = Math.max(0, damage - armorReduction[hero]);
+            armorUses[hero] = Math.max(0, armorUses[hero] - 1);
+            if (armorUses[hero] == 0) {
+                armored[hero] = false;  // broken armor is unequipped
+            }
+        }
+        heroHp[hero] = Math.max(0, heroHp[hero] - damage);
+        if (heroHp[hero] == 0) {
+            aliveHeroes.remove(hero);
+        }
+    }
+
+    /**
+     * Drops the monsters defeated during the heroes' turn from the turn order.
+     */
+    private void compactMonsters() {
+        int kept = 0;
+        for (int k = 0; k < monsterCount; k++) {
+            if (monsterHp[monsterOrder[k]] > 0) {
+                monsterOrder[kept++] = monsterOrder[k];
+            }
+        }
+        monsterCount = kept;
+    }
+
+    /**
+     * Writes HP, MP and gear wear back onto the heroes and monsters; armor
+     * that wore out is unequipped.
+     */
+    public void applyResults() {
+        for (int i = 0; i < heroHp.length; i++) {
+            Hero hero = heroes.get(i);
+            hero.setHp(heroHp[i]);
+            hero.setMp(heroMp[i]);
+            if (hero.getEquippedWeapon() != null) {
+                hero.getEquippedWeapon().setUsesRemaining(weaponUses[i]);
+            }
+            if (hero.getEquippedArmor() != null) {
+                hero.getEquippedArmor().setUsesRemaining(armorUses[i]);
+                if (!armored[i]) {
+                    hero.equipArmor(null);
+                }
+            }
+        }
+        for (int i = 0; i < monsterHp.length; i++) {
+            monsters.get(i).setHp(monsterHp[i]);
+        }
+    }
+
+    /**
+     * @return rounds played, counting the last one even if it ended early
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getAliveHeroCount() {
+        return aliveHeroes.size();
+    }
+
+    public int getAliveMonsterCount() {
+        return aliveMonsters;
+    }
+}
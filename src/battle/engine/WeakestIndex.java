@@ -0,0 +1,71 @@
+package battle.engine;
+
+/**
+ * Finds the combatant with the least HP among n, the first one on ties,
+ * as {@link battle.menu.auto.AutoBattleMenu} targets.
+ *
+ * A segment tree over the HP values: updating one combatant and asking for
+ * the weakest both take O(log n) instead of a scan over everyone.
+ */
+final class WeakestIndex {
+
+    /** Key of a combatant that can no longer be targeted */
+    private static final int GONE = Integer.MAX_VALUE;
+
+    private final int[] keys;
+    /** tree[node] is the index of the weakest combatant below node */
+    private final int[] tree;
+    private final int leaves;
+
+    /**
+     * Creates the index.
+     * @param hp each combatant's HP; combatants with none left are ignored
+     */
+    WeakestIndex(int[] hp) {
+        int count = hp.length;
+        int size = 1;
+        while (size < Math.max(1, count)) {
+            size <<= 1;
+        }
+        this.leaves = size;
+        this.keys = new int[size];
+        this.tree = new int[2 * size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i < count && hp[i] > 0) ? hp[i] : GONE;
+            tree[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            tree[node] = weaker(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Records a combatant's new HP; 0 or less takes it out of the running.
+     * @param index the combatant
+     * @param hp its HP now
+     */
+    void update(int index, int hp) {
+        int key = hp > 0 ? hp : GONE;
+        boolean stillWeakest = index == tree[1] && key <= keys[index];
+        keys[index] = key;
+        if (stillWeakest) {
+            return;  // hitting the weakest keeps it the weakest everywhere up the tree
+        }
+        for (int node = (leaves + index) >> 1; node > 0; node >>= 1) {
+            tree[node] = weaker(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * @return the index of the weakest combatant still standing, or -1 if none is
+     */
+    int weakest() {
+        int index = tree[1];
+        return keys[index] == GONE ? -1 : index;
+    }
+
+    private int weaker(int left, int right) {
+        // left always comes first in order, so it wins ties
+        return keys[right] < keys[left] ? right : left;
+    }
+}
@@ -0,0 +1,21 @@
+package battle.enums;
+
+/**
+ * Represents what a {@link hero.Hero} standing on a market tile decides to do
+ **/
+
+public enum MarketVisitChoice {
+    ENTER("Enter market"),
+    SKIP("Skip market"),
+    QUIT("Quit game");
+
+    private final String label;
+
+    MarketVisitChoice(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
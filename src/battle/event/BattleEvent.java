@@ -0,0 +1,78 @@
+package battle.event;
+
+import entity.GamePiece;
+import market.model.item.Item;
+
+/**
+ * Read-only view of one event in a {@link BattleEventLog}.
+ *
+ * The log hands out the same view for every event, so a view is only
+ * valid while the listener it was passed to runs.
+ */
+public final class BattleEvent {
+
+    private final BattleEventLog log;
+    private int slot;
+    private long sequence;
+
+    BattleEvent(BattleEventLog log) {
+        this.log = log;
+    }
+
+    void moveTo(int slot, long sequence) {
+        this.slot = slot;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Gets the position of this event in its log; the first event is 0.
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public BattleEventType getType() {
+        return log.types[slot];
+    }
+
+    /**
+     * Gets who acted: the attacker, caster, drinker or rewarded hero.
+     * @return the actor
+     */
+    public GamePiece getActor() {
+        return log.actors[slot];
+    }
+
+    /**
+     * Gets who was acted on, if anyone.
+     * @return the target, or null
+     */
+    public GamePiece getTarget() {
+        return log.targets[slot];
+    }
+
+    /**
+     * Gets the weapon, spell or potion involved, if any.
+     * @return the item, or null
+     */
+    public Item getItem() {
+        return log.items[slot];
+    }
+
+    /**
+     * Gets the event's main number; see {@link BattleEventType} for its meaning.
+     * @return the amount
+     */
+    public int getAmount() {
+        return log.amounts[slot];
+    }
+
+    /**
+     * Gets the event's second number, e.g. the experience of a reward.
+     * @return the extra amount, or 0
+     */
+    public int getExtraAmount() {
+        return log.extraAmounts[slot];
+    }
+}
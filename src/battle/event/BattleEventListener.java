@@ -0,0 +1,14 @@
+package battle.event;
+
+/**
+ * Receives {@link BattleEvent}s as they are published to a {@link BattleEventLog}
+ */
+public interface BattleEventListener {
+
+    /**
+     * Handles one event. The event is a view into the log that is only
+     * valid during this call; copy out whatever must be kept.
+     * @param event the event
+     */
+    void onEvent(BattleEvent event);
+}
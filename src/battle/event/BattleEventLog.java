@@ -0,0 +1,201 @@
+package battle.event;
+
+import entity.GamePiece;
+import java.util.Arrays;
+import market.model.item.Item;
+import utils.IOUtils;
+
+/**
+ * In-memory ring buffer of what happens in a battle: attacks, dodges,
+ * spells, faints, item uses and rewards.
+ *
+ * Publishing an event only stores a few references and numbers in
+ * preallocated arrays; nothing is formatted. Consumers either subscribe
+ * and see every event as it happens (e.g. {@link BattleEventPrinter}),
+ * or read the retained events later with {@link #replay(long, BattleEventListener)}
+ * (e.g. to collect statistics). Once the buffer is full the oldest events
+ * are overwritten, so a headless battle with no listeners costs no more
+ * than the arithmetic of the battle itself.
+ *
+ * A log is meant for one thread at a time; concurrent phases publish to
+ * logs of their own and are copied into the main log afterwards with
+ * {@link #append(BattleEvent)}.
+ */
+public class BattleEventLog {
+
+    private static final BattleEventListener[] NO_LISTENERS = new BattleEventListener[0];
+
+    final BattleEventType[] types;
+    final GamePiece[] actors;
+    final GamePiece[] targets;
+    final Item[] items;
+    final int[] amounts;
+    final int[] extraAmounts;
+
+    private final int mask;
+
+    /** Sequence number of the next event */
+    private long published;
+
+    private BattleEventListener[] listeners = NO_LISTENERS;
+    private final BattleEvent view = new BattleEvent(this);
+
+    /**
+     * Creates an empty log.
+     * @param capacity number of events retained; rounded up to a power of two
+     */
+    public BattleEventLog(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity * 2 - 1);
+        this.types = new BattleEventType[size];
+        this.actors = new GamePiece[size];
+        this.targets = new GamePiece[size];
+        this.items = new Item[size];
+        this.amounts = new int[size];
+        this.extraAmounts = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Creates a log that prints every event to the given output, unless
+     * the output is silent.
+     * @param io where the battle is shown
+     * @param capacity number of events retained
+     * @return the new log
+     */
+    public static BattleEventLog forOutput(IOUtils io, int capacity) {
+        BattleEventLog log = new BattleEventLog(capacity);
+        if (!io.isSilent()) {
+            log.subscribe(new BattleEventPrinter(io));
+        }
+        return log;
+    }
+
+    // ==================== CONSUMERS ====================
+
+    /**
+     * Registers a listener that sees every event from now on, in order,
+     * on the publishing thread.
+     * @param listener the listener
+     */
+    public void subscribe(BattleEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Delivers the events still retained from a sequence number on, e.g.
+     * everything since a consumer last looked. Events already overwritten
+     * are skipped; compare the first delivered sequence with the requested
+     * one to count them.
+     * @param fromSequence first event wanted
+     * @param listener who receives the events
+     * @return the sequence number to pass next time
+     */
+    public long replay(long fromSequence, BattleEventListener listener) {
+        long sequence = Math.max(fromSequence, getOldestSequence());
+        for (; sequence < published; sequence++) {
+            view.moveTo((int) (sequence & mask), sequence);
+            listener.onEvent(view);
+        }
+        return published;
+    }
+
+    /**
+     * Gets the sequence number the next event will get, which is also the
+     * number of events published so far.
+     * @return the next sequence number
+     */
+    public long getSequence() {
+        return published;
+    }
+
+    /**
+     * Gets the sequence number of the oldest event still retained.
+     * @return the oldest retained sequence number
+     */
+    public long getOldestSequence() {
+        return Math.max(0, published - types.length);
+    }
+
+    // ==================== PUBLISHING ====================
+
+    public void attackHit(GamePiece attacker, GamePiece target, int damage) {
+        publish(BattleEventType.ATTACK_HIT, attacker, target, null, damage, 0);
+    }
+
+    public void attackDodged(GamePiece attacker, GamePiece target) {
+        publish(BattleEventType.ATTACK_DODGED, attacker, target, null, 0, 0);
+    }
+
+    public void spellHit(GamePiece caster, GamePiece target, Item spell, int damage) {
+        publish(BattleEventType.SPELL_HIT, caster, target, spell, damage, 0);
+    }
+
+    public void spellDodged(GamePiece caster, GamePiece target, Item spell) {
+        publish(BattleEventType.SPELL_DODGED, caster, target, spell, 0, 0);
+    }
+
+    public void defeated(GamePiece winner, GamePiece monster) {
+        publish(BattleEventType.DEFEATED, winner, monster, null, 0, 0);
+    }
+
+    public void fainted(GamePiece attacker, GamePiece hero) {
+        publish(BattleEventType.FAINTED, attacker, hero, null, 0, 0);
+    }
+
+    public void weaponUsed(GamePiece hero, Item weapon, int usesRemaining) {
+        publish(BattleEventType.WEAPON_USED, hero, null, weapon, usesRemaining, 0);
+    }
+
+    public void weaponBroken(GamePiece hero, Item weapon) {
+        publish(BattleEventType.WEAPON_BROKEN, hero, null, weapon, 0, 0);
+    }
+
+    public void potionConsumed(GamePiece hero, Item potion, int increase) {
+        publish(BattleEventType.POTION_CONSUMED, hero, null, potion, increase, 0);
+    }
+
+    public void reward(GamePiece hero, int gold, int experience) {
+        publish(BattleEventType.REWARD, hero, null, null, gold, experience);
+    }
+
+    public void turnSkipped(GamePiece actor) {
+        publish(BattleEventType.TURN_SKIPPED, actor, null, null, 0, 0);
+    }
+
+    /**
+     * Publishes a copy of an event from another log.
+     * @param event the event to copy
+     */
+    public void append(BattleEvent event) {
+        publish(event.getType(), event.getActor(), event.getTarget(), event.getItem(),
+                event.getAmount(), event.getExtraAmount());
+    }
+
+    private void publish(BattleEventType type, GamePiece actor, GamePiece target,
+                         Item item, int amount, int extraAmount) {
+        long sequence = published;
+        int slot = (int) (sequence & mask);
+        types[slot] = type;
+        actors[slot] = actor;
+        targets[slot] = target;
+        items[slot] = item;
+        amounts[slot] = amount;
+        extraAmounts[slot] = extraAmount;
+        published = sequence + 1;
+
+        BattleEventListener[] current = listeners;
+        if (current.length > 0) {
+            view.moveTo(slot, sequence);
+            for (BattleEventListener listener : current) {
+                listener.onEvent(view);
+            }
+        }
+    }
+}
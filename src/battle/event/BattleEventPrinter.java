@@ -0,0 +1,63 @@
+package battle.event;
+
+import market.model.item.Potion;
+import utils.IOUtils;
+import utils.MessageUtils;
+
+/**
+ * Shows battle events on the console, one message per event
+ */
+public class BattleEventPrinter implements BattleEventListener {
+
+    private final IOUtils io;
+
+    public BattleEventPrinter(IOUtils io) {
+        this.io = io;
+    }
+
+    @Override
+    public void onEvent(BattleEvent event) {
+        switch (event.getType()) {
+            case ATTACK_HIT:
+                io.printlnWarning(String.format(MessageUtils.SUCCESSFUL_ATTACK,
+                        event.getActor().getName(), event.getTarget().getName(), event.getAmount()));
+                break;
+            case ATTACK_DODGED:
+                io.printlnWarning(String.format(MessageUtils.ATTACK_WAS_DODGED,
+                        event.getActor().getName(), event.getTarget().getName()));
+                break;
+            case SPELL_HIT:
+                io.printlnSuccess(String.format(MessageUtils.SUCCESSFUL_SPELL_CAST,
+                        event.getActor().getName(), event.getItem().getName(),
+                        event.getTarget().getName(), event.getAmount()));
+                break;
+            case SPELL_DODGED:
+                io.printlnTitle(String.format(MessageUtils.MONSTER_DODGED_SPELL, event.getTarget().getName()));
+                break;
+            case DEFEATED:
+                io.printlnWarning(String.format(MessageUtils.CHARACTER_DEFEATED, event.getTarget().getName()));
+                break;
+            case FAINTED:
+                io.printlnWarning(String.format(MessageUtils.CHARACTER_FAINTED, event.getTarget().getName()));
+                break;
+            case WEAPON_USED:
+                io.printlnWarning(String.format(MessageUtils.REMAINING_ITEM_USES,
+                        event.getItem().getName(), event.getAmount()));
+                break;
+            case WEAPON_BROKEN:
+                io.printlnFail(String.format(MessageUtils.ITEM_CAN_NO_LONGER_BE_USED, event.getItem().getName()));
+                break;
+            case POTION_CONSUMED:
+                io.printlnSuccess(String.format(MessageUtils.SUCCESSFUL_POTION_USE_MESSAGE,
+                        event.getActor().getName(), event.getItem().getName(),
+                        ((Potion) event.getItem()).getStatType().name(), event.getAmount()));
+                break;
+            case TURN_SKIPPED:
+                io.printlnWarning(String.format(MessageUtils.SKIP_TURN, event.getActor().getName()));
+                break;
+            default:
+                // Rewards are shown with the hero's stats, not as they happen
+                break;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package battle.event;
+
+/**
+ * Kinds of {@link BattleEvent}, with what each one carries
+ */
+public enum BattleEventType {
+
+    /** The actor hit the target; amount is the damage dealt */
+    ATTACK_HIT,
+
+    /** The target dodged the actor's attack */
+    ATTACK_DODGED,
+
+    /** The actor's spell (item) hit the target; amount is the damage dealt */
+    SPELL_HIT,
+
+    /** The target dodged the actor's spell (item); the spell is still used up */
+    SPELL_DODGED,
+
+    /** The actor defeated the target monster */
+    DEFEATED,
+
+    /** The actor knocked the target hero out */
+    FAINTED,
+
+    /** The actor's weapon (item) was used; amount is the uses left */
+    WEAPON_USED,
+
+    /** The actor's weapon (item) wore out */
+    WEAPON_BROKEN,
+
+    /** The actor drank a potion (item); amount is the stat increase */
+    POTION_CONSUMED,
+
+    /** The actor was rewarded; amount is the gold, extra amount the experience */
+    REWARD,
+
+    /** The actor passed its turn */
+    TURN_SKIPPED
+}
@@ -1,6 +1,9 @@
 package battle.heroAction;
 
+import battle.effect.StatusEffects;
+import battle.event.BattleEventLog;
 import battle.menu.BattleMenu;
+import utils.GameRandom;
 
 /**
  * Provides shared context to {@link HeroActionStrategy}
@@ -8,12 +11,43 @@ import battle.menu.BattleMenu;
 public class BattleContext {
 
     private final BattleMenu battleMenu;
+    private final GameRandom random;
+    private final BattleEventLog events;
+    private final StatusEffects effects;
 
-    public BattleContext(BattleMenu battleMenu) {
+    public BattleContext(BattleMenu battleMenu, GameRandom random, BattleEventLog events,
+                         StatusEffects effects) {
         this.battleMenu = battleMenu;
+        this.random = random;
+        this.events = events;
+        this.effects = effects;
     }
 
     public BattleMenu getBattleMenu() {
         return battleMenu;
     }
+
+    /**
+     * Gets the random stream actions use for dodge rolls and the like.
+     * @return the battle's random stream
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the log actions publish what happened to, instead of printing it.
+     * @return the battle's event log
+     */
+    public BattleEventLog getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the timed effects of the battle, for actions whose results wear off.
+     * @return the battle's status effects
+     */
+    public StatusEffects getEffects() {
+        return effects;
+    }
 }
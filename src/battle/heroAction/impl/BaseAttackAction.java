@@ -1,5 +1,6 @@
 package battle.heroAction.impl;
 
+import battle.event.BattleEventLog;
 import battle.heroAction.BattleContext;
 import battle.heroAction.HeroActionStrategy;
 import battle.menu.BattleMenu;
@@ -43,31 +44,27 @@ public abstract class BaseAttackAction implements HeroActionStrategy {
 
         int damage = getCalculatedDamage(hero, menu, ioUtils);
 
-        if (monster.dodgesAttack()) {
-            ioUtils.printlnWarning(String.format(MessageUtils.ATTACK_WAS_DODGED, hero.getName(), monster.getName()));
+        BattleEventLog events = context.getEvents();
+        if (monster.dodgesAttack(context.getRandom())) {
+            events.attackDodged(hero, monster);
             return true;
         }
 
-
         int dealtDamage = monster.takeDamage(damage);
-        ioUtils.printlnWarning(String.format(MessageUtils.SUCCESSFUL_ATTACK, hero.getName(), monster.getName(), dealtDamage));
+        events.attackHit(hero, monster, dealtDamage);
 
         if (weapon != null) {
             weapon.consumeUse();
 
             if (!weapon.isUsable()) {
-                ioUtils.printlnFail(String.format(MessageUtils.ITEM_CAN_NO_LONGER_BE_USED, weapon.getName()));
+                events.weaponBroken(hero, weapon);
             } else {
-                ioUtils.printlnWarning(String.format(
-                        MessageUtils.REMAINING_ITEM_USES,
-                        weapon.getName(),
-                        weapon.getUsesRemaining()
-                ));
+                events.weaponUsed(hero, weapon, weapon.getUsesRemaining());
             }
         }
 
         if (!monster.isAlive()) {
-            ioUtils.printlnWarning(String.format(MessageUtils.CHARACTER_DEFEATED, monster.getName()));
+            events.defeated(hero, monster);
         }
         return true;
     }
@@ -101,7 +98,7 @@ public abstract class BaseAttackAction implements HeroActionStrategy {
                             weaponDamage * GameConstants.ONE_HANDED_WEAPON_BONUS_MULTIPLIER
                     );
                 }
-            } else {
+            } else if (!ioUtils.isSilent()) {
                 ioUtils.printlnSuccess(String.format(MessageUtils.TWO_HANDS_ITEM_MESSAGE, weapon.getName()));
             }
         }
@@ -1,12 +1,14 @@
 package battle.heroAction.impl;
 
+import battle.effect.EffectStat;
+import battle.effect.StatusEffect;
+import battle.event.BattleEventLog;
 import battle.heroAction.BattleContext;
 import battle.heroAction.HeroActionStrategy;
 import battle.menu.BattleMenu;
 import hero.Hero;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import market.model.item.Item;
 import market.model.item.ItemType;
 import market.model.item.Spell;
@@ -68,26 +70,18 @@ public abstract class BaseCastSpellAction implements HeroActionStrategy {
 
         hero.setMp(hero.getMp() - chosen.getManaCost());
 
-        applySpell(hero, monster, chosen, ioUtils);
+        int hpBefore = monster.getHp();
+        boolean landed = applySpell(hero, monster, chosen, context);
         hero.getInventory().remove(chosen);
 
-        if (monster.getHp() == 0) {
-            ioUtils.printlnSuccess(String.format(
-                    MessageUtils.SUCCESSFUL_SPELL_CAST,
-                    hero.getName(),
-                    chosen.getName(),
-                    monster.getName(),
-                    calculateFinalDamage(hero, monster, chosen)
-            ));
-            ioUtils.printlnSuccess(MessageUtils.HEROES_DEFEAT_MONSTERS);
-        } else {
-            ioUtils.printlnSuccess(String.format(
-                    MessageUtils.SUCCESSFUL_SPELL_CAST,
-                    hero.getName(),
-                    chosen.getName(),
-                    monster.getName(),
-                    calculateFinalDamage(hero, monster, chosen)
-            ));
+        BattleEventLog events = context.getEvents();
+        if (!landed) {
+            events.spellDodged(hero, monster, chosen);
+            return true;
+        }
+        events.spellHit(hero, monster, chosen, hpBefore - monster.getHp());
+        if (!monster.isAlive()) {
+            events.defeated(hero, monster);
         }
         return true;
     }
@@ -132,39 +126,46 @@ public abstract class BaseCastSpellAction implements HeroActionStrategy {
     }
 
 
-    protected void applySpell(Hero hero,
-                              Monster monster,
-                              Spell spell,
-                              IOUtils ioUtils) {
+    /**
+     * Rolls the monster's dodge, then deals the spell's damage and puts its
+     * debuff on the monster for {@link GameConstants#SPELL_EFFECT_ROUNDS} rounds.
+     * @return false if the monster dodged the spell
+     */
+    protected boolean applySpell(Hero hero,
+                                 Monster monster,
+                                 Spell spell,
+                                 BattleContext context) {
 
         int finalDamage = calculateFinalDamage(hero, monster, spell);
 
         double dodgeStat = monster.getDodgeChance();
         double dodgeProb = dodgeStat * GameConstants.MONSTER_DODGE_MULTIPLIER;
-        double roll = ThreadLocalRandom.current().nextDouble();
+        double roll = context.getRandom().nextDouble();
 
         if (roll < dodgeProb) {
-            ioUtils.printlnTitle(String.format(MessageUtils.MONSTER_DODGED_SPELL, monster.getName()));
-            return;
+            return false;
         }
 
         monster.setHp(Math.max(0, monster.getHp() - finalDamage));
+        if (monster.isAlive()) {
+            context.getEffects().apply(monster, debuffOf(spell), GameConstants.SPELL_EFFECT_ROUNDS);
+        }
+        return true;
+    }
 
+    /**
+     * Gets the debuff a spell leaves: ice weakens damage, fire defense and
+     * lightning dodge.
+     */
+    private static StatusEffect debuffOf(Spell spell) {
         double remainingFactor = 1.0 - GameConstants.MONSTER_SKILL_LOSS_MULTIPLIER;
-
         switch (spell.getType()) {
-            case ICE: {
-                double damage = monster.getBaseDamage();
-                monster.setBaseDamage(damage * remainingFactor);
-            }
-            case FIRE: {
-                double defense = monster.getDefense();
-                monster.setDefense((int) (defense * remainingFactor));
-            }
-            case LIGHTNING: {
-                double dodge = monster.getDodgeChance();
-                monster.setDodgeAbility((int) (dodge * remainingFactor));
-            }
+            case ICE:
+                return StatusEffect.scale(spell.getName(), EffectStat.DAMAGE, remainingFactor);
+            case FIRE:
+                return StatusEffect.scale(spell.getName(), EffectStat.DEFENSE, remainingFactor);
+            default:
+                return StatusEffect.scale(spell.getName(), EffectStat.DODGE, remainingFactor);
         }
     }
 }
@@ -39,9 +39,9 @@ public class EquipAction implements HeroActionStrategy {
                 break;
             case CANCEL:
             default:
+                // Let the player pick another action instead of asking again
                 ioUtils.printlnFail(MessageUtils.CANCELED);
-                execute(hero, monsters, context, ioUtils);
-                break;
+                return false;
         }
         return true;
     }
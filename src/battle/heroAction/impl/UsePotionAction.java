@@ -1,5 +1,7 @@
 package battle.heroAction.impl;
 
+import battle.effect.EffectStat;
+import battle.effect.StatusEffect;
 import battle.heroAction.BattleContext;
 import battle.heroAction.HeroActionStrategy;
 import battle.menu.BattleMenu;
@@ -10,6 +12,7 @@ import market.model.item.Item;
 import market.model.item.ItemType;
 import market.model.item.Potion;
 import monster.Monster;
+import utils.GameConstants;
 import utils.IOUtils;
 import utils.MessageUtils;
 
@@ -49,30 +52,32 @@ public class UsePotionAction implements HeroActionStrategy {
         double amount = chosen.getEffectAmount();
 
         switch (chosen.getStatType()) {
-            case HP: {
+            case HP:
                 hero.setHp((int) (hero.getHp() + amount));
-            }
-            case MP: {
+                break;
+            case MP:
                 hero.setMp((int) (hero.getMp() + amount));
-            }
-            case STRENGTH: {
-                hero.setStrength((int) (hero.getStrength() + amount));
-            }
-            case DEXTERITY: {
-                hero.setDexterity((int) (hero.getDexterity() + amount));
-            }
-            case AGILITY: {
-                hero.setAgility((int) (hero.getAgility() + amount));
-            }
+                break;
+            case STRENGTH:
+                boost(hero, chosen, EffectStat.STRENGTH, context);
+                break;
+            case DEXTERITY:
+                boost(hero, chosen, EffectStat.DEXTERITY, context);
+                break;
+            case AGILITY:
+                boost(hero, chosen, EffectStat.AGILITY, context);
+                break;
         }
-        ioUtils.printlnSuccess(String.format(
-                MessageUtils.SUCCESSFUL_POTION_USE_MESSAGE,
-                hero.getName(),
-                chosen.getName(),
-                chosen.getStatType().name(),
-                (int) amount
-        ));
+        context.getEvents().potionConsumed(hero, chosen, (int) amount);
         hero.getInventory().remove(chosen);
         return true;
     }
+
+    /**
+     * Raises a stat for {@link GameConstants#POTION_EFFECT_ROUNDS} rounds.
+     */
+    private static void boost(Hero hero, Potion potion, EffectStat stat, BattleContext context) {
+        StatusEffect effect = StatusEffect.boost(potion.getName(), stat, potion.getEffectAmount());
+        context.getEffects().apply(hero, effect, GameConstants.POTION_EFFECT_ROUNDS);
+    }
 }
@@ -55,7 +55,7 @@ public class LoVAttackAction extends BaseAttackAction {
                             weaponDamage * utils.GameConstants.ONE_HANDED_WEAPON_BONUS_MULTIPLIER
                     );
                 }
-            } else {
+            } else if (!ioUtils.isSilent()) {
                 ioUtils.printlnSuccess(String.format(
                         utils.MessageUtils.TWO_HANDS_ITEM_MESSAGE,
                         hero.getEquippedWeapon().getName()
@@ -28,7 +28,13 @@ public class MoveAction implements HeroActionStrategy {
 
         worldMap.printMap();
 
-        Direction direction = chooseMoveDirection(hero);
+        List<Direction> legalMoves = worldMap.getLegalMoves(hero);
+        if (legalMoves.isEmpty()) {
+            io.printlnFail(String.format(MessageUtils.NO_LEGAL_MOVES, hero.getName()));
+            return false;
+        }
+
+        Direction direction = context.getBattleMenu().chooseMoveDirection(hero, legalMoves);
         if (direction == null) {
             io.printlnFail(MessageUtils.CANCELED);
             return false;
@@ -45,40 +51,4 @@ public class MoveAction implements HeroActionStrategy {
         }
         return true;
     }
-
-
-    private Direction chooseMoveDirection(Hero hero) {
-        while (true) {
-            io.printlnTitle("Choose move direction for " + hero.getName() + ":");
-            io.printlnTitle("  W = Up");
-            io.printlnTitle("  S = Down");
-            io.printlnTitle("  A = Left");
-            io.printlnTitle("  D = Right");
-            io.printlnTitle("  Q = Cancel");
-
-            io.printPrompt("Enter direction (W/A/S/D or Q): ");
-            String line = io.readLine();
-            if (line == null || line.trim().isEmpty()) {
-                io.printlnFail("Invalid input, please use W/A/S/D or Q.");
-                continue;
-            }
-            char input = Character.toUpperCase(line.trim().charAt(0));
-
-            switch (input) {
-                case 'W':
-                    return Direction.UP;
-                case 'S':
-                    return Direction.DOWN;
-                case 'A':
-                    return Direction.LEFT;
-                case 'D':
-                    return Direction.RIGHT;
-                case 'Q':
-
-                    return null;
-                default:
-                    io.printlnFail("Invalid input, please use W/A/S/D or Q.");
-            }
-        }
-    }
 }
@@ -3,6 +3,7 @@ package battle.heroAction.impl.lov;
 import battle.heroAction.BattleContext;
 import battle.heroAction.HeroActionStrategy;
 import hero.Hero;
+import java.util.ArrayList;
 import java.util.List;
 import monster.Monster;
 import utils.IOUtils;
@@ -29,66 +30,38 @@ public class RemoveObstacle implements HeroActionStrategy {
 
         worldMap.printMap();
 
-        Direction direction = chooseRemoveDirection(hero);
+        List<Direction> directions = findAdjacentObstacles(hero);
+        if (directions.isEmpty()) {
+            io.printlnFail(String.format(MessageUtils.NO_OBSTACLES_NEARBY, hero.getName()));
+            return false;
+        }
+
+        Direction direction = context.getBattleMenu().chooseObstacleToRemove(hero, directions);
         if (direction == null) {
             io.printlnFail(MessageUtils.CANCELED);
             return false;
         }
 
+        Tile obstacle = worldMap.getTile(hero.getRow() + direction.getRow(), hero.getCol() + direction.getCol());
+        obstacle.removeObstacle();
 
-        int currentRow = hero.getRow();
-        int currentCol = hero.getCol();
-
-        int newRow = currentRow + direction.getRow();
-        int newCol = currentCol + direction.getCol();
-
-
-        Tile obstacle = worldMap.getTile(newRow, newCol);
-
-        boolean removed = obstacle.removeObstacle();
-
-        if (removed) {
-            io.printlnFail(String.format(MessageUtils.TRY_ANOTHER_DIRECTION, direction));
-            execute(hero, monsters,context,ignored);
-        } else {
-            io.printlnSuccess(String.format(MessageUtils.SUCCESS_MOVE, hero.getName(), direction));
-            worldMap.printMap();
-        }
+        io.printlnSuccess(String.format(MessageUtils.OBSTACLE_REMOVED, hero.getName(), direction));
+        worldMap.printMap();
         return true;
     }
 
-
-    private Direction chooseRemoveDirection(Hero hero) {
-        while (true) {
-            io.printlnTitle("Choose where  " + hero.getName() + " would like to remove an obstacle?");
-            io.printlnTitle("  W = Up");
-            io.printlnTitle("  S = Down");
-            io.printlnTitle("  A = Left");
-            io.printlnTitle("  D = Right");
-            io.printlnTitle("  Q = Cancel");
-
-            io.printPrompt("Enter direction (W/A/S/D or Q): ");
-            String line = io.readLine();
-            if (line == null || line.trim().isEmpty()) {
-                io.printlnFail("Invalid input, please use W/A/S/D or Q.");
+    private List<Direction> findAdjacentObstacles(Hero hero) {
+        List<Direction> directions = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            int row = hero.getRow() + direction.getRow();
+            int col = hero.getCol() + direction.getCol();
+            if (row < 0 || row >= worldMap.getRows() || col < 0 || col >= worldMap.getCols()) {
                 continue;
             }
-            char input = Character.toUpperCase(line.trim().charAt(0));
-
-            switch (input) {
-                case 'W':
-                    return Direction.UP;
-                case 'S':
-                    return Direction.DOWN;
-                case 'A':
-                    return Direction.LEFT;
-                case 'D':
-                    return Direction.RIGHT;
-                case 'Q':
-                    return null;
-                default:
-                    io.printlnFail("Invalid input, please use W/A/S/D or Q.");
+            if (worldMap.getTile(row, col).isObstacle()) {
+                directions.add(direction);
             }
         }
+        return directions;
     }
 }
@@ -3,7 +3,6 @@ package battle.heroAction.impl.lov;
 import battle.heroAction.BattleContext;
 import battle.heroAction.HeroActionStrategy;
 import hero.Hero;
-import java.util.ArrayList;
 import java.util.List;
 import monster.Monster;
 import utils.IOUtils;
@@ -30,8 +29,16 @@ public class TeleportAction implements HeroActionStrategy {
                         IOUtils ignored) {
         worldMap.printMap();
 
-        Hero targetHero = chooseTeleportTarget(hero);
+        // Only heroes with a free cell beside them that is not behind a monster
+        List<Hero> candidates = worldMap.getTeleportTargets(hero);
+        if (candidates.isEmpty()) {
+            io.printlnFail(MessageUtils.TELEPORT_NO_VALID_HEROES);
+            return false;
+        }
+
+        Hero targetHero = context.getBattleMenu().chooseTeleportTarget(hero, candidates);
         if (targetHero == null) {
+            io.printlnFail(MessageUtils.CANCELED);
             return false;
         }
 
@@ -45,51 +52,4 @@ public class TeleportAction implements HeroActionStrategy {
         }
         return true;
     }
-
-    private Hero chooseTeleportTarget(Hero currentHero) {
-        List<Hero> allHeroes = worldMap.getHeroes();
-        int currentLane = worldMap.getHeroLane(currentHero);
-
-        List<Hero> candidates = new ArrayList<>();
-        for (Hero h : allHeroes) {
-            if (h == currentHero || !h.isAlive()) {
-                continue;
-            }
-            int lane = worldMap.getHeroLane(h);
-            if (lane != -1 && lane != currentLane) {
-                candidates.add(h);
-            }
-        }
-
-        if (candidates.isEmpty()) {
-            io.printlnFail(MessageUtils.TELEPORT_NO_VALID_HEROES);
-            return null;
-        }
-
-        io.printlnTitle(MessageUtils.TELEPORT_CHOOSE_HERO);
-        for (int i = 0; i < candidates.size(); i++) {
-            Hero h = candidates.get(i);
-            int[] pos = worldMap.getHeroPosition(h);
-            int lane = worldMap.getHeroLane(h);
-
-            io.printlnTitle(String.format( "  %d) %s  [lane=%d, row=%d, col=%d]",
-                    i + 1,
-                    h.getName(),
-                    lane,
-                    pos != null ? pos[0] : -1,
-                    pos != null ? pos[1] : -1));
-        }
-        io.printlnTitle(MessageUtils.CANCEL_LINE);
-
-        io.printPrompt(MessageUtils.ENTER_CHOICE);
-        int choice = io.readIntInRange(0, candidates.size());
-
-        if (choice == 0) {
-            io.printlnFail(MessageUtils.CANCELED);
-            return null;
-        }
-
-        return candidates.get(choice - 1);
-    }
 }
-
@@ -2,12 +2,14 @@ package battle.menu;
 
 import battle.enums.EquipChoice;
 import battle.enums.HeroActionType;
+import battle.enums.MarketVisitChoice;
 import hero.Hero;
 import market.model.item.Potion;
 import market.model.item.Spell;
 import monster.Monster;
 import market.model.item.Weapon;
 import market.model.item.Armor;
+import worldMap.enums.Direction;
 
 import java.util.List;
 
@@ -96,4 +98,49 @@ public interface BattleMenu {
      * @return the number of hands chosen (typically 1 or 2)
      */
     int chooseHandsForWeapon(Hero hero, Weapon weapon);
+
+    // ==================== LEGENDS OF VALOR ====================
+
+    /**
+     * Lets the player choose where the hero moves.
+     *
+     * @param hero       the moving hero
+     * @param legalMoves the directions the map allows right now, never empty
+     * @return the chosen direction, or {@code null} if the player cancels
+     */
+    Direction chooseMoveDirection(Hero hero, List<Direction> legalMoves);
+
+    /**
+     * Lets the player choose which hero to teleport next to.
+     *
+     * @param hero       the teleporting hero
+     * @param candidates the heroes with a free landing cell, never empty
+     * @return the chosen hero, or {@code null} if the player cancels
+     */
+    Hero chooseTeleportTarget(Hero hero, List<Hero> candidates);
+
+    /**
+     * Lets the player choose which neighbouring obstacle the hero clears.
+     *
+     * @param hero       the hero removing an obstacle
+     * @param directions the directions of adjacent obstacles, never empty
+     * @return the chosen direction, or {@code null} if the player cancels
+     */
+    Direction chooseObstacleToRemove(Hero hero, List<Direction> directions);
+
+    /**
+     * Asks the player what the hero does on a market tile.
+     *
+     * @param hero the hero standing on the market
+     * @return whether to enter the market, walk past it or quit the game
+     */
+    MarketVisitChoice chooseMarketVisit(Hero hero);
+
+    /**
+     * Asks the player at the start of a round whether to keep playing.
+     *
+     * @param round the round about to start
+     * @return true to quit the game
+     */
+    boolean chooseToQuit(int round);
 }
@@ -2,12 +2,14 @@ package battle.menu;
 
 import battle.enums.EquipChoice;
 import battle.enums.HeroActionType;
+import battle.enums.MarketVisitChoice;
 import hero.Hero;
 import hero.Party;
 import market.model.item.*;
 import monster.Monster;
 import utils.IOUtils;
 import utils.MessageUtils;
+import worldMap.enums.Direction;
 
 import java.util.Arrays;
 import java.util.List;
@@ -230,4 +232,113 @@ public class BattleMenuImpl implements BattleMenu {
             }
         }
     }
+
+    @Override
+    public Direction chooseMoveDirection(Hero hero, List<Direction> legalMoves) {
+        while (true) {
+            // Only offer directions the map allows right now
+            ioUtils.printlnTitle("Choose move direction for " + hero.getName() + ":");
+            printDirectionOptions(legalMoves);
+
+            Direction direction = readDirection();
+            if (direction == null || legalMoves.contains(direction)) {
+                return direction;
+            }
+            ioUtils.printlnFail(String.format(MessageUtils.TRY_ANOTHER_DIRECTION, direction));
+        }
+    }
+
+    @Override
+    public Hero chooseTeleportTarget(Hero hero, List<Hero> candidates) {
+        ioUtils.printlnTitle(MessageUtils.TELEPORT_CHOOSE_HERO);
+        for (int i = 0; i < candidates.size(); i++) {
+            Hero h = candidates.get(i);
+            ioUtils.printlnTitle(String.format("  %d) %s  [row=%d, col=%d]",
+                    i + 1,
+                    h.getName(),
+                    h.getRow(),
+                    h.getCol()));
+        }
+        ioUtils.printlnTitle(MessageUtils.CANCEL_LINE);
+
+        ioUtils.printPrompt(MessageUtils.ENTER_CHOICE);
+        int choice = ioUtils.readIntInRange(0, candidates.size());
+        if (choice == 0) {
+            return null;
+        }
+        return candidates.get(choice - 1);
+    }
+
+    @Override
+    public Direction chooseObstacleToRemove(Hero hero, List<Direction> directions) {
+        while (true) {
+            ioUtils.printlnTitle("Choose where " + hero.getName() + " would like to remove an obstacle:");
+            printDirectionOptions(directions);
+
+            Direction direction = readDirection();
+            if (direction == null || directions.contains(direction)) {
+                return direction;
+            }
+            ioUtils.printlnFail(String.format(MessageUtils.NO_OBSTACLES_NEARBY, hero.getName()));
+        }
+    }
+
+    @Override
+    public MarketVisitChoice chooseMarketVisit(Hero hero) {
+        ioUtils.printPrompt("Enter market for " + hero.getName() + "? (y/n, q to quit): ");
+        String line = ioUtils.readLine().trim();
+        if (line.isEmpty()) {
+            return MarketVisitChoice.SKIP;
+        }
+        switch (Character.toLowerCase(line.charAt(0))) {
+            case 'y':
+                return MarketVisitChoice.ENTER;
+            case 'q':
+                return MarketVisitChoice.QUIT;
+            default:
+                return MarketVisitChoice.SKIP;
+        }
+    }
+
+    @Override
+    public boolean chooseToQuit(int round) {
+        ioUtils.printPrompt("Press ENTER to continue, or Q to quit: ");
+        return ioUtils.readLine().trim().equalsIgnoreCase("q");
+    }
+
+    private void printDirectionOptions(List<Direction> directions) {
+        if (directions.contains(Direction.UP)) ioUtils.printlnTitle("  W = Up");
+        if (directions.contains(Direction.DOWN)) ioUtils.printlnTitle("  S = Down");
+        if (directions.contains(Direction.LEFT)) ioUtils.printlnTitle("  A = Left");
+        if (directions.contains(Direction.RIGHT)) ioUtils.printlnTitle("  D = Right");
+        ioUtils.printlnTitle("  Q = Cancel");
+    }
+
+    /**
+     * Reads W/A/S/D until the player enters a valid key.
+     * @return the direction, or {@code null} for Q (cancel)
+     */
+    private Direction readDirection() {
+        while (true) {
+            ioUtils.printPrompt("Enter direction (W/A/S/D or Q): ");
+            String line = ioUtils.readLine();
+            if (line != null && !line.trim().isEmpty()) {
+                switch (Character.toUpperCase(line.trim().charAt(0))) {
+                    case 'W':
+                        return Direction.UP;
+                    case 'S':
+                        return Direction.DOWN;
+                    case 'A':
+                        return Direction.LEFT;
+                    case 'D':
+                        return Direction.RIGHT;
+                    case 'Q':
+                        return null;
+                    default:
+                        break;
+                }
+            }
+            ioUtils.printlnFail("Invalid input, please use W/A/S/D or Q.");
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package battle.menu;
+
+import hero.Party;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+
+/**
+ * Decides who makes the heroes' choices in a game of Legends of Valor:
+ * builds one {@link BattleMenu} per game, either interactive or automated.
+ */
+@FunctionalInterface
+public interface HeroPolicy {
+
+    /**
+     * Creates the menu that makes every choice for the party in one game.
+     *
+     * @param worldMap the board the game is played on
+     * @param party    the heroes the menu decides for
+     * @param random   a stream reserved for this menu's own random choices
+     * @return the menu
+     */
+    BattleMenu createMenu(ILegendsWorldMap worldMap, Party party, GameRandom random);
+}
@@ -0,0 +1,402 @@
+package battle.menu.auto;
+
+import battle.enums.EquipChoice;
+import battle.enums.HeroActionType;
+import battle.enums.MarketVisitChoice;
+import battle.heroAction.helper.LoVRangeUtils;
+import battle.menu.BattleMenu;
+import hero.Hero;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import market.model.item.Armor;
+import market.model.item.Item;
+import market.model.item.Potion;
+import market.model.item.Spell;
+import market.model.item.StatType;
+import market.model.item.Weapon;
+import monster.Monster;
+import utils.GameConstants;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+import worldMap.Tile;
+import worldMap.enums.Direction;
+
+/**
+ * Base class for {@link BattleMenu} implementations that decide on their own,
+ * without reading input or building any output.
+ *
+ * Subclasses only decide which action a hero takes; the follow-up choices
+ * default to simple sensible picks (weakest target, strongest gear, never
+ * shop, never quit) and can be overridden one by one. The helpers below tell
+ * which actions can succeed right now, so a policy never has to guess.
+ *
+ * The same menu works in both games: pass the Legends of Valor board, or
+ * {@code null} for a Monsters and Heroes battle, where every monster is in
+ * range and there is nowhere to move.
+ *
+ * If an action fails, the game asks the same hero again. An automated menu
+ * would usually repeat the same failing choice forever, so a second ask for
+ * the same hero before the next status update always skips the turn.
+ */
+public abstract class AutoBattleMenu implements BattleMenu {
+
+    /** The board, or {@code null} in a Monsters and Heroes battle */
+    protected final ILegendsWorldMap worldMap;
+    protected final GameRandom random;
+
+    private Hero lastAsked;
+
+    protected AutoBattleMenu(ILegendsWorldMap worldMap, GameRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("random cannot be null");
+        }
+        this.worldMap = worldMap;
+        this.random = random;
+    }
+
+    /**
+     * Gets the stream behind this menu's random choices, e.g. to record it
+     * in a game snapshot.
+     * @return the menu's random stream
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Decides the action for a hero's turn.
+     *
+     * @param hero     the active hero
+     * @param monsters the monsters still in the fight
+     * @return the chosen action
+     */
+    protected abstract HeroActionType decideAction(Hero hero, List<Monster> monsters);
+
+    @Override
+    public final HeroActionType chooseActionForHero(Hero hero, List<Monster> monsters) {
+        if (hero == lastAsked) {
+            lastAsked = null;
+            return HeroActionType.SKIP;  // the previous choice failed
+        }
+        lastAsked = hero;
+        return decideAction(hero, monsters);
+    }
+
+    @Override
+    public final void showBattleStatus(List<Hero> heroes, List<Monster> monsters) {
+        // Nothing to show; the games call this between turns but never before a retry
+        lastAsked = null;
+    }
+
+    // ==================== DEFAULT CHOICES ====================
+
+    @Override
+    public Monster chooseMonsterTarget(Hero hero, List<Monster> monsters) {
+        Monster weakest = null;
+        for (Monster monster : monsters) {
+            if (weakest == null || monster.getHp() < weakest.getHp()) {
+                weakest = monster;
+            }
+        }
+        return weakest;
+    }
+
+    @Override
+    public EquipChoice chooseEquipAction(Hero hero) {
+        if (findWeaponUpgrade(hero) != null) {
+            return EquipChoice.WEAPON;
+        }
+        if (findArmorUpgrade(hero) != null) {
+            return EquipChoice.ARMOR;
+        }
+        return EquipChoice.CANCEL;
+    }
+
+    @Override
+    public Weapon chooseWeaponToEquip(Hero hero, List<Weapon> weapons) {
+        Weapon best = null;
+        for (Weapon weapon : weapons) {
+            if (best == null || weapon.getDamage() > best.getDamage()) {
+                best = weapon;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Armor chooseArmorToEquip(Hero hero, List<Armor> armors) {
+        Armor best = null;
+        for (Armor armor : armors) {
+            if (best == null || armor.getDamageReduction() > best.getDamageReduction()) {
+                best = armor;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Spell chooseSpellToCast(Hero hero, List<Spell> spells) {
+        return findStrongestAffordableSpell(hero);
+    }
+
+    @Override
+    public Potion choosePotionToUse(Hero hero, List<Potion> potions) {
+        // Healing first when hurt, otherwise whatever is there
+        Potion healing = (hero.getHp() < hero.getMaxHp()) ? findPotion(hero, StatType.HP) : null;
+        if (healing != null && potions.contains(healing)) {
+            return healing;
+        }
+        return potions.isEmpty() ? null : potions.get(0);
+    }
+
+    @Override
+    public int chooseHandsForWeapon(Hero hero, Weapon weapon) {
+        return 2;  // both hands always deal more damage
+    }
+
+    @Override
+    public Direction chooseMoveDirection(Hero hero, List<Direction> legalMoves) {
+        if (legalMoves.contains(Direction.UP)) {
+            return Direction.UP;
+        }
+        // Sidestep rather than retreat
+        boolean left = legalMoves.contains(Direction.LEFT);
+        boolean right = legalMoves.contains(Direction.RIGHT);
+        if (left && right) {
+            return random.chance(0.5) ? Direction.LEFT : Direction.RIGHT;
+        }
+        if (left) {
+            return Direction.LEFT;
+        }
+        if (right) {
+            return Direction.RIGHT;
+        }
+        return legalMoves.get(0);
+    }
+
+    @Override
+    public Hero chooseTeleportTarget(Hero hero, List<Hero> candidates) {
+        // Land next to whoever is closest to the Monster Nexus
+        Hero best = null;
+        for (Hero candidate : candidates) {
+            if (best == null || candidate.getRow() < best.getRow()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Direction chooseObstacleToRemove(Hero hero, List<Direction> directions) {
+        return directions.contains(Direction.UP) ? Direction.UP : directions.get(0);
+    }
+
+    @Override
+    public MarketVisitChoice chooseMarketVisit(Hero hero) {
+        return MarketVisitChoice.SKIP;
+    }
+
+    @Override
+    public boolean chooseToQuit(int round) {
+        return false;
+    }
+
+    // ==================== WHAT CAN SUCCEED ====================
+
+    /**
+     * Checks whether a monster can be attacked or targeted by a spell.
+     */
+    protected boolean isTargetable(Hero hero, Monster monster) {
+        return monster.isAlive() && (worldMap == null || LoVRangeUtils.isWithinRangeToAttack(hero, monster));
+    }
+
+    protected boolean hasTargetInRange(Hero hero, List<Monster> monsters) {
+        for (Monster monster : monsters) {
+            if (isTargetable(hero, monster)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected Spell findStrongestAffordableSpell(Hero hero) {
+        Spell best = null;
+        for (Item item : hero.getInventory()) {
+            if (!(item instanceof Spell)) {
+                continue;
+            }
+            Spell spell = (Spell) item;
+            if (spell.getManaCost() <= hero.getMp() && (best == null || spell.getDamage() > best.getDamage())) {
+                best = spell;
+            }
+        }
+        return best;
+    }
+
+    protected boolean hasPotion(Hero hero) {
+        for (Item item : hero.getInventory()) {
+            if (item instanceof Potion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds a carried potion that raises the given stat.
+     * @return the potion, or {@code null} if the hero has none
+     */
+    protected Potion findPotion(Hero hero, StatType statType) {
+        for (Item item : hero.getInventory()) {
+            if (item instanceof Potion && ((Potion) item).getStatType() == statType) {
+                return (Potion) item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the carried weapon that hits harder than the equipped one.
+     * @return the best upgrade, or {@code null} if there is none
+     */
+    protected Weapon findWeaponUpgrade(Hero hero) {
+        Weapon equipped = hero.getEquippedWeapon();
+        Weapon best = null;
+        int bestDamage = (equipped == null) ? 0 : equipped.getDamage();
+        for (Item item : hero.getInventory()) {
+            if (item instanceof Weapon && ((Weapon) item).getDamage() > bestDamage) {
+                best = (Weapon) item;
+                bestDamage = best.getDamage();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the carried armor that blocks more than the equipped one.
+     * @return the best upgrade, or {@code null} if there is none
+     */
+    protected Armor findArmorUpgrade(Hero hero) {
+        Armor equipped = hero.getEquippedArmor();
+        Armor best = null;
+        int bestReduction = (equipped == null) ? 0 : equipped.getDamageReduction();
+        for (Item item : hero.getInventory()) {
+            if (item instanceof Armor && ((Armor) item).getDamageReduction() > bestReduction) {
+                best = (Armor) item;
+                bestReduction = best.getDamageReduction();
+            }
+        }
+        return best;
+    }
+
+    protected boolean isObstacleAhead(Hero hero) {
+        if (worldMap == null) {
+            return false;
+        }
+        int row = hero.getRow() - 1;
+        return row >= 0 && worldMap.getTile(row, hero.getCol()).isObstacle();
+    }
+
+    protected boolean hasObstacleNearby(Hero hero) {
+        if (worldMap == null) {
+            return false;
+        }
+        for (Direction direction : Direction.values()) {
+            int row = hero.getRow() + direction.getRow();
+            int col = hero.getCol() + direction.getCol();
+            if (row >= 0 && row < worldMap.getRows() && col >= 0 && col < worldMap.getCols()
+                    && worldMap.getTile(row, col).isObstacle()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the lane the hero stands in has no live monsters,
+     * so the hero can leave it without opening a path to the Hero Nexus.
+     */
+    protected boolean isLaneClear(Hero hero) {
+        if (worldMap == null) {
+            return true;
+        }
+        int lane = worldMap.getLaneIndex(hero.getCol());
+        return lane < 0 || worldMap.getLaneFrontier(lane) < 0;
+    }
+
+    /**
+     * Lists every action that would succeed for the hero right now.
+     * {@link HeroActionType#SKIP} is never included.
+     */
+    protected List<HeroActionType> findFeasibleActions(Hero hero, List<Monster> monsters) {
+        List<HeroActionType> actions = new ArrayList<>();
+        boolean targets = hasTargetInRange(hero, monsters);
+        if (targets) {
+            actions.add(HeroActionType.ATTACK);
+            if (findStrongestAffordableSpell(hero) != null) {
+                actions.add(HeroActionType.CAST_SPELL);
+            }
+        }
+        if (hasPotion(hero)) {
+            actions.add(HeroActionType.USE_POTION);
+        }
+        if (findWeaponUpgrade(hero) != null || findArmorUpgrade(hero) != null) {
+            actions.add(HeroActionType.EQUIP);
+        }
+        if (worldMap == null) {
+            return actions;
+        }
+        if (!worldMap.getLegalMoves(hero).isEmpty()) {
+            actions.add(HeroActionType.MOVE);
+        }
+        if (!worldMap.getTeleportTargets(hero).isEmpty()) {
+            actions.add(HeroActionType.TELEPORT);
+        }
+        if (hero.getRow() != worldMap.getRows() - 1) {
+            actions.add(HeroActionType.RECALL);
+        }
+        if (hasObstacleNearby(hero)) {
+            actions.add(HeroActionType.REMOVE_OBSTACLE);
+        }
+        return actions;
+    }
+
+    // ==================== DAMAGE ESTIMATES ====================
+
+    /**
+     * Estimates the HP a weapon attack would take off a monster (before dodging).
+     */
+    protected int estimateAttackDamage(Hero hero, Monster monster) {
+        int weaponDamage = 0;
+        Weapon weapon = hero.getEquippedWeapon();
+        if (weapon != null) {
+            weaponDamage = weapon.getDamage();
+            if (weapon.getHandsRequired() == 1 && chooseHandsForWeapon(hero, weapon) == 2) {
+                weaponDamage = (int) Math.round(weaponDamage * GameConstants.ONE_HANDED_WEAPON_BONUS_MULTIPLIER);
+            }
+        }
+        double strength = hero.getStrength() * currentTile(hero, Tile::getStrengthMultiplier);
+        int raw = (int) Math.round((strength + weaponDamage) * GameConstants.HERO_ATTACK_MULTIPLIER);
+        int dealt = raw - monster.getDefense() / GameConstants.MONSTER_DEFENSE_DIVISOR;
+        return Math.min(monster.getHp(), Math.max(GameConstants.MONSTER_MIN_DAMAGE_ON_HIT, dealt));
+    }
+
+    /**
+     * Estimates the HP a spell would take off a monster (before dodging).
+     */
+    protected int estimateSpellDamage(Hero hero, Spell spell, Monster monster) {
+        double dexterity = hero.getDexterity() * currentTile(hero, Tile::getDexterityMultiplier);
+        double damage = spell.getDamage()
+                + (dexterity / GameConstants.HERO_SPELL_DEX_DIVISOR) * spell.getDamage()
+                - monster.getDefense();
+        return (int) Math.min(monster.getHp(), Math.max(0, Math.round(damage)));
+    }
+
+    private double currentTile(Hero hero, ToDoubleFunction<Tile> multiplier) {
+        if (worldMap == null) {
+            return 1.0;
+        }
+        return multiplier.applyAsDouble(worldMap.getTile(hero.getRow(), hero.getCol()));
+    }
+}
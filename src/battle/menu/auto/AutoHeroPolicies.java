@@ -0,0 +1,66 @@
+package battle.menu.auto;
+
+import battle.menu.HeroPolicy;
+import game.lov.advisor.MctsBattleMenu;
+import game.lov.advisor.MctsHeroAdvisor;
+import java.util.List;
+import monster.MonsterFactory;
+import upload.HeroScriptFileLoader;
+import worldMap.LegendsOfValorWorldMap;
+
+/**
+ * Looks up the automated hero policies by name, for command lines and configs.
+ */
+public final class AutoHeroPolicies {
+
+    public static final String RUSH = "rush";
+    public static final String GREEDY = "greedy";
+    public static final String RANDOM = "random";
+    public static final String RULES = "rules";
+    public static final String MCTS = "mcts";
+    /** Followed by the path of a hero script, e.g. {@code script:files/HeroScript.txt} */
+    public static final String SCRIPT_PREFIX = "script:";
+
+    private AutoHeroPolicies() {
+    }
+
+    /**
+     * Gets a policy by name. A script is read once, here, and shared by every game.
+     * @param name one of the names above
+     * @return the policy
+     */
+    public static HeroPolicy forName(String name) {
+        if (name.startsWith(SCRIPT_PREFIX)) {
+            List<ScriptStep> script = HeroScriptFileLoader.loadScript(name.substring(SCRIPT_PREFIX.length()));
+            return (worldMap, party, random) -> new ScriptedBattleMenu(worldMap, random, script);
+        }
+        switch (name) {
+            case RUSH:
+                return (worldMap, party, random) -> new RushBattleMenu(worldMap, random);
+            case GREEDY:
+                return (worldMap, party, random) -> new GreedyBattleMenu(worldMap, random);
+            case RANDOM:
+                return (worldMap, party, random) -> new RandomBattleMenu(worldMap, random);
+            case RULES:
+                return (worldMap, party, random) -> new RuleBasedBattleMenu(worldMap, random);
+            case MCTS:
+                return mcts(new MctsHeroAdvisor(new MonsterFactory()));
+            default:
+                throw new IllegalArgumentException("Unknown hero policy: " + name);
+        }
+    }
+
+    /**
+     * Gets a policy that plays an advisor's recommendations; the advisor is shared by every game.
+     * @param advisor the advisor
+     * @return the policy
+     */
+    public static HeroPolicy mcts(MctsHeroAdvisor advisor) {
+        return (worldMap, party, random) -> {
+            if (!(worldMap instanceof LegendsOfValorWorldMap)) {
+                throw new IllegalArgumentException("The MCTS policy needs a LegendsOfValorWorldMap");
+            }
+            return new MctsBattleMenu((LegendsOfValorWorldMap) worldMap, party, random, advisor);
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package battle.menu.auto;
+
+import battle.enums.HeroActionType;
+import hero.Hero;
+import java.util.Collections;
+import java.util.List;
+import market.model.item.Spell;
+import market.model.item.StatType;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * One-step lookahead policy: takes whatever pays off most this turn.
+ *
+ * Damage comes first: it compares a weapon attack with the strongest
+ * affordable spell against every monster in range, and a blow that finishes
+ * a monster beats any that doesn't. With nothing to hit it goes for the
+ * biggest gain in rows towards the Monster Nexus, teleporting when a teammate
+ * is further ahead than one step would get it - but never out of a lane that
+ * still has monsters in it, which would leave them a free path to the Hero Nexus.
+ */
+public class GreedyBattleMenu extends AutoBattleMenu {
+
+    /** Added to the score of a blow that finishes its target */
+    private static final int KILL_BONUS = 1_000_000;
+
+    private Monster plannedTarget;
+    private Spell plannedSpell;
+
+    /**
+     * @param worldMap the Legends of Valor board, or {@code null} in a Monsters and Heroes battle
+     * @param random   the stream used to break ties
+     */
+    public GreedyBattleMenu(ILegendsWorldMap worldMap, GameRandom random) {
+        super(worldMap, random);
+    }
+
+    @Override
+    protected HeroActionType decideAction(Hero hero, List<Monster> monsters) {
+        HeroActionType strike = planStrike(hero, monsters);
+        if (strike != null) {
+            return strike;
+        }
+
+        if (worldMap != null) {
+            HeroActionType advance = planAdvance(hero);
+            if (advance != null) {
+                return advance;
+            }
+        }
+
+        if (findWeaponUpgrade(hero) != null || findArmorUpgrade(hero) != null) {
+            return HeroActionType.EQUIP;
+        }
+        if (hero.getHp() < hero.getMaxHp() && findPotion(hero, StatType.HP) != null) {
+            return HeroActionType.USE_POTION;
+        }
+        return HeroActionType.SKIP;
+    }
+
+    /**
+     * Picks the most damaging attack or spell and remembers its target.
+     * @return ATTACK or CAST_SPELL, or {@code null} if nothing is in range
+     */
+    private HeroActionType planStrike(Hero hero, List<Monster> monsters) {
+        Spell spell = findStrongestAffordableSpell(hero);
+        HeroActionType best = null;
+        int bestScore = 0;
+        plannedTarget = null;
+        plannedSpell = null;
+
+        for (Monster monster : monsters) {
+            if (!isTargetable(hero, monster)) {
+                continue;
+            }
+            int attackScore = score(estimateAttackDamage(hero, monster), monster);
+            if (best == null || attackScore > bestScore) {
+                best = HeroActionType.ATTACK;
+                bestScore = attackScore;
+                plannedTarget = monster;
+            }
+            if (spell != null) {
+                // Strictly better only: a tie keeps the mana
+                int spellScore = score(estimateSpellDamage(hero, spell, monster), monster);
+                if (spellScore > bestScore) {
+                    best = HeroActionType.CAST_SPELL;
+                    bestScore = spellScore;
+                    plannedTarget = monster;
+                    plannedSpell = spell;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int score(int damage, Monster monster) {
+        return damage >= monster.getHp() ? KILL_BONUS + damage : damage;
+    }
+
+    /**
+     * Picks the move that gains the most rows towards the Monster Nexus.
+     * @return the action, or {@code null} if the hero cannot get any closer
+     */
+    private HeroActionType planAdvance(Hero hero) {
+        List<Direction> moves = worldMap.getLegalMoves(hero);
+        int stepGain = moves.contains(Direction.UP) ? 1 : 0;
+
+        List<Hero> targets = isLaneClear(hero) ? worldMap.getTeleportTargets(hero) : Collections.<Hero>emptyList();
+        Hero ahead = targets.isEmpty() ? null : chooseTeleportTarget(hero, targets);
+        int teleportGain = (ahead == null) ? 0 : hero.getRow() - ahead.getRow();
+
+        if (teleportGain > stepGain) {
+            return HeroActionType.TELEPORT;
+        }
+        if (stepGain > 0) {
+            return HeroActionType.MOVE;
+        }
+        if (isObstacleAhead(hero)) {
+            return HeroActionType.REMOVE_OBSTACLE;
+        }
+        return moves.isEmpty() ? null : HeroActionType.MOVE;
+    }
+
+    @Override
+    public Monster chooseMonsterTarget(Hero hero, List<Monster> monsters) {
+        if (plannedTarget != null && monsters.contains(plannedTarget)) {
+            return plannedTarget;
+        }
+        return super.chooseMonsterTarget(hero, monsters);
+    }
+
+    @Override
+    public Spell chooseSpellToCast(Hero hero, List<Spell> spells) {
+        if (plannedSpell != null && plannedSpell.getManaCost() <= hero.getMp()) {
+            return plannedSpell;
+        }
+        return super.chooseSpellToCast(hero, spells);
+    }
+}
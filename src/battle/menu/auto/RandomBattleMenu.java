@@ -0,0 +1,69 @@
+package battle.menu.auto;
+
+import battle.enums.HeroActionType;
+import hero.Hero;
+import java.util.ArrayList;
+import java.util.List;
+import market.model.item.Spell;
+import market.model.item.Weapon;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * Policy that picks uniformly among the choices that can succeed.
+ * A floor for balance testing: any sensible policy should beat it.
+ */
+public class RandomBattleMenu extends AutoBattleMenu {
+
+    /**
+     * @param worldMap the Legends of Valor board, or {@code null} in a Monsters and Heroes battle
+     * @param random   the stream all choices are drawn from
+     */
+    public RandomBattleMenu(ILegendsWorldMap worldMap, GameRandom random) {
+        super(worldMap, random);
+    }
+
+    @Override
+    protected HeroActionType decideAction(Hero hero, List<Monster> monsters) {
+        List<HeroActionType> actions = findFeasibleActions(hero, monsters);
+        return actions.isEmpty() ? HeroActionType.SKIP : random.pick(actions);
+    }
+
+    @Override
+    public Monster chooseMonsterTarget(Hero hero, List<Monster> monsters) {
+        return monsters.isEmpty() ? null : random.pick(monsters);
+    }
+
+    @Override
+    public Spell chooseSpellToCast(Hero hero, List<Spell> spells) {
+        List<Spell> affordable = new ArrayList<>();
+        for (Spell spell : spells) {
+            if (spell.getManaCost() <= hero.getMp()) {
+                affordable.add(spell);
+            }
+        }
+        return affordable.isEmpty() ? null : random.pick(affordable);
+    }
+
+    @Override
+    public int chooseHandsForWeapon(Hero hero, Weapon weapon) {
+        return 1 + random.nextInt(2);
+    }
+
+    @Override
+    public Direction chooseMoveDirection(Hero hero, List<Direction> legalMoves) {
+        return random.pick(legalMoves);
+    }
+
+    @Override
+    public Hero chooseTeleportTarget(Hero hero, List<Hero> candidates) {
+        return random.pick(candidates);
+    }
+
+    @Override
+    public Direction chooseObstacleToRemove(Hero hero, List<Direction> directions) {
+        return random.pick(directions);
+    }
+}
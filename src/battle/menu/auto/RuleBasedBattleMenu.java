@@ -0,0 +1,106 @@
+package battle.menu.auto;
+
+import battle.enums.HeroActionType;
+import hero.Hero;
+import java.util.Collections;
+import java.util.List;
+import market.model.item.Spell;
+import market.model.item.StatType;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+
+/**
+ * Policy that walks a fixed list of rules and takes the first that applies:
+ * <ol>
+ *     <li>heal with a potion when HP drops below a threshold</li>
+ *     <li>equip better gear the hero is carrying</li>
+ *     <li>hit the weakest monster in range, with a spell if it does more damage</li>
+ *     <li>clear an obstacle straight ahead</li>
+ *     <li>teleport to a teammate who is far ahead, if no monsters are left in this lane</li>
+ *     <li>move, north first</li>
+ * </ol>
+ * The last three only apply in Legends of Valor.
+ */
+public class RuleBasedBattleMenu extends AutoBattleMenu {
+
+    public static final double DEFAULT_HEAL_THRESHOLD = 0.35;
+    public static final int DEFAULT_REGROUP_DISTANCE = 3;
+
+    private final double healThreshold;
+    private final int regroupDistance;
+
+    public RuleBasedBattleMenu(ILegendsWorldMap worldMap, GameRandom random) {
+        this(worldMap, random, DEFAULT_HEAL_THRESHOLD, DEFAULT_REGROUP_DISTANCE);
+    }
+
+    /**
+     * @param worldMap        the Legends of Valor board, or {@code null} in a Monsters and Heroes battle
+     * @param random          the stream used to break ties
+     * @param healThreshold   share of max HP below which the hero drinks a healing potion
+     * @param regroupDistance rows a teammate must be ahead before the hero teleports to them
+     */
+    public RuleBasedBattleMenu(ILegendsWorldMap worldMap, GameRandom random,
+                               double healThreshold, int regroupDistance) {
+        super(worldMap, random);
+        if (healThreshold < 0 || healThreshold > 1) {
+            throw new IllegalArgumentException("healThreshold must be between 0 and 1");
+        }
+        if (regroupDistance < 1) {
+            throw new IllegalArgumentException("regroupDistance must be at least 1");
+        }
+        this.healThreshold = healThreshold;
+        this.regroupDistance = regroupDistance;
+    }
+
+    @Override
+    protected HeroActionType decideAction(Hero hero, List<Monster> monsters) {
+        if (hero.getHp() < hero.getMaxHp() * healThreshold && findPotion(hero, StatType.HP) != null) {
+            return HeroActionType.USE_POTION;
+        }
+        if (findWeaponUpgrade(hero) != null || findArmorUpgrade(hero) != null) {
+            return HeroActionType.EQUIP;
+        }
+
+        Monster target = findWeakestTarget(hero, monsters);
+        if (target != null) {
+            Spell spell = findStrongestAffordableSpell(hero);
+            if (spell != null && estimateSpellDamage(hero, spell, target) > estimateAttackDamage(hero, target)) {
+                return HeroActionType.CAST_SPELL;
+            }
+            return HeroActionType.ATTACK;
+        }
+
+        if (worldMap == null) {
+            return HeroActionType.SKIP;
+        }
+        if (isObstacleAhead(hero)) {
+            return HeroActionType.REMOVE_OBSTACLE;
+        }
+        List<Hero> targets = isLaneClear(hero) ? worldMap.getTeleportTargets(hero) : Collections.<Hero>emptyList();
+        if (!targets.isEmpty() && hero.getRow() - chooseTeleportTarget(hero, targets).getRow() >= regroupDistance) {
+            return HeroActionType.TELEPORT;
+        }
+        if (!worldMap.getLegalMoves(hero).isEmpty()) {
+            return HeroActionType.MOVE;
+        }
+        return HeroActionType.SKIP;
+    }
+
+    @Override
+    public Monster chooseMonsterTarget(Hero hero, List<Monster> monsters) {
+        // Same pick the rules were evaluated against
+        Monster target = findWeakestTarget(hero, monsters);
+        return (target != null) ? target : super.chooseMonsterTarget(hero, monsters);
+    }
+
+    private Monster findWeakestTarget(Hero hero, List<Monster> monsters) {
+        Monster weakest = null;
+        for (Monster monster : monsters) {
+            if (isTargetable(hero, monster) && (weakest == null || monster.getHp() < weakest.getHp())) {
+                weakest = monster;
+            }
+        }
+        return weakest;
+    }
+}
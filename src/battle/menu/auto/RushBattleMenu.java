@@ -0,0 +1,38 @@
+package battle.menu.auto;
+
+import battle.enums.HeroActionType;
+import hero.Hero;
+import java.util.List;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+
+/**
+ * Scripted Legends of Valor policy: fight whatever is in range, otherwise push
+ * north towards the Monster Nexus, clearing obstacles that block the way.
+ *
+ * Cheap and predictable, which makes it the baseline for balance simulations.
+ */
+public class RushBattleMenu extends AutoBattleMenu {
+
+    public RushBattleMenu(ILegendsWorldMap worldMap, GameRandom random) {
+        super(worldMap, random);
+        if (worldMap == null) {
+            throw new IllegalArgumentException("worldMap cannot be null");
+        }
+    }
+
+    @Override
+    protected HeroActionType decideAction(Hero hero, List<Monster> monsters) {
+        if (hasTargetInRange(hero, monsters)) {
+            return HeroActionType.ATTACK;
+        }
+        if (isObstacleAhead(hero)) {
+            return HeroActionType.REMOVE_OBSTACLE;
+        }
+        if (!worldMap.getLegalMoves(hero).isEmpty()) {
+            return HeroActionType.MOVE;
+        }
+        return HeroActionType.SKIP;
+    }
+}
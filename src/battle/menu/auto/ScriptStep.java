@@ -0,0 +1,34 @@
+package battle.menu.auto;
+
+import battle.enums.HeroActionType;
+import worldMap.enums.Direction;
+
+/**
+ * One line of a hero script: an action, plus the direction for
+ * {@link HeroActionType#MOVE} and {@link HeroActionType#REMOVE_OBSTACLE}.
+ */
+public final class ScriptStep {
+
+    private final HeroActionType action;
+    private final Direction direction;
+
+    /**
+     * @param action    the action to take
+     * @param direction where to move or clear, or {@code null} to let the menu decide
+     */
+    public ScriptStep(HeroActionType action, Direction direction) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        this.action = action;
+        this.direction = direction;
+    }
+
+    public HeroActionType getAction() {
+        return action;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+}
@@ -0,0 +1,69 @@
+package battle.menu.auto;
+
+import battle.enums.HeroActionType;
+import hero.Hero;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * Policy that replays a fixed script, e.g. one loaded with
+ * {@link upload.HeroScriptFileLoader}.
+ *
+ * Every hero walks the script on its own and starts over after the last
+ * step. Steps are taken literally: a step that cannot succeed (say, ATTACK
+ * with nobody in range) costs the hero its turn, which is exactly what makes
+ * scripts useful for reproducing a scenario.
+ */
+public class ScriptedBattleMenu extends AutoBattleMenu {
+
+    private final List<ScriptStep> script;
+    private final Map<Hero, Integer> nextStep = new IdentityHashMap<>();
+
+    private ScriptStep currentStep;
+
+    /**
+     * @param worldMap the Legends of Valor board, or {@code null} in a Monsters and Heroes battle
+     * @param random   the stream used where a step leaves a choice open
+     * @param script   the steps to replay, not empty
+     */
+    public ScriptedBattleMenu(ILegendsWorldMap worldMap, GameRandom random, List<ScriptStep> script) {
+        super(worldMap, random);
+        if (script == null || script.isEmpty()) {
+            throw new IllegalArgumentException("script cannot be empty");
+        }
+        this.script = Collections.unmodifiableList(new ArrayList<>(script));
+    }
+
+    @Override
+    protected HeroActionType decideAction(Hero hero, List<Monster> monsters) {
+        int index = nextStep.getOrDefault(hero, 0);
+        nextStep.put(hero, (index + 1) % script.size());
+        currentStep = script.get(index);
+        return currentStep.getAction();
+    }
+
+    @Override
+    public Direction chooseMoveDirection(Hero hero, List<Direction> legalMoves) {
+        Direction scripted = currentStep.getDirection();
+        if (scripted == null) {
+            return super.chooseMoveDirection(hero, legalMoves);
+        }
+        return legalMoves.contains(scripted) ? scripted : null;
+    }
+
+    @Override
+    public Direction chooseObstacleToRemove(Hero hero, List<Direction> directions) {
+        Direction scripted = currentStep.getDirection();
+        if (scripted == null) {
+            return super.chooseObstacleToRemove(hero, directions);
+        }
+        return directions.contains(scripted) ? scripted : null;
+    }
+}
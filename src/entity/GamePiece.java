@@ -18,6 +18,13 @@ public interface GamePiece {
      */
     boolean isAlive();
 
+    /**
+     * Gets the chance that this piece dodges an attack, from a hero's
+     * agility or a monster's dodge ability.
+     * @return the dodge chance, between 0 and {@link utils.GameConstants#MAX_DODGE_CHANCE}
+     */
+    double getDodgeChance();
+
     /**
      * Gets the current row position on the map.
      * @return the row index
@@ -37,6 +44,13 @@ public interface GamePiece {
      */
     void setPosition(int row, int col);
 
+    /**
+     * Registers the listener notified whenever this piece's HP changes.
+     * A piece has at most one listener; pass null to detach it.
+     * @param listener the listener, or null
+     */
+    void setHealthListener(HealthListener listener);
+
     /**
      * Checks if this piece is a hero.
      * @return true if this is a Hero, false otherwise
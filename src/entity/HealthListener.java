@@ -0,0 +1,18 @@
+package entity;
+
+/**
+ * Callback fired whenever a {@link GamePiece}'s HP changes.
+ * Lets the world map keep alive counts and victory state up to date
+ * without rescanning every piece.
+ */
+@FunctionalInterface
+public interface HealthListener {
+
+    /**
+     * Called after a piece's HP changed.
+     * @param piece the piece whose HP changed
+     * @param oldHp the HP before the change
+     * @param newHp the HP after the change
+     */
+    void onHealthChanged(GamePiece piece, int oldHp, int newHp);
+}
@@ -2,6 +2,7 @@ package game;
 
 import hero.Hero;
 import java.util.List;
+import utils.GameRandom;
 import utils.IOUtils;
 
 /*
@@ -12,5 +13,13 @@ import utils.IOUtils;
 */
 
 public interface GameFactory {
-    Game createGame(IOUtils ioUtils, List<Hero> availableHeroes);
+
+    /**
+     * Creates a game.
+     * @param ioUtils I/O utilities
+     * @param availableHeroes heroes the player can pick from
+     * @param random root random stream of the game; the factory splits it per subsystem
+     * @return the new game
+     */
+    Game createGame(IOUtils ioUtils, List<Hero> availableHeroes, GameRandom random);
 }
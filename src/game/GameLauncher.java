@@ -3,11 +3,16 @@ package game;
 import game.lov.LegendsOfValorGameFactory;
 import game.mh.MonstersAndHeroesGameFactory;
 import hero.Hero;
-import upload.HeroFileLoader;
+import upload.GameDataRepository;
 import utils.ConsoleIOUtils;
+import utils.GameRandom;
 import utils.IOUtils;
+import utils.MessageUtils;
+import worldMap.LegendsMapConfig;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.Scanner;
 
 /**
@@ -19,9 +24,47 @@ import java.util.Scanner;
 
 public class GameLauncher {
 
+    private final GameRandom random;
+    private final boolean showAdvice;
+
+    public GameLauncher() {
+        this(false);
+    }
+
+    /**
+     * Creates a launcher for a new game.
+     * @param showAdvice whether Legends of Valor recommends a move on every hero turn
+     */
+    public GameLauncher(boolean showAdvice) {
+        this(GameRandom.withRandomSeed(), showAdvice);
+    }
+
+    /**
+     * Creates a launcher that replays a previous game.
+     * @param seed the seed printed at the start of that game
+     */
+    public GameLauncher(long seed) {
+        this(seed, false);
+    }
+
+    /**
+     * Creates a launcher that replays a previous game.
+     * @param seed the seed printed at the start of that game
+     * @param showAdvice whether Legends of Valor recommends a move on every hero turn
+     */
+    public GameLauncher(long seed, boolean showAdvice) {
+        this(new GameRandom(seed), showAdvice);
+    }
+
+    private GameLauncher(GameRandom random, boolean showAdvice) {
+        this.random = random;
+        this.showAdvice = showAdvice;
+    }
+
     public void run() {
         IOUtils ioUtils = new ConsoleIOUtils(new Scanner(System.in));
-        List<Hero> availableHeroes = HeroFileLoader.loadAllHeroes();
+        GameDataRepository data = GameDataRepository.load();
+        List<Hero> availableHeroes = data.getHeroRoster().createHeroes();
 
         ioUtils.printlnHeader("Choose game mode:");
         ioUtils.printlnTitle("  1) Monsters and Heroes");
@@ -29,11 +72,28 @@ public class GameLauncher {
         ioUtils.printPrompt("Enter choice (1-2): ");
         int mode = ioUtils.readIntInRange(1, 2);
 
-        GameFactory factory = (mode == 1)
-                ? new MonstersAndHeroesGameFactory()
-                : new LegendsOfValorGameFactory();
+        // Legends of Valor draws each monster wave while the player is still busy with the rounds before it
+        ExecutorService waveBuilder = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "wave-builder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        GameFactory factory;
+        if (mode == 1) {
+            factory = new MonstersAndHeroesGameFactory(data, false);
+        } else {
+            LegendsOfValorGameFactory legends =
+                    new LegendsOfValorGameFactory(data, LegendsMapConfig.DEFAULT, showAdvice, false);
+            legends.setWaveBuilder(waveBuilder);
+            factory = legends;
+        }
 
-        Game game = factory.createGame(ioUtils, availableHeroes);
-        game.start();
+        ioUtils.printlnTitle(String.format(MessageUtils.GAME_SEED, random.getSeed()));
+        try {
+            Game game = factory.createGame(ioUtils, availableHeroes, random);
+            game.start();
+        } finally {
+            waveBuilder.shutdownNow();
+        }
     }
 }
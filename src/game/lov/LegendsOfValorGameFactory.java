@@ -2,16 +2,23 @@ package game.lov;
 
 import battle.menu.BattleMenu;
 import battle.menu.BattleMenuImpl;
+import battle.menu.HeroPolicy;
 import game.Game;
 import game.GameFactory;
 import game.PartyFactoryUtil;
+import game.lov.advisor.MctsHeroAdvisor;
 import hero.Hero;
 import hero.Party;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import market.service.MarketFactory;
 import monster.MonsterFactory;
+import upload.GameDataRepository;
 import utils.GameConstants;
+import utils.GameRandom;
 import utils.IOUtils;
+import worldMap.LegendsMapConfig;
 import worldMap.LegendsOfValorWorldMap;
 
 
@@ -24,24 +31,178 @@ import worldMap.LegendsOfValorWorldMap;
 
 public class LegendsOfValorGameFactory implements GameFactory {
 
+    private final LegendsMapConfig mapConfig;
+
+    /** Loaded once; each game gets a copy drawing from its own random stream */
+    private final MarketFactory markets;
+    private final MonsterFactory monsters;
+
+    /** Whether interactive games recommend a move on every hero turn */
+    private final boolean showAdvice;
+
+    /** Whether games order turns by initiative instead of heroes then monsters */
+    private final boolean initiativeTurns;
+
+    /** Where games play their lane groups, and how many groups; null to play monsters on the game thread */
+    private ExecutorService laneWorkers;
+    private int laneShards;
+
+    /** Where games build their next monster wave; null to build waves when they spawn */
+    private Executor waveBuilder;
+
+    public LegendsOfValorGameFactory() {
+        this(LegendsMapConfig.DEFAULT);
+    }
+
+    /**
+     * Creates a factory that builds boards with a custom layout.
+     * @param mapConfig lane count, lane width, height and terrain ratios of the board
+     */
+    public LegendsOfValorGameFactory(LegendsMapConfig mapConfig) {
+        this(mapConfig, false);
+    }
+
+    /**
+     * Creates a factory whose interactive games can show an {@link MctsHeroAdvisor}'s hints.
+     * @param mapConfig lane count, lane width, height and terrain ratios of the board
+     * @param showAdvice whether interactive games recommend a move on every hero turn
+     */
+    public LegendsOfValorGameFactory(LegendsMapConfig mapConfig, boolean showAdvice) {
+        this(mapConfig, showAdvice, false);
+    }
+
+    /**
+     * Creates a factory whose games can order turns by initiative.
+     * @param mapConfig lane count, lane width, height and terrain ratios of the board
+     * @param showAdvice whether interactive games recommend a move on every hero turn
+     * @param initiativeTurns whether quicker heroes and monsters act first and more often
+     */
+    public LegendsOfValorGameFactory(LegendsMapConfig mapConfig, boolean showAdvice, boolean initiativeTurns) {
+        this(GameDataRepository.load(), mapConfig, showAdvice, initiativeTurns);
+    }
+
+    /**
+     * Creates a factory over game data that is already loaded.
+     * @param data the heroes, monsters and items read at startup
+     * @param mapConfig lane count, lane width, height and terrain ratios of the board
+     * @param showAdvice whether interactive games recommend a move on every hero turn
+     * @param initiativeTurns whether quicker heroes and monsters act first and more often
+     */
+    public LegendsOfValorGameFactory(GameDataRepository data, LegendsMapConfig mapConfig,
+                                     boolean showAdvice, boolean initiativeTurns) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (mapConfig == null) {
+            throw new IllegalArgumentException("mapConfig cannot be null");
+        }
+        checkNexusSeats(mapConfig, GameConstants.LOV_HEROES_PER_TEAM);
+        this.mapConfig = mapConfig;
+        this.markets = new MarketFactory(data, GameRandom.withRandomSeed());
+        this.monsters = new MonsterFactory(data, GameRandom.withRandomSeed());
+        this.showAdvice = showAdvice;
+        this.initiativeTurns = initiativeTurns;
+    }
+
+    /**
+     * Gets the lane a party hero starts in: heroes are spread evenly across the lanes.
+     */
+    private static int homeLane(int heroIndex, int heroes, int laneCount) {
+        return heroIndex * laneCount / heroes;
+    }
+
+    /**
+     * Checks that every lane's Hero Nexus has a cell for each hero the
+     * lane spread sends there.
+     */
+    private static void checkNexusSeats(LegendsMapConfig mapConfig, int heroes) {
+        int[] seated = new int[mapConfig.getLaneCount()];
+        for (int i = 0; i < heroes; i++) {
+            int lane = homeLane(i, heroes, mapConfig.getLaneCount());
+            if (++seated[lane] > mapConfig.getLaneWidth()) {
+                throw new IllegalArgumentException("mapConfig cannot seat " + heroes
+                        + " heroes: lane " + lane + " has only " + mapConfig.getLaneWidth() + " Hero Nexus cells");
+            }
+        }
+    }
+
+    /**
+     * Makes the games created from now on play their monster phases sharded
+     * by lane, see {@link LegendsOfValorGameImpl#setLaneWorkers}.
+     * @param workers where the lane groups run, owned by the caller; null to stop sharding
+     * @param shards number of lane groups, e.g. the number of worker threads
+     */
+    public void setLaneWorkers(ExecutorService workers, int shards) {
+        if (workers != null && shards < 1) {
+            throw new IllegalArgumentException("shards must be at least 1");
+        }
+        this.laneWorkers = workers;
+        this.laneShards = shards;
+    }
+
+    /**
+     * Makes the games created from now on build their monster waves in the
+     * background, see {@link LegendsOfValorGameImpl#setWaveBuilder}.
+     * @param builder where waves are built, owned by the caller; null to build waves when they spawn
+     */
+    public void setWaveBuilder(Executor builder) {
+        this.waveBuilder = builder;
+    }
+
     @Override
-    public Game createGame(IOUtils ioUtils, List<Hero> availableHeroes) {
+    public Game createGame(IOUtils ioUtils, List<Hero> availableHeroes, GameRandom random) {
         Party party = PartyFactoryUtil.chooseParty(
                 availableHeroes, ioUtils,
                 GameConstants.LOV_HEROES_PER_TEAM,
                 GameConstants.LOV_HEROES_PER_TEAM
         );
 
-        MarketFactory marketFactory = new MarketFactory();
-        LegendsOfValorWorldMap worldMap = new LegendsOfValorWorldMap(marketFactory, ioUtils);
+        // Pass party for hero index display
+        HeroPolicy interactive = (map, heroes, menuRandom) -> new BattleMenuImpl(ioUtils, heroes);
+        LegendsOfValorGameImpl game =
+                createGame(party, interactive, ioUtils, random, LegendsOfValorGameImpl.NO_ROUND_LIMIT);
+        if (showAdvice) {
+            game.setAdvisor(new MctsHeroAdvisor(monsters));
+        }
+        return game;
+    }
 
-        for (int lane = 0; lane < Math.min(party.getHeroes().size(), LegendsOfValorWorldMap.LANE_COLUMNS.length); lane++) {
-            worldMap.placeHeroAtNexus(party.getHeroes().get(lane), lane);
+    /**
+     * Creates a game for a party that was already chosen, without asking the player anything.
+     * @param party the heroes to play with
+     * @param heroPolicy builds the menu that makes the heroes' choices
+     * @param ioUtils where the game reports what happens
+     * @param random the game's root random stream
+     * @param maxRounds last round to play, or {@link LegendsOfValorGameImpl#NO_ROUND_LIMIT}
+     * @return the game, ready to start
+     */
+    public LegendsOfValorGameImpl createGame(Party party,
+                                             HeroPolicy heroPolicy,
+                                             IOUtils ioUtils,
+                                             GameRandom random,
+                                             int maxRounds) {
+        // One stream per subsystem, always split in this order so a seed replays the same game
+        MarketFactory marketFactory = markets.withRandom(random.split());
+        LegendsOfValorWorldMap worldMap =
+                new LegendsOfValorWorldMap(mapConfig, marketFactory, ioUtils, random.split());
+
+        // Spread heroes evenly across the lanes (one per lane on the classic board)
+        List<Hero> heroes = party.getHeroes();
+        for (int i = 0; i < heroes.size(); i++) {
+            worldMap.placeHeroAtNexus(heroes.get(i), homeLane(i, heroes.size(), worldMap.getLaneCount()));
         }
 
-        BattleMenu battleMenu = new BattleMenuImpl(ioUtils, party); // Pass party for hero index display
-        MonsterFactory monsterFactory = new MonsterFactory();
+        MonsterFactory monsterFactory = monsters.withRandom(random.split());
+        GameRandom gameRandom = random.split();
+        BattleMenu battleMenu = heroPolicy.createMenu(worldMap, party, random.split());
 
-        return new LegendsOfValorGameImpl(worldMap, party, battleMenu, monsterFactory, ioUtils);
+        LegendsOfValorGameImpl game =
+                new LegendsOfValorGameImpl(worldMap, party, battleMenu, monsterFactory, ioUtils, gameRandom, maxRounds);
+        game.setInitiativeTurns(initiativeTurns);
+        if (laneWorkers != null) {
+            game.setLaneWorkers(laneWorkers, laneShards);
+        }
+        game.setWaveBuilder(waveBuilder);
+        return game;
     }
 }
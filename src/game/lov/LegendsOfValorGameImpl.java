@@ -1,17 +1,33 @@
 package game.lov;
 
+import battle.engine.InitiativeScheduler;
 import battle.enums.HeroActionType;
+import battle.enums.MarketVisitChoice;
+import battle.effect.StatusEffects;
+import battle.event.BattleEventLog;
 import battle.heroAction.BattleActionsConfig;
 import battle.heroAction.BattleContext;
 import battle.heroAction.HeroActionStrategy;
 import battle.menu.BattleMenu;
+import battle.menu.auto.AutoBattleMenu;
+import entity.GamePiece;
 import game.Game;
 import game.GameType;
+import game.lov.advisor.MctsHeroAdvisor;
 import hero.Hero;
 import hero.Party;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 import market.model.Market;
 import market.service.MarketService;
 import market.service.MarketServiceImpl;
@@ -19,7 +35,9 @@ import market.ui.MarketMenu;
 import market.ui.MarketMenuImpl;
 import monster.Monster;
 import monster.MonsterFactory;
+import monster.MonsterWave;
 import utils.GameConstants;
+import utils.GameRandom;
 import utils.IOUtils;
 import utils.MessageUtils;
 import worldMap.LegendsOfValorWorldMap;
@@ -37,6 +55,9 @@ import worldMap.enums.Direction;
  * Win conditions:
  * - Heroes win if any hero reaches the Monster Nexus row
  * - Monsters win if any monster reaches the Hero Nexus row, or all heroes are defeated
+ *
+ * Every decision goes through the {@link BattleMenu}, so the same loop runs
+ * interactively or headless with an automated menu and a silent {@link IOUtils}.
  */
 public class LegendsOfValorGameImpl implements Game {
 
@@ -45,74 +66,218 @@ public class LegendsOfValorGameImpl implements Game {
     private final BattleMenu battleMenu;
     private final MonsterFactory monsterFactory;
     private final IOUtils io;
+    private final GameRandom random;
+    private final BattleEventLog events;
+    /** Spell debuffs and potion boosts, ended with the round */
+    private final StatusEffects effects = new StatusEffects();
+
+    /** Passed as maxRounds to play until one side wins */
+    public static final int NO_ROUND_LIMIT = 0;
+
+    private final int maxRounds;
 
     private int round = 1;
     private boolean running = true;
+    private LegendsOfValorOutcome outcome = LegendsOfValorOutcome.IN_PROGRESS;
+
+    /** Runs the monster phase lane group by lane group; null to run it on the game thread */
+    private ExecutorService laneWorkers;
+    private int laneShards;
+    /** Per-lane event buffers of the sharded monster phase, copied into events in lane order */
+    private BattleEventLog[] laneEvents;
+
+    /** Builds the next wave while the game plays; null to build waves when they spawn */
+    private Executor waveBuilder;
+    /** Where the wave being built for the next spawn is handed over; null if none is on its way */
+    private AtomicReference<MonsterWave> nextWave;
+
+    private boolean initiativeTurns;
+    /** Orders turns by initiative once the game starts; null for heroes then monsters */
+    private InitiativeScheduler turns;
+
+    /** Recommends a move before every hero decision; null when no advice is shown */
+    private MctsHeroAdvisor advisor;
+    private GameRandom advisorRandom;
+
+    public LegendsOfValorGameImpl(LegendsOfValorWorldMap worldMap,
+                                  Party party,
+                                  BattleMenu battleMenu,
+                                  MonsterFactory monsterFactory,
+                                  IOUtils io,
+                                  GameRandom random) {
+        this(worldMap, party, battleMenu, monsterFactory, io, random, NO_ROUND_LIMIT);
+    }
 
+    /**
+     * Creates a game that ends in a draw after a fixed number of rounds,
+     * so automated games can never run forever.
+     * @param maxRounds last round to play, or {@link #NO_ROUND_LIMIT}
+     */
     public LegendsOfValorGameImpl(LegendsOfValorWorldMap worldMap,
                                   Party party,
                                   BattleMenu battleMenu,
                                   MonsterFactory monsterFactory,
-                                  IOUtils io) {
+                                  IOUtils io,
+                                  GameRandom random,
+                                  int maxRounds) {
+        if (maxRounds < 0) {
+            throw new IllegalArgumentException("maxRounds cannot be negative");
+        }
+        this.maxRounds = maxRounds;
         this.worldMap = worldMap;
         this.party = party;
         this.battleMenu = battleMenu;
         this.monsterFactory = monsterFactory;
         this.io = io;
+        this.random = random;
+        this.events = BattleEventLog.forOutput(io, GameConstants.BATTLE_EVENT_LOG_CAPACITY);
+    }
+
+    /**
+     * Gets the log the game publishes its battle events to, e.g. to
+     * subscribe a statistics collector.
+     * @return the event log
+     */
+    public BattleEventLog getEvents() {
+        return events;
     }
 
     public void start() {
         io.printlnHeader("Starting Legends of Valor...");
 
+        if (initiativeTurns) {
+            turns = new InitiativeScheduler(random);
+            for (Hero hero : party.getHeroes()) {
+                turns.add(hero);
+            }
+        }
+
         // Spawn the initial wave (one monster per lane)
         spawnMonstersAllLanes();
 
-        Map<HeroActionType, HeroActionStrategy> actions =
-                BattleActionsConfig.createActions(GameType.LEGENDS_OF_VALOR, worldMap, io);
-        BattleContext context = new BattleContext(battleMenu);
+        play(0);
+    }
 
-        while (running) {
-            // Respawn dead heroes at their Nexus with full HP/MP (per Dis.txt)
-            respawnDeadHeroes();
+    /**
+     * Plays on from the middle of a round on a board that is already set up,
+     * e.g. a copied board during a search. No opening wave is spawned.
+     * @param round the round in progress
+     * @param firstHero party index of the next hero to act this round
+     */
+    public void resume(int round, int firstHero) {
+        if (round < 1) {
+            throw new IllegalArgumentException("round must be at least 1");
+        }
+        if (firstHero < 0 || firstHero >= party.getHeroes().size()) {
+            throw new IllegalArgumentException("firstHero must be a party index");
+        }
+        if (initiativeTurns) {
+            throw new IllegalStateException("Games with initiative turns cannot be resumed");
+        }
+        this.round = round;
+        play(firstHero);
+    }
 
-            io.printlnHeader("===== Round " + round + " =====");
-            worldMap.printMap();
-            if (wantsQuitThisRound()) {
-                io.printlnSuccess("Quitting Legends of Valor. Goodbye!");
-                return;
-            }
+    /**
+     * Orders turns by initiative instead of every hero, then every monster:
+     * heroes and monsters act when an {@link InitiativeScheduler} says so,
+     * quicker ones more often, and heroes recover after each round's worth
+     * of clock ticks. Lane workers are not used. Must be set before
+     * {@link #start()}; such games cannot be snapshot or resumed.
+     * @param initiativeTurns true to schedule turns by initiative
+     */
+    public void setInitiativeTurns(boolean initiativeTurns) {
+        if (turns != null) {
+            throw new IllegalStateException("The game has already started");
+        }
+        this.initiativeTurns = initiativeTurns;
+    }
 
-            if (worldMap.isHeroVictory()) {
-                io.printlnSuccess("Heroes win! A hero reached the Monster Nexus.");
-                return;
-            }
-            if (worldMap.isMonsterVictory() || party.allHeroesDefeated()) {
-                io.printlnFail("Monsters win!");
-                return;
-            }
+    /**
+     * Shows an advisor's recommendation before every hero decision.
+     * @param advisor the advisor, or null to stop showing advice
+     */
+    public void setAdvisor(MctsHeroAdvisor advisor) {
+        this.advisor = advisor;
+        // Search randomness must not shift the game's own stream, or seeds would stop replaying
+        this.advisorRandom = advisor != null ? GameRandom.withRandomSeed() : null;
+    }
 
-            runHeroesTurn(actions, context);
-            if (!running) return;
+    /**
+     * Runs every monster phase sharded by lane, for boards with many lanes.
+     * Walls cut the lanes apart, so monsters in different lanes never see
+     * each other's moves: the lanes are split into groups, each group plays
+     * its monsters on a worker with one random stream per lane, and the
+     * round waits for every group before it goes on. The things that do
+     * cross lanes, teleports and spawns, only happen on the game thread
+     * between monster phases.
+     *
+     * Games stay deterministic for a seed and do not depend on the number
+     * of shards, but they differ from games played without sharding, which
+     * roll every monster's dice on one stream. Meant for headless games:
+     * messages from different lanes may interleave.
+     * @param workers where the lane groups run, owned by the caller; null to stop sharding
+     * @param shards number of lane groups, e.g. the number of worker threads
+     */
+    public void setLaneWorkers(ExecutorService workers, int shards) {
+        if (workers != null && shards < 1) {
+            throw new IllegalArgumentException("shards must be at least 1");
+        }
+        this.laneWorkers = workers;
+        this.laneShards = Math.min(shards, worldMap.getLaneCount());
+        this.laneEvents = new BattleEventLog[workers != null ? worldMap.getLaneCount() : 0];
+        for (int lane = 0; lane < laneEvents.length; lane++) {
+            laneEvents[lane] = new BattleEventLog(GameConstants.BATTLE_EVENT_LOG_CAPACITY);
+        }
+    }
 
-            if (worldMap.isHeroVictory()) {
-                io.printlnSuccess("Heroes win! A hero reached the Monster Nexus.");
-                return;
-            }
-            if (worldMap.isMonsterVictory() || party.allHeroesDefeated()) {
-                io.printlnFail("Monsters win!");
-                return;
-            }
+    /**
+     * Builds each monster wave in the background while the rounds before
+     * its spawn are played, so spawn rounds on large boards do not stall.
+     * The wave is drawn right after the previous one spawns, for the
+     * party's level at that time, and checked when it spawns: if the party
+     * leveled up since, its monsters are brought to the new level (or the
+     * wave is drawn again when templates are level-matched), and a wave
+     * that is not ready yet is built on the spot. Either way the game
+     * plays exactly as without a builder.
+     * @param builder where waves are built, owned by the caller; null to build waves when they spawn
+     */
+    public void setWaveBuilder(Executor builder) {
+        this.waveBuilder = builder;
+        this.nextWave = null;
+    }
 
-            runMonstersTurn();
-            if (!running) return;
+    private void play(int firstHero) {
+        Map<HeroActionType, HeroActionStrategy> actions =
+                BattleActionsConfig.createActions(GameType.LEGENDS_OF_VALOR, worldMap, io);
+        BattleContext context = new BattleContext(battleMenu, random, events, effects);
 
-            if (worldMap.isHeroVictory()) {
-                io.printlnSuccess("Heroes win! A hero reached the Monster Nexus.");
-                return;
+        while (running) {
+            // A resumed round has already been opened
+            if (firstHero == 0) {
+                // Respawn dead heroes at their Nexus with full HP/MP (per Dis.txt)
+                respawnDeadHeroes();
+
+                io.printlnHeader("===== Round " + round + " =====");
+                worldMap.printMap();
+                if (battleMenu.chooseToQuit(round)) {
+                    quit();
+                    return;
+                }
+
+                if (checkGameOver()) return;
             }
-            if (worldMap.isMonsterVictory() || party.allHeroesDefeated()) {
-                io.printlnFail("Monsters win!");
-                return;
+
+            if (turns != null) {
+                runInitiativeRound(actions, context);
+                if (!running || checkGameOver()) return;
+            } else {
+                runHeroesTurn(actions, context, firstHero);
+                firstHero = 0;
+                if (!running || checkGameOver()) return;
+
+                runMonstersTurn();
+                if (!running || checkGameOver()) return;
             }
 
             if (round % GameConstants.LOV_MONSTER_SPAWN_INTERVAL == 0) {
@@ -120,6 +285,11 @@ public class LegendsOfValorGameImpl implements Game {
                 spawnMonstersAllLanes();
             }
 
+            if (round == maxRounds) {
+                io.printlnWarning("Round limit reached. The battle ends in a draw.");
+                outcome = LegendsOfValorOutcome.ROUND_LIMIT;
+                return;
+            }
             round++;
         }
     }
@@ -127,120 +297,368 @@ public class LegendsOfValorGameImpl implements Game {
     @Override
     public void stop() {
         this.running = false;
+        if (outcome == LegendsOfValorOutcome.IN_PROGRESS) {
+            outcome = LegendsOfValorOutcome.QUIT;
+        }
+    }
+
+    /**
+     * Gets how the game ended.
+     * @return the outcome, or {@link LegendsOfValorOutcome#IN_PROGRESS} while it is running
+     */
+    public LegendsOfValorOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the current round, which is the last round played once the game is over.
+     * @return the round number, starting at 1
+     */
+    public int getRound() {
+        return round;
+    }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Records the game between rounds or after it ended: the board, the
+     * round, the outcome, the running status effects and the random streams of the game, the spawner and
+     * an automated menu. Costs microseconds; unchanged pieces, markets and
+     * terrain are shared with earlier snapshots.
+     * @return the snapshot
+     */
+    public LegendsOfValorSnapshot snapshot() {
+        if (initiativeTurns) {
+            throw new IllegalStateException("Games with initiative turns cannot be snapshot");
+        }
+        GameRandom menuRandom = menuRandom();
+        return new LegendsOfValorSnapshot(this, round, outcome, worldMap.snapshot(),
+                effects.snapshot(), random.copy(), monsterFactory.getRandom().copy(),
+                menuRandom != null ? menuRandom.copy() : null);
+    }
+
+    /**
+     * Puts the game back as recorded, in place, so the same board, party and
+     * menu carry on. Call {@link #resume(int, int)} with the snapshot's round
+     * and hero 0 to play on; a game restored after it ended stays over.
+     * @param snapshot a snapshot of this game
+     */
+    public void restore(LegendsOfValorSnapshot snapshot) {
+        if (snapshot.game != this) {
+            throw new IllegalArgumentException("Snapshot belongs to another game");
+        }
+        worldMap.restore(snapshot.board);
+        effects.restore(snapshot.effects);
+        nextWave = null;
+        random.restore(snapshot.random);
+        monsterFactory.getRandom().restore(snapshot.spawnRandom);
+        if (snapshot.menuRandom != null) {
+            menuRandom().restore(snapshot.menuRandom);
+        }
+        round = snapshot.round;
+        outcome = snapshot.outcome;
+        running = outcome == LegendsOfValorOutcome.IN_PROGRESS;
+    }
+
+    /**
+     * Gets the random stream of an automated menu; an interactive menu has none.
+     */
+    private GameRandom menuRandom() {
+        return battleMenu instanceof AutoBattleMenu ? ((AutoBattleMenu) battleMenu).getRandom() : null;
+    }
+
+    /**
+     * Records a win if either side has won.
+     * @return true if the game is over
+     */
+    private boolean checkGameOver() {
+        if (worldMap.isHeroVictory()) {
+            io.printlnSuccess("Heroes win! A hero reached the Monster Nexus.");
+            outcome = LegendsOfValorOutcome.HEROES_WON;
+            return true;
+        }
+        if (worldMap.isMonsterVictory() || worldMap.areAllHeroesDefeated()) {
+            io.printlnFail("Monsters win!");
+            outcome = LegendsOfValorOutcome.MONSTERS_WON;
+            return true;
+        }
+        return false;
     }
 
-    private void runHeroesTurn(Map<HeroActionType, HeroActionStrategy> actions, BattleContext context) {
+    private void quit() {
+        io.printlnSuccess("Quitting Legends of Valor. Goodbye!");
+        stop();
+    }
+
+    private void runHeroesTurn(Map<HeroActionType, HeroActionStrategy> actions,
+                               BattleContext context,
+                               int firstHero) {
         List<Hero> heroes = party.getHeroes();
 
-        for (Hero hero : heroes) {
+        for (int i = firstHero; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
             if (!running) return;
             if (!hero.isAlive()) continue;
+            if (!playHeroTurn(hero, actions, context)) return;
+        }
+    }
 
-            maybeEnterMarket(hero);
-            if (!running) return;
+    /**
+     * Lets one hero act, retrying failed actions.
+     * @return false if the game was stopped or decided meanwhile
+     */
+    private boolean playHeroTurn(Hero hero,
+                                 Map<HeroActionType, HeroActionStrategy> actions,
+                                 BattleContext context) {
+        maybeEnterMarket(hero);
+        if (!running) return false;
+
+        List<Monster> aliveMonsters = worldMap.getAliveMonsters();
+        battleMenu.showBattleStatus(worldMap.getAliveHeroes(), aliveMonsters);
+        if (advisor != null) {
+            io.printlnTitle(advisor.advise(worldMap, party, hero, round, advisorRandom).toString());
+        }
 
-            List<Monster> aliveMonsters = worldMap.getAliveMonsters();
-            battleMenu.showBattleStatus(worldMap.getAliveHeroes(), aliveMonsters);
+        HeroActionType actionType = battleMenu.chooseActionForHero(hero, aliveMonsters);
+        if (!running) return false;
 
-            HeroActionType actionType = battleMenu.chooseActionForHero(hero, aliveMonsters);
-            if (!running) return;
+        if (actionType == HeroActionType.SKIP) {
+            events.turnSkipped(hero);
+            return true;
+        }
+
+        HeroActionStrategy strategy = actions.get(actionType);
+        if (strategy == null) {
+            io.printlnFail(MessageUtils.UNKNOWN_COMMAND);
+            return true;
+        }
 
+        boolean turnCompleted = strategy.execute(hero, aliveMonsters, context, io);
+        if (!running) return false;
+
+        // If action failed, let the hero retry (don't recursively restart all heroes)
+        while (!turnCompleted && running) {
+            io.printlnWarning("Action failed. Please choose another action.");
+            actionType = battleMenu.chooseActionForHero(hero, worldMap.getAliveMonsters());
+            if (!running) return false;
+            
             if (actionType == HeroActionType.SKIP) {
-                io.printlnWarning(String.format(MessageUtils.SKIP_TURN, hero.getName()));
-                continue;
+                break; // Allow hero to skip if they want
             }
-
-            HeroActionStrategy strategy = actions.get(actionType);
-            if (strategy == null) {
-                io.printlnFail(MessageUtils.UNKNOWN_COMMAND);
-                continue;
+            
+            strategy = actions.get(actionType);
+            if (strategy != null) {
+                turnCompleted = strategy.execute(hero, aliveMonsters, context, io);
             }
+        }
 
-            boolean turnCompleted = strategy.execute(hero, aliveMonsters, context, io);
-            if (!running) return;
+        cleanupDeadMonstersAndReward(hero);
 
-            // If action failed, let the hero retry (don't recursively restart all heroes)
-            while (!turnCompleted && running) {
-                io.printlnWarning("Action failed. Please choose another action.");
-                actionType = battleMenu.chooseActionForHero(hero, worldMap.getAliveMonsters());
-                if (!running) return;
-                
-                if (actionType == HeroActionType.SKIP) {
-                    break; // Allow hero to skip if they want
-                }
-                
-                strategy = actions.get(actionType);
-                if (strategy != null) {
-                    turnCompleted = strategy.execute(hero, aliveMonsters, context, io);
-                }
+        if (worldMap.isHeroVictory()) return false;
+        return !worldMap.isMonsterVictory() && !worldMap.areAllHeroesDefeated();
+    }
+
+    /**
+     * Plays one round in initiative order: heroes and monsters act when
+     * the scheduler says so until the round's clock ticks run out, then
+     * the surviving heroes recover. Fainted heroes keep their place and
+     * act again once they respawn.
+     */
+    private void runInitiativeRound(Map<HeroActionType, HeroActionStrategy> actions,
+                                    BattleContext context) {
+        long roundEnd = round * GameConstants.INITIATIVE_ROUND_TICKS;
+        while (turns.peekTime() < roundEnd) {
+            if (!running) return;
+            GamePiece piece = turns.next();
+            if (!piece.isAlive()) continue;
+
+            if (piece.isHero()) {
+                if (!playHeroTurn((Hero) piece, actions, context)) return;
+            } else {
+                playMonsterTurn((Monster) piece);
+                if (worldMap.isMonsterVictory() || worldMap.areAllHeroesDefeated()) return;
             }
+        }
+        if (!running) return;
 
-            cleanupDeadMonstersAndReward(hero);
+        for (Hero hero : party.getHeroes()) {
+            if (hero.isAlive()) {
+                hero.recoverAfterRound();
+            }
+        }
+        effects.endRound();
+    }
 
-            if (worldMap.isHeroVictory()) return;
-            if (worldMap.isMonsterVictory() || party.allHeroesDefeated()) return;
+    private void playMonsterTurn(Monster monster) {
+        worldMap.prepareMonsterSteps();
+        MonsterIntent intent = decideMonsterIntent(monster);
+        if (intent.isAttack()) {
+            monsterAttack(monster, random.pick(intent.targets), random, events);
+        } else if (intent.step != null) {
+            moveMonsterInDirection(monster, intent.step);
         }
     }
 
+    /**
+     * Runs the monster phase in two steps. First every monster decides what
+     * it wants to do against the board as it stands, in parallel when there
+     * are many monsters. Then the intents are applied one by one in monster
+     * order, which keeps the dice and the outcome the same as deciding and
+     * acting one monster at a time.
+     */
     private void runMonstersTurn() {
         List<Monster> monsters = new ArrayList<>(worldMap.getAliveMonsters());
+        boolean finished = laneWorkers != null
+                ? runMonstersByLane(monsters)
+                : applyMonsterIntents(monsters, decideMonsterIntents(monsters), random, events);
+        if (!finished) {
+            return;
+        }
 
+        // End-of-round recovery for alive heroes (keeps original feel)
+        for (Hero hero : party.getHeroes()) {
+            if (hero.isAlive()) {
+                hero.recoverAfterRound();
+            }
+        }
+        effects.endRound();
+    }
+
+    private MonsterIntent[] decideMonsterIntents(List<Monster> monsters) {
+        worldMap.prepareMonsterSteps();  // from here on, deciding only reads the board
+        if (monsters.size() < GameConstants.LOV_PARALLEL_MONSTER_THRESHOLD
+                || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            return decideInOrder(monsters);
+        }
+        MonsterIntent[] intents = new MonsterIntent[monsters.size()];
+        IntStream.range(0, intents.length).parallel()
+                .forEach(i -> intents[i] = decideMonsterIntent(monsters.get(i)));
+        return intents;
+    }
+
+    private MonsterIntent[] decideInOrder(List<Monster> monsters) {
+        MonsterIntent[] intents = new MonsterIntent[monsters.size()];
+        for (int i = 0; i < intents.length; i++) {
+            intents[i] = decideMonsterIntent(monsters.get(i));
+        }
+        return intents;
+    }
+
+    /**
+     * Plays the monster phase with each lane group on a laneWorkers thread.
+     * Waiting for every group is the round's barrier.
+     * @return false if the game was stopped meanwhile
+     */
+    private boolean runMonstersByLane(List<Monster> monsters) {
+        int laneCount = worldMap.getLaneCount();
+        List<List<Monster>> byLane = new ArrayList<>(laneCount);
+        GameRandom[] dice = new GameRandom[laneCount];
+        for (int lane = 0; lane < laneCount; lane++) {
+            byLane.add(new ArrayList<>());
+            dice[lane] = random.split();  // per lane, so the shard count never changes a game
+        }
         for (Monster monster : monsters) {
-            if (!running) return;
-            if (!monster.isAlive()) continue;
+            byLane.get(worldMap.getLaneIndex(monster.getCol())).add(monster);
+        }
 
-            // 1. If hero in range, attack
-            List<Hero> targets = worldMap.getHeroesInRange(monster);
-            if (!targets.isEmpty()) {
-                Hero target = targets.get((int) (Math.random() * targets.size()));
-                monsterAttack(monster, target);
-                continue;
-            }
+        long[] eventMarks = new long[laneCount];
+        for (int lane = 0; lane < laneCount; lane++) {
+            eventMarks[lane] = laneEvents[lane].getSequence();
+        }
 
-            // 2. Try to move intelligently (seek heroes)
-            Hero closestHero = worldMap.findClosestHero(monster);
-            if (closestHero != null) {
-                Direction dir = worldMap.findNextStepTowardHero(monster, closestHero);
-                if (dir != null) {
-                    moveMonsterInDirection(monster, dir);
-                    continue;
+        worldMap.prepareMonsterSteps();
+        List<Callable<Boolean>> shards = new ArrayList<>(laneShards);
+        for (int shard = 0; shard < laneShards; shard++) {
+            int firstLane = shard * laneCount / laneShards;
+            int endLane = (shard + 1) * laneCount / laneShards;
+            shards.add(() -> {
+                for (int lane = firstLane; lane < endLane; lane++) {
+                    List<Monster> laneMonsters = byLane.get(lane);
+                    if (!applyMonsterIntents(laneMonsters, decideInOrder(laneMonsters),
+                            dice[lane], laneEvents[lane])) {
+                        return false;
+                    }
                 }
+                return true;
+            });
+        }
+
+        try {
+            boolean finished = true;
+            for (Future<Boolean> shard : laneWorkers.invokeAll(shards)) {
+                finished &= shard.get();
             }
+            for (int lane = 0; lane < laneCount; lane++) {
+                laneEvents[lane].replay(eventMarks[lane], events::append);
+            }
+            return finished;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Monster phase was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Monster phase failed", e.getCause());
+        }
+    }
 
-            // 3. Fallback: just move
+    private MonsterIntent decideMonsterIntent(Monster monster) {
+        // 1. If hero in range, attack
+        List<Hero> targets = worldMap.getHeroesInRange(monster);
+        if (!targets.isEmpty()) {
+            return MonsterIntent.attack(targets);
+        }
+        // 2. Otherwise advance along the shared flow field
+        return MonsterIntent.step(worldMap.findNextMonsterStep(monster));
+    }
 
-            //
-            // To handle monster moves, we check if the monster can move south
-            // In the case it cannot:
-            // 1) Will move laterally 
-            // 2) If there are two obstacles side by side, the monster will continually 
-            // left and right until a hero destroys an obstacle.
-            //
+    /**
+     * Applies the intents in monster order. An intent goes stale when an
+     * earlier monster changed what it was decided on: a hero fainted (fewer
+     * targets, a new flow field) or a monster entered or left a cell next
+     * to it. Stale intents are decided again on the spot.
+     * @return false if the game was stopped meanwhile
+     */
+    private boolean applyMonsterIntents(List<Monster> monsters, MonsterIntent[] intents,
+                                        GameRandom dice, BattleEventLog log) {
+        int cols = worldMap.getCols();
+        BitSet changedCells = new BitSet(worldMap.getRows() * cols);
+        boolean heroFainted = false;
+
+        for (int i = 0; i < intents.length; i++) {
+            if (!running) return false;
+            Monster monster = monsters.get(i);
+            if (!monster.isAlive()) continue;
 
-            int row = monster.getRow();
-            int col = monster.getCol();
-            
-            if(!worldMap.isAccessible(row + 1, col)){  // Check south (row + 1), not north (row - 1)
-                // The left most tiles are 0,3,6
-                if (col%3 == 0) {
-                    moveMonsterInDirection(monster, Direction.RIGHT);
-                }
-                // Otherwise, we will move left
-                else{
-                    moveMonsterInDirection(monster, Direction.LEFT);
-                }
+            MonsterIntent intent = intents[i];
+            if (heroFainted || isNextToChange(monster, changedCells, cols)) {
+                intent = decideMonsterIntent(monster);
+            }
 
-            }else{
-                worldMap.moveMonsterSouth(monster);
+            if (intent.isAttack()) {
+                Hero target = dice.pick(intent.targets);
+                monsterAttack(monster, target, dice, log);
+                heroFainted |= !target.isAlive();
+            } else if (intent.step != null) {
+                int from = monster.getRow() * cols + monster.getCol();
+                moveMonsterInDirection(monster, intent.step);
+                int to = monster.getRow() * cols + monster.getCol();
+                if (to != from) {
+                    changedCells.set(from);
+                    changedCells.set(to);
+                }
             }
         }
+        return true;
+    }
 
-        // End-of-round recovery for alive heroes (keeps original feel)
-        for (Hero hero : party.getHeroes()) {
-            if (hero.isAlive()) {
-                hero.recoverAfterRound();
+    private boolean isNextToChange(Monster monster, BitSet changedCells, int cols) {
+        for (Direction dir : Direction.values()) {
+            int row = monster.getRow() + dir.getRow();
+            int col = monster.getCol() + dir.getCol();
+            if (worldMap.checkBounds(row, col) && changedCells.get(row * cols + col)) {
+                return true;
             }
         }
+        return false;
     }
 
     private void moveMonsterInDirection(Monster monster, Direction dir) {
@@ -260,24 +678,24 @@ public class LegendsOfValorGameImpl implements Game {
         }
     }
 
-    private void monsterAttack(Monster monster, Hero hero) {
+    private void monsterAttack(Monster monster, Hero hero, GameRandom dice, BattleEventLog log) {
         int damage = monster.computeAttackDamage();
-        boolean dodged = heroDodgesWithTerrain(hero);
+        boolean dodged = heroDodgesWithTerrain(hero, dice);
 
         if (dodged) {
-            io.printlnWarning(String.format(MessageUtils.ATTACK_WAS_DODGED, monster.getName(), hero.getName()));
+            log.attackDodged(monster, hero);
             return;
         }
 
         hero.takeDamage(damage);
-        io.printlnWarning(String.format(MessageUtils.SUCCESSFUL_ATTACK, monster.getName(), hero.getName(), damage));
+        log.attackHit(monster, hero, damage);
 
         if (!hero.isAlive()) {
-            io.printlnWarning(String.format(MessageUtils.CHARACTER_FAINTED, hero.getName()));
+            log.fainted(monster, hero);
         }
     }
 
-    private boolean heroDodgesWithTerrain(Hero hero) {
+    private boolean heroDodgesWithTerrain(Hero hero, GameRandom dice) {
         Tile tile = worldMap.getTile(hero.getRow(), hero.getCol());
         double agiMultiplier = (tile != null) ? tile.getAgilityMultiplier() : 1.0;
 
@@ -291,7 +709,7 @@ public class LegendsOfValorGameImpl implements Game {
             chance = GameConstants.MAX_DODGE_CHANCE;
         }
 
-        return Math.random() < chance;
+        return dice.chance(chance);
     }
 
     private void cleanupDeadMonstersAndReward(Hero hero) {
@@ -302,21 +720,60 @@ public class LegendsOfValorGameImpl implements Game {
             }
 
             // Reward the hero who took the action this turn (simple/consistent rule).
-            hero.addGold(monster.getLevel() * GameConstants.LOV_GOLD_PER_MONSTER_LEVEL);
+            int gold = monster.getLevel() * GameConstants.LOV_GOLD_PER_MONSTER_LEVEL;
+            hero.addGold(gold);
             hero.gainExperience(GameConstants.LOV_EXP_PER_MONSTER);
+            events.reward(hero, gold, GameConstants.LOV_EXP_PER_MONSTER);
 
             worldMap.removeMonster(monster);
+            if (turns != null) {
+                turns.remove(monster);
+            }
         }
     }
 
     private void spawnMonstersAllLanes() {
-        // Create one monster per hero (party size should be 3 in LoV).
-        List<Monster> monsters = monsterFactory.createMonstersForParty(party);
-        int lanes = Math.min(LegendsOfValorWorldMap.LANE_COLUMNS.length, monsters.size());
+        // One monster per lane, however many lanes the board has
+        int lanes = worldMap.getLaneCount();
+        List<Monster> monsters = takePreparedWave(lanes);
+        if (monsters == null) {
+            monsters = monsterFactory.createMonstersForParty(party, lanes);
+        }
 
         for (int lane = 0; lane < lanes; lane++) {
-            worldMap.spawnMonster(monsters.get(lane), lane);
+            if (worldMap.spawnMonster(monsters.get(lane), lane) && turns != null) {
+                turns.add(monsters.get(lane));
+            }
         }
+        prepareNextWave(lanes);
+    }
+
+    /**
+     * Takes the wave built in the background if it is ready and still valid.
+     * @return the monsters, or null to build the wave now
+     */
+    private List<Monster> takePreparedWave(int lanes) {
+        AtomicReference<MonsterWave> handoff = nextWave;
+        nextWave = null;
+        if (handoff == null) {
+            return null;
+        }
+        // A builder that finishes after this finds nobody waiting, and its wave is dropped
+        MonsterWave wave = handoff.getAndSet(null);
+        return wave != null ? monsterFactory.takeWave(wave, party.getHighestLevel(), lanes) : null;
+    }
+
+    private void prepareNextWave(int lanes) {
+        if (waveBuilder == null) {
+            return;
+        }
+        final MonsterWave wave = monsterFactory.planWave(party.getHighestLevel(), lanes);
+        final AtomicReference<MonsterWave> handoff = new AtomicReference<>();
+        nextWave = handoff;
+        waveBuilder.execute(() -> {
+            wave.build();
+            handoff.set(wave);
+        });
     }
 
     private void maybeEnterMarket(Hero hero) {
@@ -330,18 +787,12 @@ public class LegendsOfValorGameImpl implements Game {
             return;
         }
 
-        io.printPrompt("Enter market for " + hero.getName() + "? (y/n, q to quit): ");
-        String line = io.readLine();
-        if (line.trim().isEmpty()) {
+        MarketVisitChoice choice = battleMenu.chooseMarketVisit(hero);
+        if (choice == MarketVisitChoice.QUIT) {
+            quit();
             return;
         }
-        char c = Character.toLowerCase(line.trim().charAt(0));
-        if (c == 'q') {
-            io.printlnSuccess("Quitting Legends of Valor. Goodbye!");
-            running = false;
-            return;
-        }
-        if (c != 'y') {
+        if (choice != MarketVisitChoice.ENTER) {
             return;
         }
 
@@ -360,19 +811,11 @@ public class LegendsOfValorGameImpl implements Game {
             if (!hero.isAlive()) {
                 // Revive with full HP/MP
                 hero.revive();
-                // Place back at Nexus
-                worldMap.placeHeroAtNexus(hero, i);
+                // Place back at the Nexus of the hero's home lane
+                int lane = worldMap.getHeroLane(hero);
+                worldMap.placeHeroAtNexus(hero, lane >= 0 ? lane : i % worldMap.getLaneCount());
                 io.printlnWarning(hero.getName() + " has respawned at their Nexus!");
             }
         }
     }
-
-    private boolean wantsQuitThisRound() {
-        io.printPrompt("Press ENTER to continue, or Q to quit: ");
-        String line = io.readLine();
-        String trimmed = line.trim();
-        return (trimmed.equalsIgnoreCase("q"));
-    }
 }
-
-
@@ -0,0 +1,12 @@
+package game.lov;
+
+/**
+ * How a game of Legends of Valor ended
+ */
+public enum LegendsOfValorOutcome {
+    IN_PROGRESS,
+    HEROES_WON,
+    MONSTERS_WON,
+    QUIT,
+    ROUND_LIMIT
+}
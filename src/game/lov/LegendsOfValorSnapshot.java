@@ -0,0 +1,62 @@
+package game.lov;
+
+import battle.effect.StatusEffects;
+import utils.GameRandom;
+import worldMap.LegendsMapSnapshot;
+
+/**
+ * Immutable record of a whole game of Legends of Valor: the board, the
+ * round, the status effects and the random streams. Taken with
+ * {@link LegendsOfValorGameImpl#snapshot()} and put back with {@link LegendsOfValorGameImpl#restore(LegendsOfValorSnapshot)},
+ * after which the game replays exactly as it did from the moment it was taken.
+ *
+ * Automated menus are rewound through their random stream only; any other
+ * state a menu keeps (e.g. a script's position) is not recorded.
+ */
+public final class LegendsOfValorSnapshot {
+
+    final LegendsOfValorGameImpl game;
+    final int round;
+    final LegendsOfValorOutcome outcome;
+    final LegendsMapSnapshot board;
+    final StatusEffects.Snapshot effects;
+    final GameRandom random;
+    final GameRandom spawnRandom;
+
+    /** Stream of an automated menu, or null for an interactive one */
+    final GameRandom menuRandom;
+
+    LegendsOfValorSnapshot(LegendsOfValorGameImpl game,
+                           int round,
+                           LegendsOfValorOutcome outcome,
+                           LegendsMapSnapshot board,
+                           StatusEffects.Snapshot effects,
+                           GameRandom random,
+                           GameRandom spawnRandom,
+                           GameRandom menuRandom) {
+        this.game = game;
+        this.round = round;
+        this.outcome = outcome;
+        this.board = board;
+        this.effects = effects;
+        this.random = random;
+        this.spawnRandom = spawnRandom;
+        this.menuRandom = menuRandom;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public LegendsOfValorOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the board as recorded.
+     * @return the board snapshot
+     */
+    public LegendsMapSnapshot getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,38 @@
+package game.lov;
+
+import hero.Hero;
+import java.util.List;
+import worldMap.enums.Direction;
+
+/**
+ * What a monster means to do on its turn, decided against the board as it
+ * was when the monster phase began: attack one of the heroes in range, or
+ * step in a direction (or wait when there is no step).
+ */
+final class MonsterIntent {
+
+    private static final MonsterIntent WAIT = new MonsterIntent(null, null);
+
+    /** Heroes in range, one of which is attacked; null for a step */
+    final List<Hero> targets;
+
+    /** Step to take when there is nobody to attack; null to wait */
+    final Direction step;
+
+    private MonsterIntent(List<Hero> targets, Direction step) {
+        this.targets = targets;
+        this.step = step;
+    }
+
+    static MonsterIntent attack(List<Hero> targets) {
+        return new MonsterIntent(targets, null);
+    }
+
+    static MonsterIntent step(Direction step) {
+        return step == null ? WAIT : new MonsterIntent(null, step);
+    }
+
+    boolean isAttack() {
+        return targets != null;
+    }
+}
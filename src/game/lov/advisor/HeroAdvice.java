@@ -0,0 +1,65 @@
+package game.lov.advisor;
+
+import hero.Hero;
+import utils.MessageUtils;
+
+/**
+ * The move an {@link MctsHeroAdvisor} recommends for one hero decision,
+ * with the search statistics behind it.
+ */
+public final class HeroAdvice {
+
+    private final Hero hero;
+    private final HeroMove move;
+    private final double score;
+    private final int rollouts;
+    private final long elapsedNanos;
+
+    HeroAdvice(Hero hero, HeroMove move, double score, int rollouts, long elapsedNanos) {
+        this.hero = hero;
+        this.move = move;
+        this.score = score;
+        this.rollouts = rollouts;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Hero getHero() {
+        return hero;
+    }
+
+    public HeroMove getMove() {
+        return move;
+    }
+
+    /**
+     * Gets the average rollout result of the recommended move.
+     * @return 1 for a certain hero win, 0 for a certain loss
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * @return rollouts played for this decision, over all candidate moves
+     */
+    public int getRollouts() {
+        return rollouts;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return rollouts played per second of search, 0 if none were needed
+     */
+    public double getRolloutsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rollouts * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MessageUtils.ADVISOR_HINT,
+                hero.getName(), move, score * 100, rollouts, getRolloutsPerSecond());
+    }
+}
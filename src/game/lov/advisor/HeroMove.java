@@ -0,0 +1,118 @@
+package game.lov.advisor;
+
+import battle.enums.HeroActionType;
+import hero.Hero;
+import monster.Monster;
+import worldMap.LegendsOfValorWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * One concrete option for a hero's turn: an action plus what it is aimed at.
+ *
+ * Attacks and spells name a monster, moves and obstacle removal a direction,
+ * teleports the ally to land next to. Other actions have no target; the
+ * item they use is left to the menu's usual choice.
+ */
+public final class HeroMove {
+
+    private final HeroActionType action;
+    private final Monster target;
+    private final Direction direction;
+    private final Hero ally;
+
+    private HeroMove(HeroActionType action, Monster target, Direction direction, Hero ally) {
+        if (action == null) {
+            throw new IllegalArgumentException("action cannot be null");
+        }
+        this.action = action;
+        this.target = target;
+        this.direction = direction;
+        this.ally = ally;
+    }
+
+    /**
+     * @param action an action without a target (e.g. RECALL, USE_POTION, SKIP)
+     */
+    public static HeroMove of(HeroActionType action) {
+        return new HeroMove(action, null, null, null);
+    }
+
+    /**
+     * @param action ATTACK or CAST_SPELL
+     * @param target the monster to hit
+     */
+    public static HeroMove against(HeroActionType action, Monster target) {
+        return new HeroMove(action, target, null, null);
+    }
+
+    /**
+     * @param action MOVE or REMOVE_OBSTACLE
+     * @param direction where to step or which obstacle to clear
+     */
+    public static HeroMove toward(HeroActionType action, Direction direction) {
+        return new HeroMove(action, null, direction, null);
+    }
+
+    /**
+     * @param ally the hero to teleport next to
+     */
+    public static HeroMove teleportTo(Hero ally) {
+        return new HeroMove(HeroActionType.TELEPORT, null, null, ally);
+    }
+
+    public HeroActionType getAction() {
+        return action;
+    }
+
+    /**
+     * @return the monster to hit, or null
+     */
+    public Monster getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the direction to step or clear, or null
+     */
+    public Direction getDirection() {
+        return direction;
+    }
+
+    /**
+     * @return the ally to teleport to, or null
+     */
+    public Hero getAlly() {
+        return ally;
+    }
+
+    /**
+     * Points this move at the matching pieces of a copied board.
+     * @param original the board this move was found on
+     * @param copy a copy made with {@link LegendsOfValorWorldMap#copy}
+     * @return the same move on the copy
+     */
+    HeroMove onCopy(LegendsOfValorWorldMap original, LegendsOfValorWorldMap copy) {
+        Monster copiedTarget = target != null
+                ? copy.getMonsters().get(original.getMonsters().indexOf(target))
+                : null;
+        Hero copiedAlly = ally != null
+                ? copy.getHeroes().get(original.getHeroes().indexOf(ally))
+                : null;
+        return new HeroMove(action, copiedTarget, direction, copiedAlly);
+    }
+
+    @Override
+    public String toString() {
+        String label = action.getLabel();
+        if (target != null) {
+            return label + " " + target.getName();
+        }
+        if (direction != null) {
+            return label + " " + direction.name();
+        }
+        if (ally != null) {
+            return label + " to " + ally.getName();
+        }
+        return label;
+    }
+}
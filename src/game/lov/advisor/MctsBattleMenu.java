@@ -0,0 +1,46 @@
+package game.lov.advisor;
+
+import hero.Hero;
+import hero.Party;
+import java.util.List;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.LegendsOfValorWorldMap;
+
+/**
+ * Automated Legends of Valor policy that plays whatever an
+ * {@link MctsHeroAdvisor} recommends, one search per hero decision.
+ *
+ * Much slower than the scripted policies (one time budget per decision),
+ * but it plans around dodges, spawns and the monsters' replies.
+ */
+public class MctsBattleMenu extends MoveFollowingBattleMenu {
+
+    private final LegendsOfValorWorldMap board;
+    private final Party party;
+    private final MctsHeroAdvisor advisor;
+
+    /** Round in progress, as last announced through {@link #chooseToQuit(int)} */
+    private int round = 1;
+
+    public MctsBattleMenu(LegendsOfValorWorldMap worldMap, Party party, GameRandom random, MctsHeroAdvisor advisor) {
+        super(worldMap, random);
+        if (party == null || advisor == null) {
+            throw new IllegalArgumentException("party and advisor cannot be null");
+        }
+        this.board = worldMap;
+        this.party = party;
+        this.advisor = advisor;
+    }
+
+    @Override
+    protected HeroMove planMove(Hero hero, List<Monster> monsters) {
+        return advisor.advise(board, party, hero, round, random).getMove();
+    }
+
+    @Override
+    public boolean chooseToQuit(int round) {
+        this.round = round;
+        return super.chooseToQuit(round);
+    }
+}
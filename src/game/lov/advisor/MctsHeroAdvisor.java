@@ -0,0 +1,479 @@
+package game.lov.advisor;
+
+import battle.enums.HeroActionType;
+import game.lov.LegendsOfValorGameImpl;
+import game.lov.LegendsOfValorOutcome;
+import hero.Hero;
+import hero.Party;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import market.model.item.Item;
+import market.model.item.Potion;
+import market.model.item.Spell;
+import monster.Monster;
+import monster.MonsterFactory;
+import utils.GameConstants;
+import utils.GameRandom;
+import utils.MessageUtils;
+import utils.NullIOUtils;
+import worldMap.LegendsOfValorWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * Recommends a move for a Legends of Valor hero with Monte Carlo tree search.
+ *
+ * The root of the tree is the hero's decision: one child per {@link HeroMove}
+ * the hero can make right now. Every iteration picks a child by UCB1, copies
+ * the board and plays the move, then keeps choosing the hero's next moves by
+ * UCB1 down the tree ({@link SearchNode}) until it adds a new node, rushes on
+ * to a few rounds ahead with silent output, and backs the score up the path.
+ * Search is root-parallel: each worker of a fork-join pool grows its own
+ * tree until the time budget runs out, and the recommendation is the move
+ * the workers visited most in total.
+ *
+ * Finished searches are kept in a {@link TranspositionTable} keyed by the
+ * board's Zobrist hash, the hero, the hero's mana and potions, and the
+ * point in the spawn cycle. A position seen before (e.g. asked again after
+ * a failed action, or reached by another order of moves) is answered from
+ * the table without searching, as long as the remembered move is still
+ * one of the hero's options.
+ *
+ * Thread-safe; one advisor can serve several games at once. The board being
+ * advised on must not change while {@link #advise} runs.
+ */
+public class MctsHeroAdvisor {
+
+    // A rollout that ends before a winner is found is scored from the board:
+    // how far the heroes got against how far the monsters got, plus hero HP.
+    private static final double NEUTRAL_SCORE = 0.5;
+    private static final double PROGRESS_WEIGHT = 0.3;
+    private static final double HEALTH_WEIGHT = 0.05;
+
+    private final MonsterFactory monsterFactory;
+    private final long budgetNanos;
+    private final int horizonRounds;
+    private final ForkJoinPool pool;
+    private final int workers;
+
+    /** Results of finished searches, by {@link #positionKey} */
+    private final TranspositionTable<BestMove> table =
+            new TranspositionTable<>(GameConstants.LOV_ADVISOR_TABLE_SIZE);
+    /** Searches stored so far; every table's worth starts a new generation */
+    private final AtomicLong stores = new AtomicLong();
+
+    private final AtomicLong decisions = new AtomicLong();
+    private final AtomicLong tableHits = new AtomicLong();
+    private final AtomicLong rollouts = new AtomicLong();
+    private final AtomicLong searchNanos = new AtomicLong();
+
+    /**
+     * Creates an advisor with the default time budget, using every core.
+     * @param monsterFactory loaded monster templates, for waves spawned during rollouts
+     */
+    public MctsHeroAdvisor(MonsterFactory monsterFactory) {
+        this(monsterFactory, GameConstants.LOV_ADVISOR_BUDGET_MS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an advisor.
+     * @param monsterFactory loaded monster templates, for waves spawned during rollouts
+     * @param budgetMillis thinking time per decision
+     * @param workers number of rollout threads
+     */
+    public MctsHeroAdvisor(MonsterFactory monsterFactory, long budgetMillis, int workers) {
+        if (monsterFactory == null) {
+            throw new IllegalArgumentException("monsterFactory cannot be null");
+        }
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("budgetMillis must be positive");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1");
+        }
+        this.monsterFactory = monsterFactory;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.horizonRounds = GameConstants.LOV_ADVISOR_HORIZON_ROUNDS;
+        this.workers = workers;
+        this.pool = new ForkJoinPool(workers);
+    }
+
+    /**
+     * Searches for the best move of a hero whose turn it is.
+     * @param board the game's board
+     * @param party the game's party, in turn order
+     * @param hero the hero about to act
+     * @param round the round in progress
+     * @param random stream for the search; split once per worker
+     * @return the recommended move
+     */
+    public HeroAdvice advise(LegendsOfValorWorldMap board, Party party, Hero hero, int round, GameRandom random) {
+        long start = System.nanoTime();
+        Root root = new Root(board, party, hero, round);
+
+        List<HeroMove> candidates = findCandidates(board, hero);
+        if (candidates.size() == 1) {
+            return new HeroAdvice(hero, candidates.get(0), NEUTRAL_SCORE, 0, 0);
+        }
+
+        long key = positionKey(board, root, hero);
+        BestMove known = table.get(key);
+        HeroMove knownMove = known != null ? known.find(board, candidates) : null;
+        if (knownMove != null) {
+            decisions.incrementAndGet();
+            tableHits.incrementAndGet();
+            return new HeroAdvice(hero, knownMove, known.score, 0, System.nanoTime() - start);
+        }
+
+        long deadline = start + budgetNanos;
+        List<Callable<SearchStats>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            GameRandom workerRandom = random.split();  // GameRandom is not thread-safe
+            tasks.add(() -> search(root, candidates, workerRandom, deadline));
+        }
+
+        SearchStats total = new SearchStats(candidates.size());
+        try {
+            for (Future<SearchStats> result : pool.invokeAll(tasks)) {
+                total.merge(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Advisor search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Advisor rollout failed", e.getCause());
+        }
+
+        int best = total.mostVisited();
+        // Age entries by how much was stored since, not by round: games advised
+        // at once are on different rounds and would keep evicting each other
+        if (stores.incrementAndGet() % table.getCapacity() == 0) {
+            table.nextGeneration();
+        }
+        table.put(key, new BestMove(board, candidates.get(best), total.mean(best)), total.played);
+        long elapsed = System.nanoTime() - start;
+        decisions.incrementAndGet();
+        rollouts.addAndGet(total.played);
+        searchNanos.addAndGet(elapsed);
+        return new HeroAdvice(hero, candidates.get(best), total.mean(best), total.played, elapsed);
+    }
+
+    /**
+     * Stops the rollout threads; the advisor cannot be used afterwards.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public long getDecisions() {
+        return decisions.get();
+    }
+
+    public long getRollouts() {
+        return rollouts.get();
+    }
+
+    /**
+     * Gets how many decisions were answered from the transposition table without searching.
+     * @return the number of table hits
+     */
+    public long getTableHits() {
+        return tableHits.get();
+    }
+
+    /**
+     * Gets the search speed over every decision so far, to track engine speed across releases.
+     * @return rollouts per second of search time
+     */
+    public double getRolloutsPerSecond() {
+        long nanos = searchNanos.get();
+        return nanos == 0 ? 0 : rollouts.get() * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MessageUtils.ADVISOR_REPORT, getDecisions(), getTableHits(),
+                getRollouts(), getRolloutsPerSecond());
+    }
+
+    // ==================== SEARCH ====================
+
+    private SearchStats search(Root root, List<HeroMove> candidates, GameRandom random, long deadline) {
+        SearchStats stats = new SearchStats(candidates.size());
+        SearchNode[] subtrees = new SearchNode[candidates.size()];
+        for (int i = 0; i < subtrees.length; i++) {
+            subtrees[i] = new SearchNode();
+        }
+        // The n-th playout of every move rolls the same dice (common random numbers),
+        // so moves are compared on equal luck and far fewer playouts tell them apart
+        List<Long> seeds = new ArrayList<>();
+        do {
+            int pick = stats.selectUcb();
+            int playoutIndex = stats.visits[pick];
+            if (playoutIndex == seeds.size()) {
+                seeds.add(random.nextLong());
+            }
+            GameRandom dice = new GameRandom(seeds.get(playoutIndex));
+            stats.record(pick, playout(root, candidates.get(pick), subtrees[pick], dice));
+        } while (System.nanoTime() < deadline);
+        return stats;
+    }
+
+    /**
+     * Plays one move on a copy of the board, follows the tree below it,
+     * then rushes on to the horizon and records the score along the way.
+     * @return the score of the final position
+     */
+    private double playout(Root root, HeroMove move, SearchNode subtree, GameRandom random) {
+        LegendsOfValorWorldMap board = root.board.copy(NullIOUtils.INSTANCE);
+        Party party = new Party(root.partyIds.length);
+        for (int id : root.partyIds) {
+            party.addHero(board.getHeroes().get(id));
+        }
+        Hero hero = party.getHeroes().get(root.heroIndex);
+
+        PlayoutBattleMenu menu = new PlayoutBattleMenu(board, random.split(), hero,
+                move.onCopy(root.board, board), subtree);
+        LegendsOfValorGameImpl game = new LegendsOfValorGameImpl(board, party, menu,
+                monsterFactory.withRandom(random.split()), NullIOUtils.INSTANCE, random.split(),
+                root.round + horizonRounds);
+        game.resume(root.round, root.heroIndex);
+        double score = score(game.getOutcome(), board);
+        for (SearchNode node : menu.getPath()) {
+            node.record(score);
+        }
+        return score;
+    }
+
+    /**
+     * Keys a decision: the board, whose turn it is, how far the round is
+     * into the spawn cycle, which decides when the next wave comes, and the
+     * hero's mana and potions, which decide whether spells and potions are
+     * among the moves.
+     */
+    private static long positionKey(LegendsOfValorWorldMap board, Root root, Hero hero) {
+        int interval = GameConstants.LOV_MONSTER_SPAWN_INTERVAL;
+        long turn = (long) root.partyIds[root.heroIndex] * interval + root.round % interval;
+        long supplies = ((long) hero.getMp() << 20) | countPotions(hero);
+        return board.getZobristHash()
+                ^ ((turn + 1) * 0x9e3779b97f4a7c15L)
+                ^ Long.rotateLeft((supplies + 1) * 0xc2b2ae3d27d4eb4fL, 29);
+    }
+
+    private static double score(LegendsOfValorOutcome outcome, LegendsOfValorWorldMap board) {
+        if (outcome == LegendsOfValorOutcome.HEROES_WON) {
+            return 1.0;
+        }
+        if (outcome == LegendsOfValorOutcome.MONSTERS_WON) {
+            return 0.0;
+        }
+        // Every step and every hit counts, so one move's effect is not lost in the noise
+        double span = board.getHeroNexusRow();
+        double heroAdvance = 0;
+        int hp = 0;
+        int maxHp = 0;
+        for (Hero hero : board.getHeroes()) {
+            heroAdvance += (span - hero.getRow()) / span;
+            hp += hero.getHp();
+            maxHp += hero.getMaxHp();
+        }
+        heroAdvance /= board.getHeroes().size();
+        double monsterAdvance = 0;
+        for (Monster monster : board.getAliveMonsters()) {
+            monsterAdvance += monster.getRow() / span;
+        }
+        monsterAdvance = Math.min(1.0, monsterAdvance / board.getLaneCount());
+        double progress = heroAdvance - monsterAdvance;                // -1 .. 1
+        double health = maxHp == 0 ? 0 : (double) hp / maxHp;          // 0 .. 1
+        return NEUTRAL_SCORE + PROGRESS_WEIGHT * progress + HEALTH_WEIGHT * (health - 0.5);
+    }
+
+    // ==================== CANDIDATE MOVES ====================
+
+    /**
+     * Lists the moves that can succeed for a hero right now. Equipping and
+     * market visits are left to the player.
+     */
+    static List<HeroMove> findCandidates(LegendsOfValorWorldMap board, Hero hero) {
+        List<HeroMove> moves = new ArrayList<>();
+
+        boolean canCast = hasAffordableSpell(hero);
+        for (Monster monster : board.getMonstersInRange(hero)) {
+            if (!monster.isAlive()) {
+                continue;
+            }
+            moves.add(HeroMove.against(HeroActionType.ATTACK, monster));
+            if (canCast) {
+                moves.add(HeroMove.against(HeroActionType.CAST_SPELL, monster));
+            }
+        }
+        for (Direction direction : board.getLegalMoves(hero)) {
+            moves.add(HeroMove.toward(HeroActionType.MOVE, direction));
+        }
+        for (Direction direction : Direction.values()) {
+            int row = hero.getRow() + direction.getRow();
+            int col = hero.getCol() + direction.getCol();
+            if (board.checkBounds(row, col) && board.getTile(row, col).isObstacle()) {
+                moves.add(HeroMove.toward(HeroActionType.REMOVE_OBSTACLE, direction));
+            }
+        }
+        for (Hero ally : board.getTeleportTargets(hero)) {
+            moves.add(HeroMove.teleportTo(ally));
+        }
+        if (hero.getRow() != board.getHeroNexusRow()) {
+            moves.add(HeroMove.of(HeroActionType.RECALL));
+        }
+        if (hasPotion(hero)) {
+            moves.add(HeroMove.of(HeroActionType.USE_POTION));
+        }
+        moves.add(HeroMove.of(HeroActionType.SKIP));
+        return moves;
+    }
+
+    private static boolean hasAffordableSpell(Hero hero) {
+        for (Item item : hero.getInventory()) {
+            if (item instanceof Spell && ((Spell) item).getManaCost() <= hero.getMp()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasPotion(Hero hero) {
+        return countPotions(hero) > 0;
+    }
+
+    private static int countPotions(Hero hero) {
+        int potions = 0;
+        for (Item item : hero.getInventory()) {
+            if (item instanceof Potion) {
+                potions++;
+            }
+        }
+        return potions;
+    }
+
+    // ==================== STATE ====================
+
+    /**
+     * The position being searched, with the hero and party order expressed
+     * as hero ids so every copy of the board can be mapped back.
+     */
+    private static final class Root {
+        final LegendsOfValorWorldMap board;
+        final int round;
+        final int[] partyIds;
+        final int heroIndex;
+
+        Root(LegendsOfValorWorldMap board, Party party, Hero hero, int round) {
+            List<Hero> heroes = party.getHeroes();
+            this.board = board;
+            this.round = round;
+            this.partyIds = new int[heroes.size()];
+            for (int i = 0; i < heroes.size(); i++) {
+                partyIds[i] = board.getHeroes().indexOf(heroes.get(i));
+                if (partyIds[i] < 0) {
+                    throw new IllegalArgumentException("every party hero must be on the board");
+                }
+            }
+            this.heroIndex = heroes.indexOf(hero);
+            if (heroIndex < 0) {
+                throw new IllegalArgumentException("hero must be in the party");
+            }
+        }
+    }
+
+    /**
+     * The move a finished search chose, kept in the table. The move is held
+     * as a {@link MoveKey}, so it can be found again on any board with the
+     * same position, e.g. in another game.
+     */
+    private static final class BestMove {
+        final MoveKey move;
+        final double score;
+
+        BestMove(LegendsOfValorWorldMap board, HeroMove move, double score) {
+            this.move = new MoveKey(board, move);
+            this.score = score;
+        }
+
+        /**
+         * Finds this move among the hero's current options.
+         * @return the matching candidate, or null if the move is not possible here
+         */
+        HeroMove find(LegendsOfValorWorldMap board, List<HeroMove> candidates) {
+            for (HeroMove candidate : candidates) {
+                if (move.equals(new MoveKey(board, candidate))) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Visit counts and summed scores of the root's children, for one worker.
+     */
+    private static final class SearchStats {
+        final int[] visits;
+        final double[] totals;
+        int played;
+
+        SearchStats(int children) {
+            this.visits = new int[children];
+            this.totals = new double[children];
+        }
+
+        int selectUcb() {
+            double logPlayed = Math.log(played);
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < visits.length; i++) {
+                if (visits[i] == 0) {
+                    return i;  // try everything once first
+                }
+                double value = mean(i)
+                        + GameConstants.LOV_ADVISOR_EXPLORATION * Math.sqrt(logPlayed / visits[i]);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        void record(int child, double score) {
+            visits[child]++;
+            totals[child] += score;
+            played++;
+        }
+
+        void merge(SearchStats other) {
+            for (int i = 0; i < visits.length; i++) {
+                visits[i] += other.visits[i];
+                totals[i] += other.totals[i];
+            }
+            played += other.played;
+        }
+
+        double mean(int child) {
+            return visits[child] == 0 ? 0 : totals[child] / visits[child];
+        }
+
+        int mostVisited() {
+            int best = 0;
+            for (int i = 1; i < visits.length; i++) {
+                if (visits[i] > visits[best]
+                        || (visits[i] == visits[best] && mean(i) > mean(best))) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package game.lov.advisor;
+
+import battle.enums.HeroActionType;
+import battle.menu.auto.RushBattleMenu;
+import hero.Hero;
+import java.util.List;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.ILegendsWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * Automated menu that plays a planned {@link HeroMove} when it has one and
+ * falls back to the rush policy otherwise.
+ */
+abstract class MoveFollowingBattleMenu extends RushBattleMenu {
+
+    /** The move being played this turn, or null while rushing */
+    private HeroMove move;
+
+    MoveFollowingBattleMenu(ILegendsWorldMap worldMap, GameRandom random) {
+        super(worldMap, random);
+    }
+
+    /**
+     * Plans the move for a hero's turn.
+     * @return the move, or null to let the rush policy decide
+     */
+    protected abstract HeroMove planMove(Hero hero, List<Monster> monsters);
+
+    @Override
+    protected final HeroActionType decideAction(Hero hero, List<Monster> monsters) {
+        move = planMove(hero, monsters);
+        return move != null ? move.getAction() : super.decideAction(hero, monsters);
+    }
+
+    @Override
+    public Monster chooseMonsterTarget(Hero hero, List<Monster> monsters) {
+        if (move != null && monsters.contains(move.getTarget())) {
+            return move.getTarget();
+        }
+        return super.chooseMonsterTarget(hero, monsters);
+    }
+
+    @Override
+    public Direction chooseMoveDirection(Hero hero, List<Direction> legalMoves) {
+        if (move != null && legalMoves.contains(move.getDirection())) {
+            return move.getDirection();
+        }
+        return super.chooseMoveDirection(hero, legalMoves);
+    }
+
+    @Override
+    public Hero chooseTeleportTarget(Hero hero, List<Hero> candidates) {
+        if (move != null && candidates.contains(move.getAlly())) {
+            return move.getAlly();
+        }
+        return super.chooseTeleportTarget(hero, candidates);
+    }
+
+    @Override
+    public Direction chooseObstacleToRemove(Hero hero, List<Direction> directions) {
+        if (move != null && directions.contains(move.getDirection())) {
+            return move.getDirection();
+        }
+        return super.chooseObstacleToRemove(hero, directions);
+    }
+}
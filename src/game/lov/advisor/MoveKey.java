@@ -0,0 +1,42 @@
+package game.lov.advisor;
+
+import battle.enums.HeroActionType;
+import java.util.Objects;
+import worldMap.LegendsOfValorWorldMap;
+import worldMap.enums.Direction;
+
+/**
+ * Identifies a {@link HeroMove} independently of the board it was found on.
+ * Pieces are held as their index on the board, so the same move on a copy
+ * of the board, or on another board with the same position, has an equal key.
+ */
+final class MoveKey {
+
+    private final HeroActionType action;
+    private final Direction direction;
+    private final int targetId;
+    private final int allyId;
+
+    MoveKey(LegendsOfValorWorldMap board, HeroMove move) {
+        this.action = move.getAction();
+        this.direction = move.getDirection();
+        this.targetId = move.getTarget() != null ? board.getMonsters().indexOf(move.getTarget()) : -1;
+        this.allyId = move.getAlly() != null ? board.getHeroes().indexOf(move.getAlly()) : -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MoveKey)) return false;
+        MoveKey other = (MoveKey) o;
+        return action == other.action
+                && direction == other.direction
+                && targetId == other.targetId
+                && allyId == other.allyId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, direction, targetId, allyId);
+    }
+}
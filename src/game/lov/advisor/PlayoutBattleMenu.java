@@ -0,0 +1,63 @@
+package game.lov.advisor;
+
+import hero.Hero;
+import java.util.ArrayList;
+import java.util.List;
+import monster.Monster;
+import utils.GameRandom;
+import worldMap.LegendsOfValorWorldMap;
+
+/**
+ * Policy of one playout: the searched hero plays the candidate move, then
+ * follows the search tree for its next decisions until it reaches a node
+ * added by this playout, and everyone rushes from there.
+ */
+final class PlayoutBattleMenu extends MoveFollowingBattleMenu {
+
+    private final LegendsOfValorWorldMap board;
+    private final Hero firstHero;
+    private HeroMove firstMove;
+    /** The tree node of the hero's next decision, or null once out of the tree */
+    private SearchNode node;
+    private final List<SearchNode> path = new ArrayList<>();
+
+    /**
+     * @param subtree the node below the root that firstMove leads to
+     */
+    PlayoutBattleMenu(LegendsOfValorWorldMap board, GameRandom random, Hero firstHero, HeroMove firstMove,
+                      SearchNode subtree) {
+        super(board, random);
+        this.board = board;
+        this.firstHero = firstHero;
+        this.firstMove = firstMove;
+        this.node = subtree.isLeaf() ? null : subtree;
+        path.add(subtree);
+    }
+
+    /**
+     * Gets the tree nodes this playout went through, for recording its score.
+     * @return the nodes from the root's child down
+     */
+    List<SearchNode> getPath() {
+        return path;
+    }
+
+    @Override
+    protected HeroMove planMove(Hero hero, List<Monster> monsters) {
+        if (hero != firstHero) {
+            return null;
+        }
+        if (firstMove != null) {
+            HeroMove move = firstMove;
+            firstMove = null;
+            return move;
+        }
+        if (node == null) {
+            return null;
+        }
+        HeroMove move = node.select(board, MctsHeroAdvisor.findCandidates(board, hero), path);
+        SearchNode child = path.get(path.size() - 1);
+        node = child.isLeaf() ? null : child;
+        return move;
+    }
+}
@@ -0,0 +1,74 @@
+package game.lov.advisor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import utils.GameConstants;
+import worldMap.LegendsOfValorWorldMap;
+
+/**
+ * A later decision of the searched hero in an {@link MctsHeroAdvisor}'s tree,
+ * reached by the hero's moves on the path from the root.
+ *
+ * The tree is open loop: the monsters roll different dice in every playout,
+ * so a node stands for a sequence of moves rather than one position, and
+ * only the children whose moves are possible in the current playout compete.
+ * Each node belongs to a single search worker.
+ */
+final class SearchNode {
+
+    private final Map<MoveKey, SearchNode> children = new HashMap<>();
+    private int visits;
+    private double total;
+
+    /**
+     * Picks the hero's move at this node: the first candidate not tried from
+     * here yet, which adds its node to the tree, or else the best child by UCB1.
+     * @param board the playout's board
+     * @param candidates the hero's current options, as from {@link MctsHeroAdvisor#findCandidates}
+     * @param path nodes visited so far in this playout; the chosen child is appended
+     * @return the chosen move
+     */
+    HeroMove select(LegendsOfValorWorldMap board, List<HeroMove> candidates, List<SearchNode> path) {
+        HeroMove bestMove = null;
+        SearchNode bestChild = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(visits);
+        for (HeroMove move : candidates) {
+            MoveKey key = new MoveKey(board, move);
+            SearchNode child = children.get(key);
+            if (child == null) {
+                child = new SearchNode();
+                children.put(key, child);
+                path.add(child);
+                return move;
+            }
+            double value = child.mean()
+                    + GameConstants.LOV_ADVISOR_EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = move;
+                bestChild = child;
+            }
+        }
+        path.add(bestChild);
+        return bestMove;
+    }
+
+    /**
+     * Tells whether this node was just added and has no playouts yet; the
+     * playout that added it leaves the tree here.
+     */
+    boolean isLeaf() {
+        return visits == 0;
+    }
+
+    void record(double score) {
+        visits++;
+        total += score;
+    }
+
+    private double mean() {
+        return visits == 0 ? 0 : total / visits;
+    }
+}
@@ -0,0 +1,194 @@
+package game.lov.advisor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded map from 64-bit position hashes (e.g.
+ * {@link worldMap.LegendsOfValorWorldMap#getZobristHash()}) to whatever a
+ * search learned about the position, so positions already evaluated are
+ * not searched again. With a marker value it doubles as a duplicate filter
+ * when sampling positions.
+ *
+ * The table is a fixed array of small buckets. When a bucket is full a new
+ * entry replaces the least valuable one: entries from older generations go
+ * first (see {@link #nextGeneration()}), then the one with the least effort
+ * behind it. Lookups and stores are lock-free and safe from any number of
+ * threads; a store that races with another on the same slot may be lost,
+ * which only costs a repeated search.
+ *
+ * @param <V> what is remembered per position; should be immutable
+ */
+public class TranspositionTable<V> {
+
+    /** Slots per bucket; a key can only live in its own bucket */
+    private static final int WAYS = 4;
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int bucketMask;
+
+    private volatile int generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates an empty table.
+     * @param capacity number of positions to hold; rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, (capacity + WAYS - 1) / WAYS) * 2 - 1);
+        this.slots = new AtomicReferenceArray<>(buckets * WAYS);
+        this.bucketMask = buckets - 1;
+    }
+
+    /**
+     * Looks a position up.
+     * @param key the position's hash
+     * @return what was stored for it, or null
+     */
+    public V get(long key) {
+        int base = bucketOf(key);
+        for (int way = 0; way < WAYS; way++) {
+            Entry<V> entry = slots.get(base + way);
+            if (entry != null && entry.key == key) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Remembers a position, replacing what was stored for it.
+     * @param key the position's hash
+     * @param value what was learned
+     * @param effort how much work the value cost (e.g. rollouts); costly entries are evicted last
+     */
+    public void put(long key, V value, int effort) {
+        store(key, value, effort, true);
+    }
+
+    /**
+     * Remembers a position unless it is already known, e.g. to drop
+     * duplicate positions while sampling.
+     * @param key the position's hash
+     * @param value what to store if the position is new
+     * @param effort how much work the value cost
+     * @return the value already stored, or null if the position was new
+     */
+    public V putIfAbsent(long key, V value, int effort) {
+        return store(key, value, effort, false);
+    }
+
+    /**
+     * Starts a new generation: everything stored so far becomes the first to
+     * be evicted, e.g. once as many entries as the table holds were stored since.
+     */
+    public void nextGeneration() {
+        generation++;
+    }
+
+    /**
+     * Forgets every position; the counters are kept.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * @return the number of positions the table can hold
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    // ==================== SLOTS ====================
+
+    private V store(long key, V value, int effort, boolean replace) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+        int base = bucketOf(key);
+        int currentGeneration = generation;
+        Entry<V> fresh = new Entry<>(key, value, effort, currentGeneration);
+
+        int victim = -1;
+        Entry<V> victimEntry = null;
+        for (int way = 0; way < WAYS; way++) {
+            Entry<V> entry = slots.get(base + way);
+            if (entry != null && entry.key == key) {
+                if (!replace) {
+                    return entry.value;
+                }
+                slots.compareAndSet(base + way, entry, fresh);
+                return null;
+            }
+            if (victim < 0 || isWorth(victimEntry, entry, currentGeneration)) {
+                victim = base + way;
+                victimEntry = entry;
+            }
+        }
+        if (slots.compareAndSet(victim, victimEntry, fresh) && victimEntry != null) {
+            evictions.incrementAndGet();
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a slot is a better victim than the current pick: an
+     * empty slot beats everything, then an older generation, then less effort.
+     */
+    private static boolean isWorth(Entry<?> pick, Entry<?> candidate, int currentGeneration) {
+        if (pick == null) {
+            return false;
+        }
+        if (candidate == null) {
+            return true;
+        }
+        boolean pickStale = pick.generation != currentGeneration;
+        boolean candidateStale = candidate.generation != currentGeneration;
+        if (pickStale != candidateStale) {
+            return candidateStale;
+        }
+        return candidate.effort < pick.effort;
+    }
+
+    private int bucketOf(long key) {
+        // The low bits of a Zobrist hash are as random as the high ones
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * WAYS;
+    }
+
+    private static final class Entry<V> {
+        final long key;
+        final V value;
+        final int effort;
+        final int generation;
+
+        Entry(long key, V value, int effort, int generation) {
+            this.key = key;
+            this.value = value;
+            this.effort = effort;
+            this.generation = generation;
+        }
+    }
+}
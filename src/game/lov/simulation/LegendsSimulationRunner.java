@@ -0,0 +1,183 @@
+package game.lov.simulation;
+
+import battle.menu.HeroPolicy;
+import game.lov.LegendsOfValorGameFactory;
+import game.lov.LegendsOfValorGameImpl;
+import hero.Hero;
+import hero.Party;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import upload.GameDataRepository;
+import upload.HeroRoster;
+import utils.GameConstants;
+import utils.GameRandom;
+import utils.NullIOUtils;
+import worldMap.LegendsMapConfig;
+
+/**
+ * Plays many complete Legends of Valor games headless, in parallel, and
+ * reports outcomes and throughput.
+ *
+ * All data files are read once up front; every game then builds its own
+ * heroes, board and monsters from that shared read-only data, so games never
+ * touch the disk or each other. Each game is seeded from the run seed and its
+ * index, which makes a run reproducible regardless of thread count, and any
+ * single game replayable on its own.
+ */
+public class LegendsSimulationRunner {
+
+    private final LegendsOfValorGameFactory gameFactory;
+    private final HeroRoster roster;
+    private final HeroPolicy heroPolicy;
+    private final int maxRounds;
+    private final int threads;
+
+    /**
+     * Creates a runner that uses every available core.
+     * @param mapConfig layout of the boards to play on
+     * @param heroPolicy builds the automated menu for each game's heroes
+     * @param maxRounds rounds after which a game is called a draw
+     */
+    public LegendsSimulationRunner(LegendsMapConfig mapConfig, HeroPolicy heroPolicy, int maxRounds) {
+        this(mapConfig, heroPolicy, maxRounds, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a runner.
+     * @param mapConfig layout of the boards to play on
+     * @param heroPolicy builds the automated menu for each game's heroes
+     * @param maxRounds rounds after which a game is called a draw
+     * @param threads number of worker threads
+     */
+    public LegendsSimulationRunner(LegendsMapConfig mapConfig, HeroPolicy heroPolicy, int maxRounds, int threads) {
+        this(GameDataRepository.load(), mapConfig, heroPolicy, maxRounds, threads);
+    }
+
+    /**
+     * Creates a runner over game data that is already loaded.
+     * @param data the heroes, monsters and items read at startup
+     * @param mapConfig layout of the boards to play on
+     * @param heroPolicy builds the automated menu for each game's heroes
+     * @param maxRounds rounds after which a game is called a draw
+     * @param threads number of worker threads
+     */
+    public LegendsSimulationRunner(GameDataRepository data, LegendsMapConfig mapConfig,
+                                   HeroPolicy heroPolicy, int maxRounds, int threads) {
+        if (heroPolicy == null) {
+            throw new IllegalArgumentException("heroPolicy cannot be null");
+        }
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("maxRounds must be at least 1");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        this.gameFactory = new LegendsOfValorGameFactory(data, mapConfig, false, false);
+        this.roster = data.getHeroRoster();
+        this.heroPolicy = heroPolicy;
+        this.maxRounds = maxRounds;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays every game's monster phases sharded by lane, see
+     * {@link LegendsOfValorGameImpl#setLaneWorkers}. Lane groups of all
+     * games share the workers.
+     * @param workers where the lane groups run, owned by the caller; null to stop sharding
+     * @param shards number of lane groups per game
+     */
+    public void setLaneWorkers(ExecutorService workers, int shards) {
+        gameFactory.setLaneWorkers(workers, shards);
+    }
+
+    /**
+     * Builds every game's monster waves in the background, see
+     * {@link LegendsOfValorGameImpl#setWaveBuilder}. Results do not change.
+     * @param builder where waves are built, owned by the caller; null to build waves when they spawn
+     */
+    public void setWaveBuilder(Executor builder) {
+        gameFactory.setWaveBuilder(builder);
+    }
+
+    /**
+     * Plays a batch of games and waits for all of them.
+     * @param games number of games to play
+     * @param seed seed of the whole run
+     * @return the combined results
+     */
+    public SimulationReport run(int games, long seed) {
+        if (games < 1) {
+            throw new IllegalArgumentException("games must be at least 1");
+        }
+
+        // Derive every game's seed up front so results don't depend on scheduling
+        GameRandom seeds = new GameRandom(seed);
+        long[] gameSeeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            gameSeeds[i] = seeds.nextLong();
+        }
+
+        int workers = Math.min(threads, games);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        long startNanos = System.nanoTime();
+        try {
+            List<Future<SimulationTally>> batches = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                int from = (int) ((long) games * w / workers);
+                int to = (int) ((long) games * (w + 1) / workers);
+                batches.add(pool.submit(() -> playBatch(gameSeeds, from, to)));
+            }
+
+            SimulationTally total = new SimulationTally();
+            for (Future<SimulationTally> batch : batches) {
+                total.merge(batch.get());
+            }
+            return new SimulationReport(total, System.nanoTime() - startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private SimulationTally playBatch(long[] gameSeeds, int from, int to) {
+        SimulationTally tally = new SimulationTally();
+        for (int i = from; i < to; i++) {
+            LegendsOfValorGameImpl game = createGame(gameSeeds[i]);
+            try {
+                game.start();
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Game " + i + " (seed " + gameSeeds[i] + ") failed", e);
+            }
+            tally.record(game.getOutcome(), game.getRound());
+        }
+        return tally;
+    }
+
+    /**
+     * Builds one game exactly as a run with this seed would, e.g. to replay a failing game.
+     * @param seed the game's seed
+     * @return the game, ready to start
+     */
+    public LegendsOfValorGameImpl createGame(long seed) {
+        GameRandom random = new GameRandom(seed);
+
+        // A random party from the full roster, so runs cover every hero
+        List<Hero> heroes = roster.createHeroes();
+        random.split().shuffle(heroes);
+        Party party = new Party(GameConstants.LOV_HEROES_PER_TEAM);
+        for (int i = 0; i < GameConstants.LOV_HEROES_PER_TEAM && i < heroes.size(); i++) {
+            party.addHero(heroes.get(i));
+        }
+
+        return gameFactory.createGame(party, heroPolicy, NullIOUtils.INSTANCE, random, maxRounds);
+    }
+}
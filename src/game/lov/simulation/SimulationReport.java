@@ -0,0 +1,112 @@
+package game.lov.simulation;
+
+import utils.MessageUtils;
+
+/**
+ * Immutable summary of a simulation run: outcomes, game length and throughput.
+ */
+public final class SimulationReport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int games;
+    private final int heroWins;
+    private final int monsterWins;
+    private final int roundLimits;
+    private final long totalRounds;
+    private final int minRounds;
+    private final int maxRounds;
+    private final long elapsedNanos;
+
+    SimulationReport(SimulationTally tally, long elapsedNanos) {
+        this.games = tally.getGames();
+        this.heroWins = tally.getHeroWins();
+        this.monsterWins = tally.getMonsterWins();
+        this.roundLimits = tally.getRoundLimits();
+        this.totalRounds = tally.getTotalRounds();
+        this.minRounds = tally.getMinRounds();
+        this.maxRounds = tally.getMaxRounds();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getHeroWins() {
+        return heroWins;
+    }
+
+    public int getMonsterWins() {
+        return monsterWins;
+    }
+
+    /**
+     * @return games stopped by the round limit before either side won
+     */
+    public int getRoundLimits() {
+        return roundLimits;
+    }
+
+    public double getHeroWinRate() {
+        return rate(heroWins);
+    }
+
+    public double getMonsterWinRate() {
+        return rate(monsterWins);
+    }
+
+    public double getRoundLimitRate() {
+        return rate(roundLimits);
+    }
+
+    public double getAverageRounds() {
+        return games == 0 ? 0.0 : (double) totalRounds / games;
+    }
+
+    public int getMinRounds() {
+        return minRounds;
+    }
+
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+
+    /**
+     * @return wall-clock time of the whole run, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Gets the wall-clock cost of one game, which shrinks as more cores are used.
+     * @return milliseconds of run time per game
+     */
+    public double getMillisPerGame() {
+        return games == 0 ? 0.0 : elapsedNanos / 1_000_000.0 / games;
+    }
+
+    private double rate(int count) {
+        return games == 0 ? 0.0 : (double) count / games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(MessageUtils.SIMULATION_REPORT,
+                games,
+                elapsedNanos / NANOS_PER_SECOND,
+                getGamesPerSecond() * 60,
+                getMillisPerGame(),
+                getHeroWinRate() * 100,
+                getMonsterWinRate() * 100,
+                getRoundLimitRate() * 100,
+                getAverageRounds(),
+                minRounds,
+                maxRounds);
+    }
+}
@@ -0,0 +1,76 @@
+package game.lov.simulation;
+
+import game.lov.LegendsOfValorOutcome;
+
+/**
+ * Running counts for a batch of simulated games.
+ * Each worker thread fills its own tally; they are merged once all games finish.
+ */
+final class SimulationTally {
+
+    private int games;
+    private int heroWins;
+    private int monsterWins;
+    private int roundLimits;
+    private long totalRounds;
+    private int minRounds = Integer.MAX_VALUE;
+    private int maxRounds;
+
+    void record(LegendsOfValorOutcome outcome, int rounds) {
+        games++;
+        switch (outcome) {
+            case HEROES_WON:
+                heroWins++;
+                break;
+            case MONSTERS_WON:
+                monsterWins++;
+                break;
+            case ROUND_LIMIT:
+                roundLimits++;
+                break;
+            default:
+                throw new IllegalStateException("Simulated game ended unexpectedly: " + outcome);
+        }
+        totalRounds += rounds;
+        minRounds = Math.min(minRounds, rounds);
+        maxRounds = Math.max(maxRounds, rounds);
+    }
+
+    void merge(SimulationTally other) {
+        games += other.games;
+        heroWins += other.heroWins;
+        monsterWins += other.monsterWins;
+        roundLimits += other.roundLimits;
+        totalRounds += other.totalRounds;
+        minRounds = Math.min(minRounds, other.minRounds);
+        maxRounds = Math.max(maxRounds, other.maxRounds);
+    }
+
+    int getGames() {
+        return games;
+    }
+
+    int getHeroWins() {
+        return heroWins;
+    }
+
+    int getMonsterWins() {
+        return monsterWins;
+    }
+
+    int getRoundLimits() {
+        return roundLimits;
+    }
+
+    long getTotalRounds() {
+        return totalRounds;
+    }
+
+    int getMinRounds() {
+        return games == 0 ? 0 : minRounds;
+    }
+
+    int getMaxRounds() {
+        return maxRounds;
+    }
+}
@@ -1,22 +1,28 @@
 package game.mh;
 
 import battle.engine.BattleEngine;
+import battle.engine.BattleEngineImpl;
+import battle.menu.auto.AutoBattleMenu;
 import game.Game;
 import hero.Hero;
+import hero.HeroSnapshot;
 import hero.Party;
 import market.ui.MarketMenuImpl;
 import market.model.Market;
+import market.model.MarketSnapshot;
 import market.ui.MarketMenu;
 import market.service.MarketService;
 import market.service.MarketServiceImpl;
 import utils.MessageUtils;
 import utils.GameConstants;
+import utils.GameRandom;
 import utils.IOUtils;
 import worldMap.enums.Direction;
 import worldMap.Tile;
 import worldMap.enums.TileType;
 import worldMap.IWorldMap;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static utils.ConsoleColors.*;
@@ -30,16 +36,37 @@ public class MonstersAndHeroesCommandGameImpl implements MHCommandGame {
     private final Party party;
     private final BattleEngine battleEngine;
     private final IOUtils io;
+    private final GameRandom random;
     private boolean running = false;
 
+    /** Markets on the map, in board order */
+    private final List<Market> markets;
+
     public MonstersAndHeroesCommandGameImpl(IWorldMap worldMap,
                                             Party party,
                                             BattleEngine battleEngine,
-                                            IOUtils ioUtils) {
+                                            IOUtils ioUtils,
+                                            GameRandom random) {
         this.worldMap = worldMap;
         this.party = party;
         this.battleEngine = battleEngine;
         this.io = ioUtils;
+        this.random = random;
+        this.markets = findMarkets(worldMap);
+    }
+
+    private static List<Market> findMarkets(IWorldMap worldMap) {
+        List<Market> found = new ArrayList<>();
+        int size = worldMap.getSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                Market market = worldMap.getTile(row, col).getMarket();
+                if (market != null) {
+                    found.add(market);
+                }
+            }
+        }
+        return found;
     }
 
     @Override
@@ -100,7 +127,7 @@ public class MonstersAndHeroesCommandGameImpl implements MHCommandGame {
     }
 
     private void startBattle() {
-        double rollDice = Math.random();
+        double rollDice = random.nextDouble();
         if (rollDice <= GameConstants.BATTLE_PROBABILITY) {
             io.printlnHeader(MessageUtils.BATTLE_START_MESSAGE);
             boolean heroesWon = battleEngine.runBattle(party, worldMap);
@@ -169,6 +196,83 @@ public class MonstersAndHeroesCommandGameImpl implements MHCommandGame {
         }
     }
 
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Records the game between commands: the party's position, every hero
+     * with their items, every market's stock, the encounter random stream
+     * and the streams of the battle engine, its monster factory and an
+     * automated battle menu.
+     * Unchanged heroes and markets share their previous snapshots.
+     * @return the snapshot
+     */
+    public MonstersAndHeroesSnapshot snapshot() {
+        List<Hero> heroes = party.getHeroes();
+        HeroSnapshot[] heroStates = new HeroSnapshot[heroes.size()];
+        for (int i = 0; i < heroStates.length; i++) {
+            heroStates[i] = heroes.get(i).snapshot();
+        }
+        MarketSnapshot[] marketStates = new MarketSnapshot[markets.size()];
+        for (int i = 0; i < marketStates.length; i++) {
+            marketStates[i] = markets.get(i).snapshot();
+        }
+        BattleEngineImpl engine = engineImpl();
+        GameRandom menuRandom = menuRandom();
+        return new MonstersAndHeroesSnapshot(this, party.getRow(), party.getCol(),
+                heroStates, marketStates, random.copy(),
+                engine != null ? engine.getRandom().copy() : null,
+                engine != null ? engine.getMonsterFactory().getRandom().copy() : null,
+                menuRandom != null ? menuRandom.copy() : null);
+    }
+
+    /**
+     * Puts the game back as recorded, in place. The party must still hold
+     * the same heroes.
+     * @param snapshot a snapshot of this game
+     */
+    public void restore(MonstersAndHeroesSnapshot snapshot) {
+        if (snapshot.game != this) {
+            throw new IllegalArgumentException("Snapshot belongs to another game");
+        }
+        List<Hero> heroes = party.getHeroes();
+        if (heroes.size() != snapshot.heroes.length) {
+            throw new IllegalStateException("The party changed since the snapshot");
+        }
+        for (int i = 0; i < snapshot.heroes.length; i++) {
+            heroes.get(i).restore(snapshot.heroes[i]);
+        }
+        for (MarketSnapshot state : snapshot.markets) {
+            state.getMarket().restore(state);
+        }
+        party.setPosition(snapshot.partyRow, snapshot.partyCol);
+        random.restore(snapshot.random);
+        BattleEngineImpl engine = engineImpl();
+        if (snapshot.battleRandom != null) {
+            engine.getRandom().restore(snapshot.battleRandom);
+            engine.getMonsterFactory().getRandom().restore(snapshot.spawnRandom);
+        }
+        if (snapshot.menuRandom != null) {
+            menuRandom().restore(snapshot.menuRandom);
+        }
+    }
+
+    /**
+     * Gets the battle engine if it is the standard one, whose streams can be recorded.
+     */
+    private BattleEngineImpl engineImpl() {
+        return battleEngine instanceof BattleEngineImpl ? (BattleEngineImpl) battleEngine : null;
+    }
+
+    /**
+     * Gets the random stream of an automated battle menu; an interactive menu has none.
+     */
+    private GameRandom menuRandom() {
+        BattleEngineImpl engine = engineImpl();
+        return engine != null && engine.getBattleMenu() instanceof AutoBattleMenu
+                ? ((AutoBattleMenu) engine.getBattleMenu()).getRandom()
+                : null;
+    }
+
     private char readCommandChar() {
         String line = io.readLine();
         while (line == null || line.isEmpty()) {
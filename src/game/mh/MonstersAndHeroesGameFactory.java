@@ -1,6 +1,5 @@
 package game.mh;
 
-import battle.engine.BattleEngine;
 import battle.engine.BattleEngineImpl;
 import battle.menu.BattleMenu;
 import battle.menu.BattleMenuImpl;
@@ -12,7 +11,9 @@ import hero.Party;
 import java.util.List;
 import market.service.MarketFactory;
 import monster.MonsterFactory;
+import upload.GameDataRepository;
 import utils.GameConstants;
+import utils.GameRandom;
 import utils.IOUtils;
 import worldMap.MonstersAndHeroesWorldMap;
 
@@ -23,8 +24,54 @@ import worldMap.MonstersAndHeroesWorldMap;
 
 public class MonstersAndHeroesGameFactory implements GameFactory {
 
+    /** Loaded once; each game gets market and monster factories over it */
+    private final GameDataRepository data;
+
+    /** Whether battles order turns by initiative instead of side by side */
+    private final boolean initiativeTurns;
+
+    /** Whether battles are resolved in bulk, every hero attacking without the menu */
+    private final boolean massBattles;
+
+    public MonstersAndHeroesGameFactory() {
+        this(false);
+    }
+
+    /**
+     * Creates a factory whose battles can order turns by initiative.
+     * @param initiativeTurns whether quicker heroes and monsters act first and more often
+     */
+    public MonstersAndHeroesGameFactory(boolean initiativeTurns) {
+        this(GameDataRepository.load(), initiativeTurns);
+    }
+
+    /**
+     * Creates a factory over game data that is already loaded.
+     * @param data the heroes, monsters and items read at startup
+     * @param initiativeTurns whether quicker heroes and monsters act first and more often
+     */
+    public MonstersAndHeroesGameFactory(GameDataRepository data, boolean initiativeTurns) {
+        this(data, initiativeTurns, false);
+    }
+
+    /**
+     * Creates a factory whose battles can be resolved in bulk by a
+     * {@link battle.engine.MassBattle}, for very large parties and waves.
+     * @param data the heroes, monsters and items read at startup
+     * @param initiativeTurns whether quicker heroes and monsters act first and more often
+     * @param massBattles whether every hero attacks the weakest monster without asking, all at once
+     */
+    public MonstersAndHeroesGameFactory(GameDataRepository data, boolean initiativeTurns, boolean massBattles) {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        this.data = data;
+        this.initiativeTurns = initiativeTurns;
+        this.massBattles = massBattles;
+    }
+
     @Override
-    public Game createGame(IOUtils ioUtils, List<Hero> availableHeroes) {
+    public Game createGame(IOUtils ioUtils, List<Hero> availableHeroes, GameRandom random) {
         Party party = PartyFactoryUtil.chooseParty(
                 availableHeroes, ioUtils,
                 GameConstants.PARTY_DEFAULT_MIN_SIZE,
@@ -32,14 +79,17 @@ public class MonstersAndHeroesGameFactory implements GameFactory {
         );
         party.setPosition(GameConstants.PARTY_INITIAL_ROW_POSITION, GameConstants.PARTY_INITIAL_COL_POSITION);
 
-        MarketFactory marketFactory = new MarketFactory();
+        // One stream per subsystem, always split in this order so a seed replays the same game
+        MarketFactory marketFactory = new MarketFactory(data, random.split());
         MonstersAndHeroesWorldMap worldMap =
-                new MonstersAndHeroesWorldMap(GameConstants.WORLD_MAP_SIZE, marketFactory, ioUtils);
+                new MonstersAndHeroesWorldMap(GameConstants.WORLD_MAP_SIZE, marketFactory, ioUtils, random.split());
 
         BattleMenu battleMenu = new BattleMenuImpl(ioUtils);
-        MonsterFactory monsterFactory = new MonsterFactory();
-        BattleEngine battleEngine = new BattleEngineImpl(battleMenu, ioUtils, monsterFactory);
+        MonsterFactory monsterFactory = new MonsterFactory(data, random.split());
+        BattleEngineImpl battleEngine = new BattleEngineImpl(battleMenu, ioUtils, monsterFactory, random.split());
+        battleEngine.setInitiativeTurns(initiativeTurns);
+        battleEngine.setMassBattleMode(massBattles);
 
-        return new MonstersAndHeroesCommandGameImpl(worldMap, party, battleEngine, ioUtils);
+        return new MonstersAndHeroesCommandGameImpl(worldMap, party, battleEngine, ioUtils, random.split());
     }
 }
@@ -0,0 +1,61 @@
+package game.mh;
+
+import hero.HeroSnapshot;
+import market.model.MarketSnapshot;
+import utils.GameRandom;
+
+/**
+ * Immutable record of a game of Monsters and Heroes between commands: the
+ * party's position, every hero, every market, the encounter random stream
+ * and the streams battles draw from (battle dice, monster picks and an
+ * automated menu's choices). Taken with
+ * {@link MonstersAndHeroesCommandGameImpl#snapshot()} and put back with
+ * {@link MonstersAndHeroesCommandGameImpl#restore(MonstersAndHeroesSnapshot)},
+ * so replaying the same commands meets the same monsters and rolls the
+ * same dice.
+ *
+ * Battles run to completion inside one command, so none is ever in
+ * progress. The map's own streams are spent laying out the tiles and
+ * stocking the markets when the map is built, and need no recording.
+ */
+public final class MonstersAndHeroesSnapshot {
+
+    final MonstersAndHeroesCommandGameImpl game;
+    final int partyRow;
+    final int partyCol;
+    final HeroSnapshot[] heroes;
+    final MarketSnapshot[] markets;
+    final GameRandom random;
+    /** Null when the game's engine or menu keeps no stream of its own */
+    final GameRandom battleRandom;
+    final GameRandom spawnRandom;
+    final GameRandom menuRandom;
+
+    MonstersAndHeroesSnapshot(MonstersAndHeroesCommandGameImpl game,
+                              int partyRow,
+                              int partyCol,
+                              HeroSnapshot[] heroes,
+                              MarketSnapshot[] markets,
+                              GameRandom random,
+                              GameRandom battleRandom,
+                              GameRandom spawnRandom,
+                              GameRandom menuRandom) {
+        this.game = game;
+        this.partyRow = partyRow;
+        this.partyCol = partyCol;
+        this.heroes = heroes;
+        this.markets = markets;
+        this.random = random;
+        this.battleRandom = battleRandom;
+        this.spawnRandom = spawnRandom;
+        this.menuRandom = menuRandom;
+    }
+
+    public int getPartyRow() {
+        return partyRow;
+    }
+
+    public int getPartyCol() {
+        return partyCol;
+    }
+}
@@ -1,6 +1,7 @@
 package hero;
 
 import entity.GamePiece;
+import entity.HealthListener;
 import hero.enums.HeroSkill;
 import java.util.List;
 import java.util.Set;
@@ -8,6 +9,7 @@ import market.model.item.Armor;
 import market.model.item.Item;
 import market.model.item.Weapon;
 import utils.GameConstants;
+import utils.GameRandom;
 import static utils.GameConstants.*;
 
 /**
@@ -38,6 +40,11 @@ public abstract class Hero implements GamePiece {
     private int row;
     private int col;
 
+    private HealthListener healthListener;
+
+    /** Last snapshot taken, handed out again while the hero does not change */
+    private HeroSnapshot lastSnapshot;
+
     protected Hero(String name,
                    int level,
                    int strength,
@@ -60,6 +67,52 @@ public abstract class Hero implements GamePiece {
         applyInitialFavoredSkills();
     }
 
+    /**
+     * Copies another hero for search and what-if play: stats, position,
+     * gold and every item are duplicated, so using up the copy's items or
+     * gold leaves the original untouched. Favored skills are not applied
+     * again and the health listener is not copied.
+     * @param other the hero to copy
+     */
+    protected Hero(Hero other) {
+        this.name = other.name;
+        this.level = other.level;
+        this.experience = other.experience;
+        this.hp = other.hp;
+        this.mp = other.mp;
+        this.maxMp = other.maxMp;
+        this.strength = other.strength;
+        this.dexterity = other.dexterity;
+        this.agility = other.agility;
+        this.wallet = other.wallet.copy();
+        this.inventory = new Inventory();
+        for (Item item : other.inventory.getItems()) {
+            Item copy = item.copy();
+            inventory.addItem(copy);
+            // Equipped gear stays in the inventory; keep pointing at the copied instance
+            if (item == other.equippedWeapon) {
+                this.equippedWeapon = (Weapon) copy;
+            }
+            if (item == other.equippedArmor) {
+                this.equippedArmor = (Armor) copy;
+            }
+        }
+        if (other.equippedWeapon != null && this.equippedWeapon == null) {
+            this.equippedWeapon = other.equippedWeapon.copy();
+        }
+        if (other.equippedArmor != null && this.equippedArmor == null) {
+            this.equippedArmor = other.equippedArmor.copy();
+        }
+        this.row = other.row;
+        this.col = other.col;
+    }
+
+    /**
+     * Creates an independent copy of this hero; see {@link #Hero(Hero)}.
+     * @return the copy
+     */
+    public abstract Hero copy();
+
 
     protected abstract Set<HeroSkill> getFavoredSkills();
 
@@ -120,7 +173,7 @@ public abstract class Hero implements GamePiece {
         dexterity = applyLevelUpToStat(dexterity, isDexterityFavored());
         agility = applyLevelUpToStat(agility, isAgilityFavored());
 
-        hp = computeHpForLevel(level);
+        changeHp(computeHpForLevel(level));
         mp = (int) Math.round(mp * HERO_LEVEL_UP_MP_MULTIPLIER);
     }
 
@@ -137,10 +190,7 @@ public abstract class Hero implements GamePiece {
     public void recoverAfterRound() {
         int maxHp = level * HERO_HP_PER_LEVEL;
 
-        hp = (int) Math.round(hp * HERO_ROUND_RECOVERY_MULTIPLIER);
-        if (hp > maxHp) {
-            hp = maxHp;
-        }
+        changeHp(Math.min(maxHp, (int) Math.round(hp * HERO_ROUND_RECOVERY_MULTIPLIER)));
 
         mp = (int) Math.round(mp * HERO_ROUND_RECOVERY_MULTIPLIER);
     }
@@ -158,8 +208,8 @@ public abstract class Hero implements GamePiece {
         return chance;
     }
 
-    public boolean dodgesAttack() {
-        return Math.random() < getDodgeChance();
+    public boolean dodgesAttack(GameRandom random) {
+        return random.chance(getDodgeChance());
     }
 
     public boolean isAlive() {
@@ -184,14 +234,14 @@ public abstract class Hero implements GamePiece {
         }
 
         // Always apply damage
-        hp = Math.max(0, hp - effectiveDamage);
+        changeHp(Math.max(0, hp - effectiveDamage));
     }
 
     /**
      * Revives the hero with full HP and MP (used for Nexus respawn in LoV).
      */
     public void revive() {
-        hp = computeHpForLevel(level);
+        changeHp(computeHpForLevel(level));
         mp = getMaxMp();
     }
 
@@ -250,6 +300,18 @@ public abstract class Hero implements GamePiece {
         return mp;
     }
 
+    public int getExperience() {
+        return experience;
+    }
+
+    /**
+     * Gets the HP a hero of this level has when fully healed.
+     * @return the maximum HP
+     */
+    public int getMaxHp() {
+        return computeHpForLevel(level);
+    }
+
     public int getMaxMp() {
         return maxMp;
     }
@@ -271,7 +333,7 @@ public abstract class Hero implements GamePiece {
     }
 
     public void setHp(int hp) {
-        this.hp = hp;
+        changeHp(hp);
     }
 
     public void setStrength(int strength) {
@@ -312,6 +374,60 @@ public abstract class Hero implements GamePiece {
         );
     }
 
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Records this hero's current state: stats, gold, position, inventory
+     * and equipped gear. Costs a handful of field reads when nothing changed
+     * since the last snapshot, which is then returned again.
+     * @return the snapshot
+     */
+    public HeroSnapshot snapshot() {
+        if (lastSnapshot == null || !lastSnapshot.matches(this)) {
+            lastSnapshot = new HeroSnapshot(this, lastSnapshot);
+        }
+        return lastSnapshot;
+    }
+
+    /**
+     * Puts this hero back into a recorded state. The same item instances
+     * return to the inventory with the uses they had. The health listener is
+     * not notified; whoever restores the board rebuilds what it derives from HP.
+     * @param snapshot a snapshot of this hero
+     */
+    public void restore(HeroSnapshot snapshot) {
+        if (snapshot.hero != this) {
+            throw new IllegalArgumentException("Snapshot belongs to another hero");
+        }
+        level = snapshot.level;
+        experience = snapshot.experience;
+        hp = snapshot.hp;
+        mp = snapshot.mp;
+        strength = snapshot.strength;
+        dexterity = snapshot.dexterity;
+        agility = snapshot.agility;
+        wallet.restore(snapshot.gold);
+
+        List<Item> items = inventory.getItems();
+        items.clear();
+        for (int i = 0; i < snapshot.items.length; i++) {
+            snapshot.items[i].setUsesRemaining(snapshot.uses[i]);
+            items.add(snapshot.items[i]);
+        }
+        equippedWeapon = snapshot.weapon;
+        if (equippedWeapon != null) {
+            equippedWeapon.setUsesRemaining(snapshot.weaponUses);
+        }
+        equippedArmor = snapshot.armor;
+        if (equippedArmor != null) {
+            equippedArmor.setUsesRemaining(snapshot.armorUses);
+        }
+
+        row = snapshot.row;
+        col = snapshot.col;
+        lastSnapshot = snapshot;
+    }
+
     // ==================== GamePiece Interface Implementation ====================
 
     /**
@@ -352,4 +468,17 @@ public abstract class Hero implements GamePiece {
         return true;
     }
 
+    @Override
+    public void setHealthListener(HealthListener listener) {
+        this.healthListener = listener;
+    }
+
+    private void changeHp(int newHp) {
+        int oldHp = hp;
+        hp = newHp;
+        if (healthListener != null && oldHp != newHp) {
+            healthListener.onHealthChanged(this, oldHp, newHp);
+        }
+    }
+
 }
@@ -0,0 +1,135 @@
+package hero;
+
+import java.util.List;
+import market.model.item.Armor;
+import market.model.item.Item;
+import market.model.item.Weapon;
+
+/**
+ * Immutable record of a {@link Hero} at one moment, taken with
+ * {@link Hero#snapshot()} and put back with {@link Hero#restore(HeroSnapshot)}.
+ *
+ * Items are kept by reference together with their remaining uses, so taking
+ * a snapshot never copies an item. Consecutive snapshots share what did not
+ * change: a hero that did not change hands out its previous snapshot again,
+ * and an unchanged inventory reuses the previous item arrays.
+ */
+public final class HeroSnapshot {
+
+    private static final Item[] NO_ITEMS = new Item[0];
+    private static final int[] NO_USES = new int[0];
+
+    final Hero hero;
+    final int level;
+    final int experience;
+    final int hp;
+    final int mp;
+    final int strength;
+    final int dexterity;
+    final int agility;
+    final int gold;
+    final int row;
+    final int col;
+
+    /** Inventory in order, with each item's remaining uses */
+    final Item[] items;
+    final int[] uses;
+
+    final Weapon weapon;
+    final int weaponUses;
+    final Armor armor;
+    final int armorUses;
+
+    /**
+     * Records a hero.
+     * @param previous the hero's last snapshot whose item arrays may be shared, or null
+     */
+    HeroSnapshot(Hero hero, HeroSnapshot previous) {
+        this.hero = hero;
+        this.level = hero.getLevel();
+        this.experience = hero.getExperience();
+        this.hp = hero.getHp();
+        this.mp = hero.getMp();
+        this.strength = hero.getStrength();
+        this.dexterity = hero.getDexterity();
+        this.agility = hero.getAgility();
+        this.gold = hero.getGold();
+        this.row = hero.getRow();
+        this.col = hero.getCol();
+
+        List<Item> inventory = hero.getInventory();
+        if (previous != null && previous.hasInventory(inventory)) {
+            this.items = previous.items;
+            this.uses = previous.uses;
+        } else if (inventory.isEmpty()) {
+            this.items = NO_ITEMS;
+            this.uses = NO_USES;
+        } else {
+            this.items = inventory.toArray(new Item[0]);
+            this.uses = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                uses[i] = items[i].getUsesRemaining();
+            }
+        }
+
+        this.weapon = hero.getEquippedWeapon();
+        this.weaponUses = weapon != null ? weapon.getUsesRemaining() : 0;
+        this.armor = hero.getEquippedArmor();
+        this.armorUses = armor != null ? armor.getUsesRemaining() : 0;
+    }
+
+    /**
+     * Gets the hero this snapshot belongs to.
+     * @return the hero
+     */
+    public Hero getHero() {
+        return hero;
+    }
+
+    public int getHp() {
+        return hp;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Checks whether the hero is still exactly as recorded.
+     */
+    boolean matches(Hero hero) {
+        return hero == this.hero
+                && hero.getLevel() == level
+                && hero.getExperience() == experience
+                && hero.getHp() == hp
+                && hero.getMp() == mp
+                && hero.getStrength() == strength
+                && hero.getDexterity() == dexterity
+                && hero.getAgility() == agility
+                && hero.getGold() == gold
+                && hero.getRow() == row
+                && hero.getCol() == col
+                && hero.getEquippedWeapon() == weapon
+                && (weapon == null || weapon.getUsesRemaining() == weaponUses)
+                && hero.getEquippedArmor() == armor
+                && (armor == null || armor.getUsesRemaining() == armorUses)
+                && hasInventory(hero.getInventory());
+    }
+
+    private boolean hasInventory(List<Item> inventory) {
+        if (inventory.size() != items.length) {
+            return false;
+        }
+        for (int i = 0; i < items.length; i++) {
+            Item item = inventory.get(i);
+            if (item != items[i] || item.getUsesRemaining() != uses[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -23,6 +23,15 @@ public class Paladin extends Hero {
     }
 
 
+    private Paladin(Paladin other) {
+        super(other);
+    }
+
+    @Override
+    public Paladin copy() {
+        return new Paladin(this);
+    }
+
     @Override
     protected Set<HeroSkill> getFavoredSkills() {
         return EnumSet.of(HeroSkill.STRENGTH, HeroSkill.DEXTERITY);
@@ -20,6 +20,15 @@ public class Sorcerer extends Hero {
         super(name, level, strength, dexterity, agility, mp, wallet, exp);
     }
 
+    private Sorcerer(Sorcerer other) {
+        super(other);
+    }
+
+    @Override
+    public Sorcerer copy() {
+        return new Sorcerer(this);
+    }
+
     @Override
     protected Set<HeroSkill> getFavoredSkills() {
         return EnumSet.of(HeroSkill.AGILITY, HeroSkill.DEXTERITY);
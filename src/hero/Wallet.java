@@ -14,10 +14,29 @@ public final class Wallet {
         this.gold = initialGold;
     }
 
+    /**
+     * Creates a wallet holding the same amount of gold.
+     * @return the copy
+     */
+    public Wallet copy() {
+        return new Wallet(gold);
+    }
+
     public int getGold() {
         return gold;
     }
 
+    /**
+     * Sets the amount of gold directly, e.g. when a snapshot is restored.
+     * @param gold the new amount, not negative
+     */
+    void restore(int gold) {
+        if (gold < 0) {
+            throw new IllegalArgumentException("gold must not be negative");
+        }
+        this.gold = gold;
+    }
+
     public void addGold(int amount) {
         if (amount <= 0) {
             return;
@@ -20,6 +20,15 @@ public class Warrior extends Hero {
         super(name, level, strength, dexterity, agility, mp, wallet, exp);
     }
 
+    private Warrior(Warrior other) {
+        super(other);
+    }
+
+    @Override
+    public Warrior copy() {
+        return new Warrior(this);
+    }
+
     @Override
     protected Set<HeroSkill> getFavoredSkills() {
         return EnumSet.of(HeroSkill.STRENGTH, HeroSkill.AGILITY);
@@ -13,18 +13,51 @@ public class Market {
 
     private final List<Item> itemsForSale = new ArrayList<>();
 
+    /** Snapshot of the current stock; dropped on the next purchase or sale */
+    private MarketSnapshot lastSnapshot;
+
     public void addItem(Item item) {
         itemsForSale.add(item);
+        lastSnapshot = null;
     }
 
     public void removeItem(Item item) {
         itemsForSale.remove(item);
+        lastSnapshot = null;
     }
 
     public List<Item> getItems() {
         return Collections.unmodifiableList(itemsForSale);
     }
 
+    /**
+     * Records the current stock. Items for sale are never used, so the
+     * snapshot stays valid until the stock itself changes.
+     * @return the snapshot
+     */
+    public MarketSnapshot snapshot() {
+        if (lastSnapshot == null) {
+            lastSnapshot = new MarketSnapshot(this, itemsForSale.toArray(new Item[0]));
+        }
+        return lastSnapshot;
+    }
+
+    /**
+     * Puts the recorded stock back on sale.
+     * @param snapshot a snapshot of this market
+     */
+    public void restore(MarketSnapshot snapshot) {
+        if (snapshot.market != this) {
+            throw new IllegalArgumentException("Snapshot belongs to another market");
+        }
+        itemsForSale.clear();
+        for (int i = 0; i < snapshot.items.length; i++) {
+            snapshot.items[i].setUsesRemaining(snapshot.uses[i]);
+            itemsForSale.add(snapshot.items[i]);
+        }
+        lastSnapshot = snapshot;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Market Items:\n");
@@ -0,0 +1,36 @@
+package market.model;
+
+import market.model.item.Item;
+
+/**
+ * Immutable record of a {@link Market}'s stock, taken with {@link Market#snapshot()}
+ * and put back with {@link Market#restore(MarketSnapshot)}.
+ *
+ * Markets rarely change, so one snapshot is shared by every save until
+ * something is bought or sold.
+ */
+public final class MarketSnapshot {
+
+    final Market market;
+
+    /** Items for sale in order, with each item's remaining uses */
+    final Item[] items;
+    final int[] uses;
+
+    MarketSnapshot(Market market, Item[] items) {
+        this.market = market;
+        this.items = items;
+        this.uses = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            uses[i] = items[i].getUsesRemaining();
+        }
+    }
+
+    /**
+     * Gets the market this snapshot belongs to.
+     * @return the market
+     */
+    public Market getMarket() {
+        return market;
+    }
+}
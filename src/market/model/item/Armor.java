@@ -11,6 +11,14 @@ public class Armor extends Item {
         this.damageReduction = damageReduction;
     }
 
+    private Armor(Armor other) {
+        super(other);
+        this.damageReduction = other.damageReduction;
+    }
+
+    @Override
+    public Armor copy() { return new Armor(this); }
+
     public int getDamageReduction() { return damageReduction; }
 
     @Override
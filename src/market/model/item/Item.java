@@ -17,6 +17,20 @@ public abstract class Item {
         this.usesRemaining = uses;
     }
 
+    /**
+     * Copies another item, including how many uses it has left.
+     * @param other the item to copy
+     */
+    protected Item(Item other) {
+        this(other.name, other.price, other.level, other.usesRemaining);
+    }
+
+    /**
+     * Creates an independent copy that wears out on its own.
+     * @return the copy
+     */
+    public abstract Item copy();
+
     public abstract String getItemType();
 
     public String getName() { return name; }
@@ -26,6 +40,17 @@ public abstract class Item {
 
     public boolean isUsable() { return usesRemaining > 0; }
 
+    /**
+     * Sets how many uses are left, e.g. when a saved game is restored.
+     * @param usesRemaining the remaining uses, not negative
+     */
+    public void setUsesRemaining(int usesRemaining) {
+        if (usesRemaining < 0) {
+            throw new IllegalArgumentException("usesRemaining cannot be negative");
+        }
+        this.usesRemaining = usesRemaining;
+    }
+
     public void consumeUse() {
         usesRemaining--;
         if (usesRemaining < 0) usesRemaining = 0;
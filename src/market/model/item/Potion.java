@@ -15,6 +15,15 @@ public class Potion extends Item {
         this.statType = statType;
     }
 
+    private Potion(Potion other) {
+        super(other);
+        this.effectAmount = other.effectAmount;
+        this.statType = other.statType;
+    }
+
+    @Override
+    public Potion copy() { return new Potion(this); }
+
     public int getEffectAmount() { return effectAmount; }
     public StatType getStatType() { return statType; }
 
@@ -15,6 +15,16 @@ public class Spell extends Item {
         this.type = type;
     }
 
+    private Spell(Spell other) {
+        super(other);
+        this.damage = other.damage;
+        this.manaCost = other.manaCost;
+        this.type = other.type;
+    }
+
+    @Override
+    public Spell copy() { return new Spell(this); }
+
     public int getDamage() { return damage; }
     public int getManaCost() { return manaCost; }
     public SpellType getType() { return type; }
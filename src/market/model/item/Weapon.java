@@ -13,6 +13,15 @@ public class Weapon extends Item {
         this.handsRequired = handsRequired;
     }
 
+    private Weapon(Weapon other) {
+        super(other);
+        this.damage = other.damage;
+        this.handsRequired = other.handsRequired;
+    }
+
+    @Override
+    public Weapon copy() { return new Weapon(this); }
+
     public int getDamage() { return damage; }
     public int getHandsRequired() { return handsRequired; }
 
@@ -3,7 +3,9 @@ package market.service;
 import market.model.Market;
 import market.model.item.Item;
 import utils.GameConstants;
+import utils.GameRandom;
 import upload.ArmorFileLoader;
+import upload.GameDataRepository;
 import upload.PotionFileLoader;
 import upload.SpellFileLoader;
 import upload.WeaponFileLoader;
@@ -11,7 +13,6 @@ import upload.WeaponFileLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Factory class for creating unique Market instances by selecting random subsets from the item pool
@@ -19,9 +20,18 @@ import java.util.Random;
 public class MarketFactory {
 
     private final List<Item> items;
-    private final Random random = new Random();
+    private final GameRandom random;
 
     public MarketFactory() {
+        this(GameRandom.withRandomSeed());
+    }
+
+    /**
+     * Creates a factory that stocks markets from the given random stream.
+     * @param random the stream used to pick market items
+     */
+    public MarketFactory(GameRandom random) {
+        this.random = random;
         List<Item> allItems = new ArrayList<>();
 
         allItems.addAll(WeaponFileLoader.loadWeapons(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Weaponry.txt"));
@@ -36,6 +46,31 @@ public class MarketFactory {
         }
     }
 
+    /**
+     * Creates a factory that stocks markets from already loaded game data,
+     * without reading the item files again.
+     * @param data the loaded game data
+     * @param random the stream used to pick market items
+     */
+    public MarketFactory(GameDataRepository data, GameRandom random) {
+        this(data.getMarketItems(), random);
+    }
+
+    private MarketFactory(List<Item> items, GameRandom random) {
+        this.items = items;
+        this.random = random;
+    }
+
+    /**
+     * Creates a factory that stocks markets from the same (read-only) item pool
+     * but draws from another random stream, without reading the item files again.
+     * @param random the stream used to pick market items
+     * @return the new factory
+     */
+    public MarketFactory withRandom(GameRandom random) {
+        return new MarketFactory(items, random);
+    }
+
 
     /**
      * Create a new Market instance with a random subset of items
@@ -44,7 +79,7 @@ public class MarketFactory {
         Market market = new Market();
 
         List<Item> shuffled = new ArrayList<Item>(items);
-        Collections.shuffle(shuffled, random);
+        random.shuffle(shuffled);
 
         int numItems = 4 + random.nextInt(5);
         numItems = Math.min(numItems, shuffled.size());
@@ -0,0 +1,81 @@
+package monster;
+
+import utils.GameRandom;
+
+/**
+ * Samples indexes 0..n-1 with fixed weights in O(1) (Vose's alias method):
+ * pick a column uniformly, then keep it or take its alias with a biased coin.
+ * Immutable once built, so any number of threads can sample it with their
+ * own random streams.
+ */
+final class AliasTable {
+
+    private final double[] keep;
+    private final int[] alias;
+
+    /**
+     * Builds the table in O(n).
+     * @param weights non-negative weights, at least one of them positive
+     */
+    AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("weights cannot be negative");
+            }
+            total += weight;
+        }
+        if (n == 0 || total <= 0) {
+            throw new IllegalArgumentException("at least one weight must be positive");
+        }
+
+        keep = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            keep[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            keep[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            keep[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    int sample(GameRandom random) {
+        int column = random.nextInt(keep.length);
+        return random.nextDouble() < keep[column] ? column : alias[column];
+    }
+
+    int size() {
+        return keep.length;
+    }
+}
@@ -1,10 +1,10 @@
 package monster;
 
 import entity.GamePiece;
-import monster.enums.MonsterAttribute;
+import entity.HealthListener;
+import monster.enums.MonsterType;
 import utils.GameConstants;
-
-import java.util.Set;
+import utils.GameRandom;
 
 import static utils.GameConstants.HERO_HP_PER_LEVEL;
 
@@ -14,8 +14,10 @@ import static utils.GameConstants.HERO_HP_PER_LEVEL;
  */
 public abstract class Monster implements GamePiece {
 
+    /** What every monster of this kind shares */
+    private final MonsterTemplate template;
     private final String name;
-    private final int level;
+    private int level;
 
     private int hp;
     private int baseDamage;
@@ -26,54 +28,89 @@ public abstract class Monster implements GamePiece {
     private int row;
     private int col;
 
-    protected Monster(String name,
-                      int level,
-                      int baseDamage,
-                      int defense,
-                      int dodgeAbility) {
+    private HealthListener healthListener;
 
-        this.name = name;
-        this.level = level;
-        this.baseDamage = baseDamage;
-        this.defense = defense;
-        this.dodgeAbility = dodgeAbility;
+    /** Last snapshot taken, handed out again while the monster does not change */
+    private MonsterSnapshot lastSnapshot;
 
-        this.hp = getHpByLevel(level);
+    /**
+     * Fields a monster from its template at full HP; see {@link MonsterTemplate#spawn}.
+     * @param template what the monster is
+     * @param name the monster's name
+     * @param level the monster's level
+     */
+    protected Monster(MonsterTemplate template, String name, int level) {
+        this.template = template;
+        this.name = name;
+        respawn(level);
+    }
 
-        applyFavoredAttributes();
+    /**
+     * Copies another monster for search and what-if play, including its
+     * current HP and position. The template is shared and the health
+     * listener is not copied.
+     * @param other the monster to copy
+     */
+    protected Monster(Monster other) {
+        this.template = other.template;
+        this.name = other.name;
+        this.level = other.level;
+        this.hp = other.hp;
+        this.baseDamage = other.baseDamage;
+        this.defense = other.defense;
+        this.dodgeAbility = other.dodgeAbility;
+        this.row = other.row;
+        this.col = other.col;
     }
 
-    protected abstract Set<MonsterAttribute> getFavoredAttributes();
+    /**
+     * Creates an independent copy of this monster; see {@link #Monster(Monster)}.
+     * @return the copy
+     */
+    public abstract Monster copy();
 
+    /**
+     * Turns this monster back into a fresh one of its template at the given
+     * level, keeping its name. Used by {@link MonsterPool} to field the same
+     * instance in battle after battle.
+     * @param level the monster's new level
+     */
+    void respawn(int level) {
+        this.level = level;
+        this.baseDamage = template.getBaseDamage();
+        this.defense = template.getDefense();
+        this.dodgeAbility = template.getDodgeAbility();
+        this.hp = getHpByLevel(level);
+        this.row = 0;
+        this.col = 0;
+        this.healthListener = null;
+        this.lastSnapshot = null;
+    }
 
-    protected boolean isDamageFavored() {
-        return getFavoredAttributes().contains(MonsterAttribute.DAMAGE);
+    /**
+     * Gets the shared description this monster was spawned from.
+     * @return the template
+     */
+    public MonsterTemplate getTemplate() {
+        return template;
     }
 
-    protected boolean isDefenseFavored() {
-        return getFavoredAttributes().contains(MonsterAttribute.DEFENSE);
+    public MonsterType getType() {
+        return template.getType();
     }
 
-    protected boolean isDodgeFavored() {
-        return getFavoredAttributes().contains(MonsterAttribute.DODGE_ABILITY);
+    /**
+     * Gets the HP a monster of this level starts with.
+     * @return the maximum HP
+     */
+    public int getMaxHp() {
+        return getHpByLevel(level);
     }
 
     private int getHpByLevel(int level) {
         return level * HERO_HP_PER_LEVEL;
     }
 
-    private void applyFavoredAttributes() {
-        if (isDamageFavored()) {
-            baseDamage = (int) Math.round(baseDamage * GameConstants.MONSTER_FAVORED_MULTIPLIER);
-        }
-        if (isDefenseFavored()) {
-            defense = (int) Math.round(defense * GameConstants.MONSTER_FAVORED_MULTIPLIER);
-        }
-        if (isDodgeFavored()) {
-            dodgeAbility = (int) Math.round(dodgeAbility * GameConstants.MONSTER_FAVORED_MULTIPLIER);
-        }
-    }
-
     public int getBaseDamage() {
         return baseDamage;
     }
@@ -100,10 +137,7 @@ public abstract class Monster implements GamePiece {
             effectiveDamage = GameConstants.MONSTER_MIN_DAMAGE_ON_HIT;
         }
 
-        hp -= effectiveDamage;
-        if (hp < 0) {
-            hp = 0;
-        }
+        changeHp(Math.max(0, hp - effectiveDamage));
 
         return effectiveDamage;
     }
@@ -126,8 +160,8 @@ public abstract class Monster implements GamePiece {
         return chance;
     }
 
-    public boolean dodgesAttack() {
-        return Math.random() < getDodgeChance();
+    public boolean dodgesAttack(GameRandom random) {
+        return random.chance(getDodgeChance());
     }
 
     public String getName() {
@@ -151,7 +185,7 @@ public abstract class Monster implements GamePiece {
     }
 
     public void setHp(int hp) {
-        this.hp = hp;
+        changeHp(hp);
     }
 
     public void setBaseDamage(double baseDamage) {
@@ -181,6 +215,39 @@ public abstract class Monster implements GamePiece {
         );
     }
 
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Records this monster's current stats and position. Returns the
+     * previous snapshot again when nothing changed since.
+     * @return the snapshot
+     */
+    public MonsterSnapshot snapshot() {
+        if (lastSnapshot == null || !lastSnapshot.matches(this)) {
+            lastSnapshot = new MonsterSnapshot(this);
+        }
+        return lastSnapshot;
+    }
+
+    /**
+     * Puts this monster back into a recorded state. The health listener is
+     * not notified; whoever restores the board rebuilds what it derives from HP.
+     * @param snapshot a snapshot of this monster
+     */
+    public void restore(MonsterSnapshot snapshot) {
+        if (snapshot.monster != this) {
+            throw new IllegalArgumentException("Snapshot belongs to another monster");
+        }
+        level = snapshot.level;
+        hp = snapshot.hp;
+        baseDamage = snapshot.baseDamage;
+        defense = snapshot.defense;
+        dodgeAbility = snapshot.dodgeAbility;
+        row = snapshot.row;
+        col = snapshot.col;
+        lastSnapshot = snapshot;
+    }
+
     // ==================== GamePiece Interface Implementation ====================
 
     /**
@@ -220,4 +287,17 @@ public abstract class Monster implements GamePiece {
     public boolean isMonster() {
         return true;
     }
+
+    @Override
+    public void setHealthListener(HealthListener listener) {
+        this.healthListener = listener;
+    }
+
+    private void changeHp(int newHp) {
+        int oldHp = hp;
+        hp = newHp;
+        if (healthListener != null && oldHp != newHp) {
+            healthListener.onHealthChanged(this, oldHp, newHp);
+        }
+    }
 }
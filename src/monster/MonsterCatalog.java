@@ -0,0 +1,213 @@
+package monster;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import monster.enums.MonsterType;
+import utils.GameConstants;
+import utils.GameRandom;
+
+/**
+ * Read-only index of {@link MonsterTemplate}s by their listed level and
+ * type, for drawing monsters that suit a party's level.
+ *
+ * A draw for level L looks at the highest level listed at or below L (the
+ * lowest one if L is below every level), plus the levels up to
+ * {@link GameConstants#MONSTER_LEVEL_WINDOW} beneath it, each level down
+ * half as likely per template as the one above. Each level has its alias
+ * table built up front, so a draw is a binary search over the distinct
+ * levels plus O(1), however many templates are listed. Templates are
+ * identified by their index in the list the catalog was built from, also
+ * in per-type catalogs, so callers can key their own tables by it.
+ * Thread-safe.
+ */
+public final class MonsterCatalog {
+
+    private final List<MonsterTemplate> templates;
+
+    /** Template indexes ordered by level, then by index */
+    private final int[] order;
+    /** Distinct levels, ascending */
+    private final int[] levels;
+    /** Templates of levels[k] are order[levelStart[k]] to order[levelStart[k + 1] - 1] */
+    private final int[] levelStart;
+    /** Draws for levels[k] pick order[windowStart[k] + tables[k].sample()] */
+    private final int[] windowStart;
+    private final AliasTable[] tables;
+
+    /** Catalogs of each type; null in a per-type catalog */
+    private final Map<MonsterType, MonsterCatalog> byType;
+
+    /**
+     * Indexes templates.
+     * @param templates the templates, at least one
+     */
+    public MonsterCatalog(List<MonsterTemplate> templates) {
+        this(templates, sortByLevel(templates), true);
+    }
+
+    /**
+     * @param sorted packed level and index of each member, ascending
+     */
+    private MonsterCatalog(List<MonsterTemplate> templates, long[] sorted, boolean splitByType) {
+        if (sorted.length == 0) {
+            throw new IllegalArgumentException("A catalog needs at least one template");
+        }
+        this.templates = templates;
+
+        this.order = new int[sorted.length];
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            order[i] = (int) sorted[i];
+            if (i == 0 || levelOf(sorted[i]) != levelOf(sorted[i - 1])) {
+                distinct++;
+            }
+        }
+
+        this.levels = new int[distinct];
+        this.levelStart = new int[distinct + 1];
+        for (int i = 0, k = 0; i < sorted.length; i++) {
+            if (i == 0 || levelOf(sorted[i]) != levelOf(sorted[i - 1])) {
+                levels[k] = levelOf(sorted[i]);
+                levelStart[k++] = i;
+            }
+        }
+        levelStart[distinct] = sorted.length;
+
+        double[] weightByDistance = new double[GameConstants.MONSTER_LEVEL_WINDOW + 1];
+        for (int distance = 0; distance < weightByDistance.length; distance++) {
+            weightByDistance[distance] = 1.0 / (1L << distance);
+        }
+        this.windowStart = new int[distinct];
+        this.tables = new AliasTable[distinct];
+        int lowest = 0;
+        for (int k = 0; k < distinct; k++) {
+            while ((long) levels[k] - levels[lowest] > GameConstants.MONSTER_LEVEL_WINDOW) {
+                lowest++;
+            }
+            double[] weights = new double[levelStart[k + 1] - levelStart[lowest]];
+            for (int j = lowest, i = 0; j <= k; j++) {
+                double weight = weightByDistance[levels[k] - levels[j]];
+                for (int end = i + levelStart[j + 1] - levelStart[j]; i < end; i++) {
+                    weights[i] = weight;
+                }
+            }
+            windowStart[k] = levelStart[lowest];
+            tables[k] = new AliasTable(weights);
+        }
+
+        if (splitByType) {
+            // Filtering the sorted members keeps every per-type catalog sorted
+            this.byType = new EnumMap<>(MonsterType.class);
+            for (MonsterType type : MonsterType.values()) {
+                long[] ofType = new long[sorted.length];
+                int count = 0;
+                for (long member : sorted) {
+                    if (templates.get((int) member).getType() == type) {
+                        ofType[count++] = member;
+                    }
+                }
+                if (count > 0) {
+                    byType.put(type, new MonsterCatalog(templates, Arrays.copyOf(ofType, count), false));
+                }
+            }
+        } else {
+            this.byType = null;
+        }
+    }
+
+    /**
+     * Packs each template's level and index into one number and sorts them,
+     * which orders by level and keeps equal levels in list order.
+     */
+    private static long[] sortByLevel(List<MonsterTemplate> templates) {
+        long[] sorted = new long[templates.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = ((long) templates.get(i).getLevel() << 32) | i;
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static int levelOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Draws a template suited to a level.
+     * @param level e.g. the party's highest level
+     * @param random the stream to draw from
+     * @return the template's index in the list the catalog was built from
+     */
+    public int sampleIndex(int level, GameRandom random) {
+        int k = Arrays.binarySearch(levels, level);
+        if (k < 0) {
+            k = Math.max(0, -k - 2);  // highest level below, or the lowest level
+        }
+        return order[windowStart[k] + tables[k].sample(random)];
+    }
+
+    /**
+     * Draws a template suited to a level; see {@link #sampleIndex}.
+     * @return the template
+     */
+    public MonsterTemplate sample(int level, GameRandom random) {
+        return templates.get(sampleIndex(level, random));
+    }
+
+    /**
+     * Gets the catalog of one type of monster.
+     * @param type the type
+     * @return the catalog, or null if no template has this type
+     */
+    public MonsterCatalog ofType(MonsterType type) {
+        if (byType == null) {
+            // A per-type catalog holds one type only
+            return templates.get(order[0]).getType() == type ? this : null;
+        }
+        return byType.get(type);
+    }
+
+    /**
+     * Gets the templates listed at exactly one level.
+     * @param level the level
+     * @return the templates, in list order; empty if none
+     */
+    public List<MonsterTemplate> getTemplates(int level) {
+        int k = Arrays.binarySearch(levels, level);
+        if (k < 0) {
+            return Collections.emptyList();
+        }
+        final int from = levelStart[k];
+        final int to = levelStart[k + 1];
+        return new AbstractList<MonsterTemplate>() {
+            @Override
+            public MonsterTemplate get(int index) {
+                if (index < 0 || index >= to - from) {
+                    throw new IndexOutOfBoundsException("Index: " + index);
+                }
+                return templates.get(order[from + index]);
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+
+    public int getMinLevel() {
+        return levels[0];
+    }
+
+    public int getMaxLevel() {
+        return levels[levels.length - 1];
+    }
+
+    public int size() {
+        return order.length;
+    }
+}
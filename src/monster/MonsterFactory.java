@@ -1,81 +1,206 @@
 package monster;
 
 import hero.Party;
+import upload.GameDataRepository;
 import upload.MonsterFileLoader;
+import utils.GameRandom;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Factory responsible for creating list of {@link Monster} for a battle
  */
 public class MonsterFactory {
 
-    private final Random random = new Random();
-    private final List<Monster> monsterPool;
+    private final GameRandom random;
+    private final List<MonsterTemplate> monsterPool;
+    /** The same templates indexed by level, shared with {@link #withRandom} factories */
+    private final MonsterCatalog catalog;
+    /** Draw templates listed near the party's level instead of any template */
+    private boolean levelMatched = true;
+    /** Monsters handed out by {@link #reuseMonstersForParty}; created on first use */
+    private MonsterPool reusable;
 
     public MonsterFactory() {
-        this.monsterPool = MonsterFileLoader.loadAllMonsters();
+        this(GameRandom.withRandomSeed());
+    }
+
+    /**
+     * Creates a factory that draws monsters from the given random stream.
+     * @param random the stream used to pick monster templates
+     */
+    public MonsterFactory(GameRandom random) {
+        this.random = random;
+        this.monsterPool = MonsterFileLoader.loadAllTemplates();
         if (monsterPool.isEmpty()) {
             throw new IllegalStateException("No monsters loaded from files");
         }
+        this.catalog = new MonsterCatalog(monsterPool);
+    }
+
+    /**
+     * Creates a factory over already loaded game data, without reading the
+     * monster files again or indexing the templates again.
+     * @param data the loaded game data
+     * @param random the stream used to pick monster templates
+     */
+    public MonsterFactory(GameDataRepository data, GameRandom random) {
+        this.random = random;
+        this.monsterPool = data.getMonsterTemplates();
+        this.catalog = data.getMonsterCatalog();
+    }
+
+    private MonsterFactory(MonsterFactory other, GameRandom random) {
+        this.random = random;
+        this.monsterPool = other.monsterPool;
+        this.catalog = other.catalog;
+        this.levelMatched = other.levelMatched;
+    }
+
+    /**
+     * Creates a factory over the same monster templates that draws from another
+     * random stream, without reading the monster files again. Templates are
+     * only ever read, so factories on different threads can share them. The
+     * new factory matches levels if this one does.
+     * @param random the stream used to pick monster templates
+     * @return the new factory
+     */
+    public MonsterFactory withRandom(GameRandom random) {
+        return new MonsterFactory(this, random);
+    }
+
+    /**
+     * Switches level matching on or off. By default templates are drawn
+     * from the {@link MonsterCatalog} for the party's highest level, so
+     * weak monsters face weak parties and strong ones strong parties.
+     * Without level matching any template may be drawn, whatever level it
+     * is listed at. Either way monsters are fielded at the party's level.
+     * Seeded games draw different monsters with level matching off.
+     * @param levelMatched true to draw templates suited to the party's level
+     */
+    public void setLevelMatched(boolean levelMatched) {
+        this.levelMatched = levelMatched;
     }
 
     public List<Monster> createMonstersForParty(Party party) {
-        int count = party.getMonsterCountForBattle();
+        return createMonstersForParty(party, party.getMonsterCountForBattle());
+    }
+
+    /**
+     * Creates a fixed number of monsters scaled to the party's highest level.
+     * @param party the party the monsters will face
+     * @param count how many monsters to create
+     * @return the new monsters
+     */
+    public List<Monster> createMonstersForParty(Party party, int count) {
         int monsterLevel = party.getHighestLevel();
 
         List<Monster> monsters = new ArrayList<Monster>(count);
         for (int i = 0; i < count; i++) {
-            Monster template = chooseRandomMonsterTemplate();
-            Monster battleMonster = cloneMonsterForBattle(template, monsterLevel, i + 1);
-            monsters.add(battleMonster);
+            monsters.add(spawn(chooseTemplateIndex(monsterLevel, levelMatched, random), i + 1, monsterLevel));
+        }
+
+        return monsters;
+    }
+
+    /**
+     * Fills a list with monsters for the party like {@link #createMonstersForParty(Party)},
+     * drawing the same templates from the random stream, but reuses the
+     * monsters fielded by earlier calls. The monsters of the previous call
+     * are reset, so only use this for battles that are over before the next
+     * one starts.
+     * @param party the party the monsters will face
+     * @param into the list to fill; cleared first
+     */
+    public void reuseMonstersForParty(Party party, List<Monster> into) {
+        if (reusable == null) {
+            reusable = new MonsterPool(monsterPool);
+        }
+        int monsterLevel = party.getHighestLevel();
+        int count = party.getMonsterCountForBattle();
+
+        into.clear();
+        for (int i = 0; i < count; i++) {
+            into.add(reusable.acquire(chooseTemplateIndex(monsterLevel, levelMatched, random), i + 1, monsterLevel));
         }
+    }
+
+    /**
+     * Plans a wave to be built ahead of time, e.g. on a worker while the
+     * game plays on; see {@link MonsterWave}. Does not move this factory's
+     * stream.
+     * @param partyLevel the party's highest level now
+     * @param count how many monsters the wave has
+     * @return the wave, not built yet
+     */
+    public MonsterWave planWave(int partyLevel, int count) {
+        return new MonsterWave(this, partyLevel, count, levelMatched, random.copy());
+    }
 
+    /**
+     * Takes a wave built ahead of time, if it is still what
+     * {@link #createMonstersForParty(Party, int)} would create now: this
+     * factory's stream has not moved since the wave was planned, and the
+     * party's level either did not change or does not affect which
+     * templates are drawn, in which case the monsters are brought to the
+     * new level. Costs O(count) and allocates nothing.
+     * @param wave a built wave planned by this factory
+     * @param partyLevel the party's highest level now
+     * @param count how many monsters are needed
+     * @return the monsters, or null if the wave is stale and must not be used
+     */
+    public List<Monster> takeWave(MonsterWave wave, int partyLevel, int count) {
+        if (wave.getFactory() != this || !wave.isBuilt() || wave.size() != count
+                || !random.isAt(wave.getStart())) {
+            return null;
+        }
+        List<Monster> monsters = wave.getMonsters();
+        if (wave.getLevel() != partyLevel) {
+            if (wave.isLevelMatched()) {
+                return null;
+            }
+            for (int i = 0; i < monsters.size(); i++) {
+                monsters.get(i).respawn(partyLevel);
+            }
+        }
+        random.restore(wave.getStream());
         return monsters;
     }
 
-    private Monster chooseRandomMonsterTemplate() {
-        int index = random.nextInt(monsterPool.size());
-        return monsterPool.get(index);
-    }
-
-
-    private Monster cloneMonsterForBattle(Monster template, int targetLevel, int index) {
-        String name = template.getName() + "#" + index;
-
-        int level = targetLevel;
-
-        if (template instanceof Dragon) {
-            Dragon d = (Dragon) template;
-            return new Dragon(
-                    name,
-                    level,
-                    d.getBaseDamage(),
-                    d.getDefense(),
-                    d.getDodgeAbility()
-            );
-        } else if (template instanceof Exoskeleton) {
-            Exoskeleton e = (Exoskeleton) template;
-            return new Exoskeleton(
-                    name,
-                    level,
-                    e.getBaseDamage(),
-                    e.getDefense(),
-                    e.getDodgeAbility()
-            );
-        } else if (template instanceof Spirit) {
-            Spirit s = (Spirit) template;
-            return new Spirit(
-                    name,
-                    level,
-                    s.getBaseDamage(),
-                    s.getDefense(),
-                    s.getDodgeAbility()
-            );
-        } else {
-            throw new IllegalArgumentException("Unknown monster type: " + template.getClass());
+    int chooseTemplateIndex(int partyLevel, boolean matchLevel, GameRandom stream) {
+        if (matchLevel) {
+            return catalog.sampleIndex(partyLevel, stream);
         }
+        return stream.nextInt(monsterPool.size());
+    }
+
+    Monster spawn(int template, int slot, int level) {
+        return monsterPool.get(template).spawn(slot, level);
+    }
+
+    /**
+     * Gets the templates monsters are spawned from.
+     * @return the templates, shared and read-only
+     */
+    public List<MonsterTemplate> getTemplates() {
+        return Collections.unmodifiableList(monsterPool);
+    }
+
+    /**
+     * Gets the templates indexed by level and type.
+     * @return the catalog, shared and read-only
+     */
+    public MonsterCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the stream monsters are picked from, so a game snapshot can save and rewind it.
+     * @return the random stream
+     */
+    public GameRandom getRandom() {
+        return random;
     }
 }
@@ -0,0 +1,51 @@
+package monster;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the monsters a {@link MonsterFactory} fielded so later battles can
+ * reuse them instead of spawning new ones.
+ *
+ * There is one instance per template and battle slot, named as a spawned
+ * monster would be (e.g. "Natsunomeryu#2"), so a battle never gets the
+ * same instance twice and, once every template has appeared in every
+ * slot, handing out monsters allocates nothing. Not thread-safe; each
+ * factory has its own pool.
+ */
+final class MonsterPool {
+
+    private final List<MonsterTemplate> templates;
+    /** instances[template][slot], created on first use */
+    private final Monster[][] instances;
+
+    MonsterPool(List<MonsterTemplate> templates) {
+        this.templates = templates;
+        this.instances = new Monster[templates.size()][];
+        Arrays.fill(instances, new Monster[0]);
+    }
+
+    /**
+     * Gets the pooled monster for a template and slot, as fresh as a newly
+     * spawned one.
+     * @param template index of the template
+     * @param slot 1-based position in the battle
+     * @param level the monster's level
+     * @return the monster, at full HP
+     */
+    Monster acquire(int template, int slot, int level) {
+        Monster[] slots = instances[template];
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, slot + 1);
+            instances[template] = slots;
+        }
+        Monster monster = slots[slot];
+        if (monster == null) {
+            monster = templates.get(template).spawn(slot, level);
+            slots[slot] = monster;
+        } else {
+            monster.respawn(level);
+        }
+        return monster;
+    }
+}
@@ -0,0 +1,65 @@
+package monster;
+
+/**
+ * Immutable record of a {@link Monster} at one moment, taken with
+ * {@link Monster#snapshot()} and put back with {@link Monster#restore(MonsterSnapshot)}.
+ *
+ * A monster that did not change since its last snapshot hands that
+ * snapshot out again, so repeated snapshots of a quiet board share it.
+ */
+public final class MonsterSnapshot {
+
+    final Monster monster;
+    final int level;
+    final int hp;
+    final int baseDamage;
+    final int defense;
+    final int dodgeAbility;
+    final int row;
+    final int col;
+
+    MonsterSnapshot(Monster monster) {
+        this.monster = monster;
+        this.level = monster.getLevel();
+        this.hp = monster.getHp();
+        this.baseDamage = monster.getBaseDamage();
+        this.defense = monster.getDefense();
+        this.dodgeAbility = monster.getDodgeAbility();
+        this.row = monster.getRow();
+        this.col = monster.getCol();
+    }
+
+    /**
+     * Gets the monster this snapshot belongs to.
+     * @return the monster
+     */
+    public Monster getMonster() {
+        return monster;
+    }
+
+    public int getHp() {
+        return hp;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Checks whether the monster is still exactly as recorded.
+     */
+    boolean matches(Monster monster) {
+        return monster == this.monster
+                && monster.getLevel() == level
+                && monster.getHp() == hp
+                && monster.getBaseDamage() == baseDamage
+                && monster.getDefense() == defense
+                && monster.getDodgeAbility() == dodgeAbility
+                && monster.getRow() == row
+                && monster.getCol() == col;
+    }
+}
@@ -0,0 +1,129 @@
+package monster;
+
+import monster.enums.MonsterAttribute;
+import monster.enums.MonsterType;
+import utils.GameConstants;
+
+/**
+ * Immutable, shared description of one kind of monster as read from the
+ * data files: its name, type and the stats every monster spawned from it
+ * starts with, plus the names its monsters get in the first battle slots.
+ * A {@link Monster} only keeps what changes in a fight and points back
+ * here for the rest, so spawning one is a single small allocation.
+ * Templates are only ever read and can be shared by any number of
+ * factories and threads.
+ */
+public final class MonsterTemplate {
+
+    /** Battle slots whose spawned names are kept once made */
+    private static final int KEPT_NAMES = 8;
+
+    private final MonsterType type;
+    private final String name;
+    private final int level;
+
+    /** Stats of a spawned monster, favored attributes included */
+    private final int baseDamage;
+    private final int defense;
+    private final int dodgeAbility;
+
+    /**
+     * names[slot] is the name of the monster spawned into that slot, e.g.
+     * "Natsunomeryu#2", made on first spawn. Threads racing to make one just
+     * make equal strings, and strings are safe to publish without locking.
+     */
+    private final String[] names = new String[KEPT_NAMES + 1];
+
+    /**
+     * Creates a template from the stats in a data file. The favored bonus
+     * is applied twice, once for the monster as listed and once more when
+     * it is fielded, matching the stats monsters have always spawned with.
+     * @param type the kind of monster
+     * @param name the monster's name
+     * @param level the level listed in the file
+     * @param baseDamage the listed damage
+     * @param defense the listed defense
+     * @param dodgeAbility the listed dodge ability
+     */
+    public MonsterTemplate(MonsterType type, String name, int level,
+                           int baseDamage, int defense, int dodgeAbility) {
+        if (type == null || name == null) {
+            throw new IllegalArgumentException("type and name are required");
+        }
+        this.type = type;
+        this.name = name;
+        this.level = level;
+        this.baseDamage = favored(favored(baseDamage, type, MonsterAttribute.DAMAGE), type, MonsterAttribute.DAMAGE);
+        this.defense = favored(favored(defense, type, MonsterAttribute.DEFENSE), type, MonsterAttribute.DEFENSE);
+        this.dodgeAbility = favored(favored(dodgeAbility, type, MonsterAttribute.DODGE_ABILITY),
+                type, MonsterAttribute.DODGE_ABILITY);
+    }
+
+    private static int favored(int value, MonsterType type, MonsterAttribute attribute) {
+        if (!type.isFavored(attribute)) {
+            return value;
+        }
+        return (int) Math.round(value * GameConstants.MONSTER_FAVORED_MULTIPLIER);
+    }
+
+    /**
+     * Fields a new monster of this kind.
+     * @param slot the monster's 1-based position in its battle, which names it
+     * @param level the monster's level
+     * @return the monster, at full HP
+     */
+    public Monster spawn(int slot, int level) {
+        String monsterName;
+        if (slot >= 1 && slot < names.length) {
+            monsterName = names[slot];
+            if (monsterName == null) {
+                monsterName = name + "#" + slot;
+                names[slot] = monsterName;
+            }
+        } else {
+            monsterName = name + "#" + slot;
+        }
+        switch (type) {
+            case DRAGON:
+                return new Dragon(this, monsterName, level);
+            case EXOSKELETON:
+                return new Exoskeleton(this, monsterName, level);
+            default:
+                return new Spirit(this, monsterName, level);
+        }
+    }
+
+    public MonsterType getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the level listed in the data file; spawned monsters take the
+     * level they are spawned at.
+     * @return the listed level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getDodgeAbility() {
+        return dodgeAbility;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + name;
+    }
+}
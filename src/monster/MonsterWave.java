@@ -0,0 +1,93 @@
+package monster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import utils.GameRandom;
+
+/**
+ * A wave of monsters drawn ahead of time, so a game can have the next wave
+ * built on a worker thread while it plays. Planned with
+ * {@link MonsterFactory#planWave} on the thread that owns the factory,
+ * built with {@link #build()} on any one thread, and handed back with
+ * {@link MonsterFactory#takeWave}, which only accepts it if the wave is
+ * still exactly what the factory would draw at that moment.
+ *
+ * The wave draws from a copy of the factory's stream, so planning and
+ * building never move the factory's own stream; taking the wave moves it
+ * to where the wave's draws ended.
+ */
+public final class MonsterWave {
+
+    private final MonsterFactory factory;
+    private final int level;
+    private final int count;
+    private final boolean levelMatched;
+    /** The factory's stream when the wave was planned */
+    private final GameRandom start;
+    /** Advanced by the draws while building */
+    private final GameRandom stream;
+
+    private List<Monster> monsters;
+
+    MonsterWave(MonsterFactory factory, int level, int count, boolean levelMatched, GameRandom start) {
+        this.factory = factory;
+        this.level = level;
+        this.count = count;
+        this.levelMatched = levelMatched;
+        this.start = start;
+        this.stream = start.copy();
+    }
+
+    /**
+     * Draws and spawns the monsters. Call once, on any thread, and hand the
+     * wave over through something that publishes it safely, e.g. an
+     * {@link java.util.concurrent.atomic.AtomicReference}.
+     */
+    public void build() {
+        if (monsters != null) {
+            throw new IllegalStateException("The wave is already built");
+        }
+        List<Monster> built = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            built.add(factory.spawn(factory.chooseTemplateIndex(level, levelMatched, stream), i + 1, level));
+        }
+        monsters = Collections.unmodifiableList(built);
+    }
+
+    public boolean isBuilt() {
+        return monsters != null;
+    }
+
+    /**
+     * Gets the party level the wave was built for.
+     * @return the level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    MonsterFactory getFactory() {
+        return factory;
+    }
+
+    boolean isLevelMatched() {
+        return levelMatched;
+    }
+
+    GameRandom getStart() {
+        return start;
+    }
+
+    GameRandom getStream() {
+        return stream;
+    }
+
+    List<Monster> getMonsters() {
+        return monsters;
+    }
+}
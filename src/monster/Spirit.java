@@ -1,27 +1,20 @@
 package monster;
 
-import monster.enums.MonsterAttribute;
-
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Concrete subclass of a {@link Monster} representing a Spirit monster
  */
 public class Spirit extends Monster {
 
-    public Spirit(String name,
-                  int level,
-                  int baseDamage,
-                  int defense,
-                  int dodgeAbility) {
-        super(name, level, baseDamage, defense, dodgeAbility);
+    Spirit(MonsterTemplate template, String name, int level) {
+        super(template, name, level);
+    }
+
+    private Spirit(Spirit other) {
+        super(other);
     }
 
     @Override
-    protected Set<MonsterAttribute> getFavoredAttributes() {
-        Set<MonsterAttribute> attributes = new HashSet<>();
-        attributes.add(MonsterAttribute.DAMAGE);
-        return attributes;
+    public Spirit copy() {
+        return new Spirit(this);
     }
 }
@@ -0,0 +1,28 @@
+package monster.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Kinds of {@link monster.Monster}, each with the attributes it is favored in
+ */
+public enum MonsterType {
+    DRAGON(EnumSet.of(MonsterAttribute.DAMAGE)),
+    EXOSKELETON(EnumSet.of(MonsterAttribute.DEFENSE)),
+    SPIRIT(EnumSet.of(MonsterAttribute.DAMAGE));
+
+    private final Set<MonsterAttribute> favoredAttributes;
+
+    MonsterType(Set<MonsterAttribute> favoredAttributes) {
+        this.favoredAttributes = Collections.unmodifiableSet(favoredAttributes);
+    }
+
+    public Set<MonsterAttribute> getFavoredAttributes() {
+        return favoredAttributes;
+    }
+
+    public boolean isFavored(MonsterAttribute attribute) {
+        return favoredAttributes.contains(attribute);
+    }
+}
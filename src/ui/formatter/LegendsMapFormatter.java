@@ -1,7 +1,6 @@
 package ui.formatter;
 
 import hero.Hero;
-import monster.Monster;
 import worldMap.ILegendsWorldMap;
 import worldMap.Tile;
 import worldMap.enums.TileType;
@@ -38,10 +37,17 @@ public final class LegendsMapFormatter {
     private static final String BG_MONSTER_MARKER = "\u001B[48;5;196m";// Red (Monster on map)
     private static final String BG_OBSTACLE = "\u001B[48;5;94m";       // Brown
 
+    /** Lane names used on the classic three-lane board */
+    private static final String[] CLASSIC_LANE_NAMES = {"TOP", "MID", "BOT"};
+
+    /** Visible width of one rendered cell */
+    private static final int CELL_WIDTH = 4;
+
     public List<RenderedLine> render(ILegendsWorldMap map) {
-        int size = map.getSize();
+        int rows = map.getRows();
+        int cols = map.getCols();
 
-        List<RenderedLine> lines = new ArrayList<>();
+        List<RenderedLine> lines = new ArrayList<>(2 * rows + 24);
 
         // Header
         lines.add(new RenderedLine(LineKind.HEADER, ""));
@@ -49,32 +55,32 @@ public final class LegendsMapFormatter {
 
         // Lane labels
         lines.add(new RenderedLine(LineKind.TITLE, ""));
-        lines.add(new RenderedLine(LineKind.TITLE, buildLaneLabels()));
+        lines.add(new RenderedLine(LineKind.TITLE, buildLaneLabels(map)));
 
         // Column headers
-        lines.add(new RenderedLine(LineKind.TITLE, buildColumnHeaders(size)));
+        lines.add(new RenderedLine(LineKind.TITLE, buildColumnHeaders(cols)));
 
         // Grid rows - each row renders 2 lines to make square cells
-        for (int row = 0; row < size; row++) {
+        for (int row = 0; row < rows; row++) {
             // Line 1 of the cell (with content like H1, M)
-            StringBuilder line1 = new StringBuilder();
-            line1.append(String.format("  %d ", row));
-            for (int col = 0; col < size; col++) {
+            StringBuilder line1 = new StringBuilder(cols * 24);
+            line1.append(String.format("%3d ", row));
+            for (int col = 0; col < cols; col++) {
                 Tile tile = map.getTile(row, col);
                 line1.append(formatCellLine1(map, row, col, tile));
             }
             // Row labels
             if (row == 0) {
                 line1.append(BRIGHT_RED + "  ◄ Monster Nexus" + RESET);
-            } else if (row == size - 1) {
+            } else if (row == rows - 1) {
                 line1.append(BRIGHT_GREEN + "  ◄ Hero Nexus" + RESET);
             }
             lines.add(new RenderedLine(LineKind.TITLE, line1.toString()));
 
             // Line 2 of the cell (just background color)
-            StringBuilder line2 = new StringBuilder();
+            StringBuilder line2 = new StringBuilder(cols * 16);
             line2.append("    ");
-            for (int col = 0; col < size; col++) {
+            for (int col = 0; col < cols; col++) {
                 Tile tile = map.getTile(row, col);
                 line2.append(formatCellLine2(map, row, col, tile));
             }
@@ -87,52 +93,53 @@ public final class LegendsMapFormatter {
         return lines;
     }
 
-    private String buildLaneLabels() {
+    private String buildLaneLabels(ILegendsWorldMap map) {
+        int laneCount = map.getLaneCount();
+        boolean classic = laneCount == CLASSIC_LANE_NAMES.length;
+        // Lanes share the remaining width evenly once the single wall columns are removed
+        int laneSpan = (map.getCols() - (laneCount - 1)) / laneCount * CELL_WIDTH;
+
         StringBuilder sb = new StringBuilder();
         sb.append("    ");
-        sb.append(BRIGHT_YELLOW).append("◄ TOP ►").append(RESET);
-        sb.append("   ");
-        sb.append(BRIGHT_YELLOW).append("◄ MID ►").append(RESET);
-        sb.append("   ");
-        sb.append(BRIGHT_YELLOW).append("◄ BOT ►").append(RESET);
+        for (int lane = 0; lane < laneCount; lane++) {
+            String name = classic ? CLASSIC_LANE_NAMES[lane] : "L" + lane;
+            String label = laneSpan >= name.length() + 4 ? "◄ " + name + " ►" : name;
+            sb.append(BRIGHT_YELLOW).append(label).append(RESET);
+            if (lane < laneCount - 1) {
+                // Pad to the end of the lane, then skip the wall column
+                for (int i = label.length(); i < laneSpan + CELL_WIDTH; i++) {
+                    sb.append(' ');
+                }
+            }
+        }
         return sb.toString();
     }
 
-    private String buildColumnHeaders(int size) {
+    private String buildColumnHeaders(int cols) {
         StringBuilder sb = new StringBuilder();
         sb.append("    ");
-        for (int col = 0; col < size; col++) {
-            sb.append(String.format(" %-2d ", col));
+        for (int col = 0; col < cols; col++) {
+            sb.append(String.format(" %-3d", col));
         }
         return sb.toString();
     }
 
+    /**
+     * Gets the 0-based display index of the hero on a cell, or -1 if none.
+     */
+    private int heroIndexAt(ILegendsWorldMap map, int row, int col) {
+        Hero hero = map.getHeroAt(row, col);
+        return (hero == null) ? -1 : map.getHeroes().indexOf(hero);
+    }
+
     /**
      * Formats the first line of a cell (contains hero/monster symbols).
      * Each cell is 4 characters wide with background color.
      */
     private String formatCellLine1(ILegendsWorldMap map, int row, int col, Tile tile) {
-        // Find hero at this position
-        int heroIdx = -1;
-        int idx = 0;
-        for (Hero h : map.getHeroes()) {
-            int[] pos = map.getHeroPosition(h);
-            if (pos != null && pos[0] == row && pos[1] == col) {
-                heroIdx = idx;
-                break;
-            }
-            idx++;
-        }
-
-        // Find monster at this position
-        boolean hasMonster = false;
-        for (Monster m : map.getMonsters()) {
-            int[] pos = map.getMonsterPosition(m);
-            if (pos != null && pos[0] == row && pos[1] == col) {
-                hasMonster = true;
-                break;
-            }
-        }
+        // Occupancy lookups are O(1) on the map
+        int heroIdx = heroIndexAt(map, row, col);
+        boolean hasMonster = map.getMonsterAt(row, col) != null;
 
         StringBuilder cellStr = new StringBuilder();
 
@@ -170,27 +177,9 @@ public final class LegendsMapFormatter {
      * This makes the cell appear square in terminal (4 wide x 2 tall).
      */
     private String formatCellLine2(ILegendsWorldMap map, int row, int col, Tile tile) {
-        // Find hero at this position
-        int heroIdx = -1;
-        int idx = 0;
-        for (Hero h : map.getHeroes()) {
-            int[] pos = map.getHeroPosition(h);
-            if (pos != null && pos[0] == row && pos[1] == col) {
-                heroIdx = idx;
-                break;
-            }
-            idx++;
-        }
-
-        // Find monster at this position
-        boolean hasMonster = false;
-        for (Monster m : map.getMonsters()) {
-            int[] pos = map.getMonsterPosition(m);
-            if (pos != null && pos[0] == row && pos[1] == col) {
-                hasMonster = true;
-                break;
-            }
-        }
+        // Occupancy lookups are O(1) on the map
+        int heroIdx = heroIndexAt(map, row, col);
+        boolean hasMonster = map.getMonsterAt(row, col) != null;
 
         // Use marker color if hero/monster present, otherwise terrain color
         if (heroIdx >= 0 && hasMonster) {
@@ -213,7 +202,7 @@ public final class LegendsMapFormatter {
         TileType type = tile.getType();
         switch (type) {
             case NEXUS:
-                // Row 0 = Monster Nexus (orange), Row 7 = Hero Nexus (cyan)
+                // Row 0 = Monster Nexus (orange), bottom row = Hero Nexus (cyan)
                 return (row == 0) ? BG_NEXUS_MONSTER : BG_NEXUS_HERO;
             case INACCESSIBLE:
                 return BG_WALL;
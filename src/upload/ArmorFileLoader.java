@@ -4,7 +4,7 @@ import market.model.item.Armor;
 
 import java.util.List;
 
-import static upload.base.GenericFileLoader.load;
+import static upload.base.GenericFileLoader.loadTokens;
 
 
 public final class ArmorFileLoader {
@@ -13,11 +13,11 @@ public final class ArmorFileLoader {
     }
 
     public static List<Armor> loadArmors(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int requiredLevel = Integer.parseInt(parts[2]);
-            int damageReduction = Integer.parseInt(parts[3]);
+        return loadTokens(filePath, tokens -> {
+            String name = tokens.next();
+            int price = tokens.nextInt();
+            int requiredLevel = tokens.nextInt();
+            int damageReduction = tokens.nextInt();
             return new Armor(name, price, requiredLevel, damageReduction, 0);
         });
     }
@@ -0,0 +1,241 @@
+package upload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import market.model.item.Item;
+import monster.MonsterCatalog;
+import monster.MonsterTemplate;
+import monster.enums.MonsterType;
+import upload.base.DataFile;
+import utils.GameConstants;
+
+import static upload.base.TextFileUtils.readDataFile;
+
+/**
+ * Everything the games read from the data files, loaded once at startup
+ * and shared read-only from then on: the hero roster, the monster
+ * templates and the market item pool.
+ *
+ * {@link #load()} reads and parses every file at the same time and keeps
+ * how long each one took, so startup costs can be reported. Lists keep
+ * the order of the files and of the lines in them, exactly as loading
+ * one file after another would, so seeded games do not change.
+ */
+public final class GameDataRepository {
+
+    private static final String DIR = GameConstants.BASE_DIR_TO_UPLOAD_FILES;
+
+    private final HeroRoster heroRoster;
+    private final List<MonsterTemplate> monsterTemplates;
+    /** The templates indexed by level, built once for every factory */
+    private final MonsterCatalog monsterCatalog;
+    private final List<Item> marketItems;
+
+    /** Time spent reading and parsing each file, in load order */
+    private final Map<String, Long> fileNanos;
+    /** Time from starting the load until everything was ready */
+    private final long totalNanos;
+
+    private GameDataRepository(HeroRoster heroRoster,
+                               List<MonsterTemplate> monsterTemplates,
+                               List<Item> marketItems,
+                               Map<String, Long> fileNanos,
+                               long totalNanos) {
+        this.heroRoster = heroRoster;
+        this.monsterTemplates = Collections.unmodifiableList(monsterTemplates);
+        this.marketItems = Collections.unmodifiableList(marketItems);
+        this.fileNanos = Collections.unmodifiableMap(fileNanos);
+        this.totalNanos = totalNanos;
+        if (monsterTemplates.isEmpty()) {
+            throw new IllegalStateException("No monsters loaded from files");
+        }
+        this.monsterCatalog = new MonsterCatalog(this.monsterTemplates);
+        if (marketItems.isEmpty()) {
+            throw new IllegalStateException("No market items loaded from directory: " + DIR);
+        }
+    }
+
+    /**
+     * Loads every data file concurrently on a few short-lived threads.
+     * @return the loaded data
+     */
+    public static GameDataRepository load() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ExecutorService loaders = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return load(loaders);
+        } finally {
+            loaders.shutdown();
+        }
+    }
+
+    /**
+     * Loads every data file concurrently on the given executor.
+     * @param executor where the files are read and parsed, owned by the caller
+     * @return the loaded data
+     */
+    public static GameDataRepository load(Executor executor) {
+        long start = System.nanoTime();
+        Loader loader = new Loader(executor);
+
+        CompletableFuture<DataFile> warriors = loader.submit("Warriors.txt",
+                () -> readDataFile(HeroFileLoader.WARRIORS_FILE));
+        CompletableFuture<DataFile> sorcerers = loader.submit("Sorcerers.txt",
+                () -> readDataFile(HeroFileLoader.SORCERERS_FILE));
+        CompletableFuture<DataFile> paladins = loader.submit("Paladins.txt",
+                () -> readDataFile(HeroFileLoader.PALADINS_FILE));
+
+        List<CompletableFuture<? extends List<MonsterTemplate>>> monsterFiles = new ArrayList<>();
+        monsterFiles.add(loader.submit("Dragons.txt",
+                () -> MonsterFileLoader.loadTemplates(DIR + "/Dragons.txt", MonsterType.DRAGON)));
+        monsterFiles.add(loader.submit("Exoskeletons.txt",
+                () -> MonsterFileLoader.loadTemplates(DIR + "/Exoskeletons.txt", MonsterType.EXOSKELETON)));
+        monsterFiles.add(loader.submit("Spirits.txt",
+                () -> MonsterFileLoader.loadTemplates(DIR + "/Spirits.txt", MonsterType.SPIRIT)));
+
+        // Same order as MarketFactory has always stocked its pool in
+        List<CompletableFuture<? extends List<? extends Item>>> itemFiles = new ArrayList<>();
+        itemFiles.add(loader.submit("Weaponry.txt", () -> WeaponFileLoader.loadWeapons(DIR + "/Weaponry.txt")));
+        itemFiles.add(loader.submit("Armory.txt", () -> ArmorFileLoader.loadArmors(DIR + "/Armory.txt")));
+        itemFiles.add(loader.submit("IceSpells.txt", () -> SpellFileLoader.loadIceSpells(DIR + "/IceSpells.txt")));
+        itemFiles.add(loader.submit("FireSpells.txt", () -> SpellFileLoader.loadFireSpells(DIR + "/FireSpells.txt")));
+        itemFiles.add(loader.submit("LightningSpells.txt",
+                () -> SpellFileLoader.loadLightningSpells(DIR + "/LightningSpells.txt")));
+        itemFiles.add(loader.submit("Potions.txt", () -> PotionFileLoader.loadPotions(DIR + "/Potions.txt")));
+
+        HeroRoster roster = new HeroRoster(join(warriors), join(sorcerers), join(paladins));
+        List<MonsterTemplate> monsters = new ArrayList<>();
+        for (CompletableFuture<? extends List<MonsterTemplate>> file : monsterFiles) {
+            monsters.addAll(join(file));
+        }
+        List<Item> items = new ArrayList<>();
+        for (CompletableFuture<? extends List<? extends Item>> file : itemFiles) {
+            items.addAll(join(file));
+        }
+        return new GameDataRepository(roster, monsters, items, loader.getTimes(), System.nanoTime() - start);
+    }
+
+    private static <T> T join(CompletableFuture<T> file) {
+        try {
+            return file.join();
+        } catch (CompletionException e) {
+            // Surface what the loader threw, as a sequential load would
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public HeroRoster getHeroRoster() {
+        return heroRoster;
+    }
+
+    /**
+     * Gets the monster templates: dragons, exoskeletons, then spirits.
+     * @return the templates, read-only
+     */
+    public List<MonsterTemplate> getMonsterTemplates() {
+        return monsterTemplates;
+    }
+
+    /**
+     * Gets the monster templates indexed by level, for level-matched draws.
+     * @return the catalog over {@link #getMonsterTemplates()}
+     */
+    public MonsterCatalog getMonsterCatalog() {
+        return monsterCatalog;
+    }
+
+    /**
+     * Gets the item pool markets are stocked from: weapons, armor, ice,
+     * fire and lightning spells, then potions. Markets hand out copies.
+     * @return the items, read-only
+     */
+    public List<Item> getMarketItems() {
+        return marketItems;
+    }
+
+    /**
+     * Gets how long reading and parsing each file took.
+     * @return nanoseconds per file name, in load order
+     */
+    public Map<String, Long> getFileLoadNanos() {
+        return fileNanos;
+    }
+
+    /**
+     * Gets how long the whole load took, start to finish.
+     * @return the wall-clock time in nanoseconds
+     */
+    public long getTotalLoadNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Describes the load times, e.g. "Loaded 12 data files in 4.2 ms (Warriors.txt 0.8 ms, ...)".
+     * @return a one-line timing breakdown
+     */
+    public String describeLoadTimes() {
+        StringBuilder files = new StringBuilder();
+        for (Map.Entry<String, Long> file : fileNanos.entrySet()) {
+            if (files.length() > 0) {
+                files.append(", ");
+            }
+            files.append(String.format("%s %.1f ms", file.getKey(), file.getValue() / 1e6));
+        }
+        return String.format("Loaded %d data files in %.1f ms (%s)", fileNanos.size(), totalNanos / 1e6, files);
+    }
+
+    /**
+     * Submits file loads and times each one.
+     */
+    private static final class Loader {
+        private final Executor executor;
+        private final List<String> names = new ArrayList<>();
+        private final List<CompletableFuture<Long>> times = new ArrayList<>();
+
+        Loader(Executor executor) {
+            this.executor = executor;
+        }
+
+        <T> CompletableFuture<T> submit(String name, Supplier<T> load) {
+            CompletableFuture<Long> time = new CompletableFuture<>();
+            CompletableFuture<T> result = CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    return load.get();
+                } finally {
+                    time.complete(System.nanoTime() - start);
+                }
+            }, executor);
+            names.add(name);
+            times.add(time);
+            return result;
+        }
+
+        /**
+         * Collects the times once every load has finished.
+         */
+        Map<String, Long> getTimes() {
+            Map<String, Long> byFile = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                byFile.put(names.get(i), times.get(i).join());
+            }
+            return byFile;
+        }
+    }
+}
@@ -1,69 +1,91 @@
 package upload;
 
 import hero.*;
+import upload.base.DataFile;
+import upload.base.TokenMapper;
 import utils.GameConstants;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static upload.base.GenericFileLoader.load;
+import static upload.base.GenericFileLoader.loadTokens;
+import static upload.base.TextFileUtils.readDataFile;
 
 
 public final class HeroFileLoader {
 
+    static final String WARRIORS_FILE = GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Warriors.txt";
+    static final String SORCERERS_FILE = GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Sorcerers.txt";
+    static final String PALADINS_FILE = GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Paladins.txt";
+
+    private static final TokenMapper<Warrior> WARRIOR_MAPPER = tokens -> {
+        String name = tokens.next();
+        int mana = tokens.nextInt();
+        int strength = tokens.nextInt();
+        int agility = tokens.nextInt();
+        int dexterity = tokens.nextInt();
+        int money = tokens.nextInt();
+        int exp = tokens.nextInt();
+
+        return new Warrior(name, 1, strength, dexterity, agility, mana, new Wallet(money), exp);
+    };
+
+    private static final TokenMapper<Sorcerer> SORCERER_MAPPER = tokens -> {
+        String name = tokens.next();
+        int mana = tokens.nextInt();
+        int strength = tokens.nextInt();
+        int agility = tokens.nextInt();
+        int dexterity = tokens.nextInt();
+        int money = tokens.nextInt();
+        int exp = tokens.nextInt();
+
+        return new Sorcerer(name, 1, strength, dexterity, agility, mana, new Wallet(money), exp);
+    };
+
+    private static final TokenMapper<Paladin> PALADIN_MAPPER = tokens -> {
+        String name = tokens.next();
+        int mana = tokens.nextInt();
+        int strength = tokens.nextInt();
+        int agility = tokens.nextInt();
+        int dexterity = tokens.nextInt();
+        int money = tokens.nextInt();
+        int exp = tokens.nextInt();
+
+        return new Paladin(name, 1, strength, dexterity, agility, mana, new Wallet(money), exp);
+    };
+
     private HeroFileLoader() {
     }
 
     public static List<Hero> loadAllHeroes() {
-        List<Hero> heroes = new ArrayList<>();
-        heroes.addAll(loadWarriors(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Warriors.txt"));
-        heroes.addAll(loadSorcerers(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Sorcerers.txt"));
-        heroes.addAll(loadPaladins(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Paladins.txt"));
-        return heroes;
+        return loadRoster().createHeroes();
+    }
+
+    /**
+     * Reads every hero file once.
+     * @return a roster that builds fresh heroes from the lines read
+     */
+    public static HeroRoster loadRoster() {
+        return new HeroRoster(readDataFile(WARRIORS_FILE), readDataFile(SORCERERS_FILE), readDataFile(PALADINS_FILE));
     }
 
     public static List<Warrior> loadWarriors(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int mana = Integer.parseInt(parts[1]);
-            int strength = Integer.parseInt(parts[2]);
-            int agility = Integer.parseInt(parts[3]);
-            int dexterity = Integer.parseInt(parts[4]);
-            int money = Integer.parseInt(parts[5]);
-            int exp = Integer.parseInt(parts[6]);
-
-            Warrior warrior = new Warrior(name, 1, strength, dexterity, agility, mana, new Wallet(money), exp);
-            return warrior;
-        });
+        return loadTokens(filePath, WARRIOR_MAPPER);
     }
 
     public static List<Sorcerer> loadSorcerers(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int mana = Integer.parseInt(parts[1]);
-            int strength = Integer.parseInt(parts[2]);
-            int agility = Integer.parseInt(parts[3]);
-            int dexterity = Integer.parseInt(parts[4]);
-            int money = Integer.parseInt(parts[5]);
-            int exp = Integer.parseInt(parts[6]);
-
-            Sorcerer sorcerer = new Sorcerer(name, 1, strength, dexterity, agility, mana, new Wallet(money), exp);
-            return sorcerer;
-        });
+        return loadTokens(filePath, SORCERER_MAPPER);
     }
 
     public static List<Paladin> loadPaladins(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int mana = Integer.parseInt(parts[1]);
-            int strength = Integer.parseInt(parts[2]);
-            int agility = Integer.parseInt(parts[3]);
-            int dexterity = Integer.parseInt(parts[4]);
-            int money = Integer.parseInt(parts[5]);
-            int exp = Integer.parseInt(parts[6]);
-
-            Paladin paladin = new Paladin(name, 1, strength, dexterity, agility, mana, new Wallet(money), exp);
-            return paladin;
-        });
+        return loadTokens(filePath, PALADIN_MAPPER);
+    }
+
+    static List<Hero> createHeroes(DataFile warriors, DataFile sorcerers, DataFile paladins) {
+        List<Hero> heroes = new ArrayList<>(warriors.size() + sorcerers.size() + paladins.size());
+        heroes.addAll(warriors.map(WARRIOR_MAPPER));
+        heroes.addAll(sorcerers.map(SORCERER_MAPPER));
+        heroes.addAll(paladins.map(PALADIN_MAPPER));
+        return heroes;
     }
 }
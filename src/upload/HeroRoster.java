@@ -0,0 +1,44 @@
+package upload;
+
+import hero.Hero;
+import upload.base.DataFile;
+
+import java.util.List;
+
+/**
+ * Hero data read from the hero files, kept as the raw file contents.
+ *
+ * Heroes are mutable (HP, gold, inventory, position), so every game needs
+ * its own instances. The roster builds them from lines read once, which lets
+ * many games - on any number of threads - start without touching the disk.
+ */
+public final class HeroRoster {
+
+    private final DataFile warriors;
+    private final DataFile sorcerers;
+    private final DataFile paladins;
+
+    HeroRoster(DataFile warriors, DataFile sorcerers, DataFile paladins) {
+        this.warriors = warriors;
+        this.sorcerers = sorcerers;
+        this.paladins = paladins;
+        if (size() == 0) {
+            throw new IllegalStateException("No heroes loaded from files");
+        }
+    }
+
+    /**
+     * Builds a fresh set of heroes, in file order: warriors, sorcerers, paladins.
+     * @return new hero instances owned by the caller
+     */
+    public List<Hero> createHeroes() {
+        return HeroFileLoader.createHeroes(warriors, sorcerers, paladins);
+    }
+
+    /**
+     * @return the number of heroes each call to {@link #createHeroes()} returns
+     */
+    public int size() {
+        return warriors.size() + sorcerers.size() + paladins.size();
+    }
+}
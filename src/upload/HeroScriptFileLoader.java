@@ -0,0 +1,32 @@
+package upload;
+
+import battle.enums.HeroActionType;
+import battle.menu.auto.ScriptStep;
+import worldMap.enums.Direction;
+
+import java.util.List;
+
+import static upload.base.GenericFileLoader.loadTokens;
+
+/**
+ * Loads hero scripts for {@link battle.menu.auto.ScriptedBattleMenu}.
+ * Like every data file, the first line is a header; each further line is an
+ * action name optionally followed by a direction, e.g. {@code MOVE UP}.
+ */
+public final class HeroScriptFileLoader {
+
+    private HeroScriptFileLoader() {
+    }
+
+    public static List<ScriptStep> loadScript(String filePath) {
+        List<ScriptStep> steps = loadTokens(filePath, tokens -> {
+            HeroActionType action = HeroActionType.valueOf(tokens.next().toUpperCase());
+            Direction direction = tokens.hasNext() ? Direction.valueOf(tokens.next().toUpperCase()) : null;
+            return new ScriptStep(action, direction);
+        });
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Hero script has no steps: " + filePath);
+        }
+        return steps;
+    }
+}
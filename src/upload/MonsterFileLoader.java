@@ -1,15 +1,13 @@
 package upload;
 
-import monster.Dragon;
-import monster.Exoskeleton;
-import monster.Monster;
-import monster.Spirit;
+import monster.MonsterTemplate;
+import monster.enums.MonsterType;
 import utils.GameConstants;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static upload.base.GenericFileLoader.load;
+import static upload.base.GenericFileLoader.loadTokens;
 
 
 public final class MonsterFileLoader {
@@ -17,44 +15,22 @@ public final class MonsterFileLoader {
     private MonsterFileLoader() {
     }
 
-    public static List<Monster> loadAllMonsters() {
-        List<Monster> monsters = new ArrayList<>();
-        monsters.addAll(loadDragons(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Dragons.txt"));
-        monsters.addAll(loadExoskeletons(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Exoskeletons.txt"));
-        monsters.addAll(loadSpirits(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Spirits.txt"));
-        return monsters;
+    public static List<MonsterTemplate> loadAllTemplates() {
+        List<MonsterTemplate> templates = new ArrayList<>();
+        templates.addAll(loadTemplates(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Dragons.txt", MonsterType.DRAGON));
+        templates.addAll(loadTemplates(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Exoskeletons.txt", MonsterType.EXOSKELETON));
+        templates.addAll(loadTemplates(GameConstants.BASE_DIR_TO_UPLOAD_FILES + "/Spirits.txt", MonsterType.SPIRIT));
+        return templates;
     }
 
-    public static List<Dragon> loadDragons(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int level = Integer.parseInt(parts[1]);
-            int damage = Integer.parseInt(parts[2]);
-            int defense = Integer.parseInt(parts[3]);
-            int dodgeStat = Integer.parseInt(parts[4]);
-            return new Dragon(name, level, damage, defense, dodgeStat);
-        });
-    }
-
-    public static List<Exoskeleton> loadExoskeletons(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int level = Integer.parseInt(parts[1]);
-            int damage = Integer.parseInt(parts[2]);
-            int defense = Integer.parseInt(parts[3]);
-            int dodgeStat = Integer.parseInt(parts[4]);
-            return new Exoskeleton(name, level, damage, defense, dodgeStat);
-        });
-    }
-
-    public static List<Spirit> loadSpirits(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int level = Integer.parseInt(parts[1]);
-            int damage = Integer.parseInt(parts[2]);
-            int defense = Integer.parseInt(parts[3]);
-            int dodgeStat = Integer.parseInt(parts[4]);
-            return new Spirit(name, level, damage, defense, dodgeStat);
+    public static List<MonsterTemplate> loadTemplates(String filePath, MonsterType type) {
+        return loadTokens(filePath, tokens -> {
+            String name = tokens.next();
+            int level = tokens.nextInt();
+            int damage = tokens.nextInt();
+            int defense = tokens.nextInt();
+            int dodgeStat = tokens.nextInt();
+            return new MonsterTemplate(type, name, level, damage, defense, dodgeStat);
         });
     }
 }
@@ -5,7 +5,7 @@ import market.model.item.StatType;
 
 import java.util.List;
 
-import static upload.base.GenericFileLoader.load;
+import static upload.base.GenericFileLoader.loadTokens;
 
 public final class PotionFileLoader {
 
@@ -13,12 +13,12 @@ public final class PotionFileLoader {
     }
 
     public static List<Potion> loadPotions(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int requiredLevel = Integer.parseInt(parts[2]);
-            int effectAmount = Integer.parseInt(parts[3]);
-            String attr = parts[4].toUpperCase();
+        return loadTokens(filePath, tokens -> {
+            String name = tokens.next();
+            int price = tokens.nextInt();
+            int requiredLevel = tokens.nextInt();
+            int effectAmount = tokens.nextInt();
+            String attr = tokens.next().toUpperCase();
 
             StatType type = mapPotionType(attr);
             return new Potion(name, price, requiredLevel, effectAmount, type);
@@ -4,7 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import market.model.item.Spell;
 import market.model.item.SpellType;
-import static upload.base.GenericFileLoader.load;
+import static upload.base.GenericFileLoader.loadTokens;
 
 /*
 *
@@ -39,12 +39,12 @@ public final class SpellFileLoader {
     }
 
     private static List<Spell> loadSpellsOfType(String filePath, SpellType type) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int cost = Integer.parseInt(parts[1]);
-            int requiredLevel = Integer.parseInt(parts[2]);
-            int damage = Integer.parseInt(parts[3]);
-            int manaCost = Integer.parseInt(parts[4]);
+        return loadTokens(filePath, tokens -> {
+            String name = tokens.next();
+            int cost = tokens.nextInt();
+            int requiredLevel = tokens.nextInt();
+            int damage = tokens.nextInt();
+            int manaCost = tokens.nextInt();
             return new Spell(name, cost, requiredLevel, damage, manaCost, type);
         });
     }
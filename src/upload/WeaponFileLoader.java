@@ -2,7 +2,7 @@ package upload;
 
 import java.util.List;
 import market.model.item.Weapon;
-import static upload.base.GenericFileLoader.load;
+import static upload.base.GenericFileLoader.loadTokens;
 
 
 
@@ -19,12 +19,12 @@ public final class WeaponFileLoader {
     }
 
     public static List<Weapon> loadWeapons(String filePath) {
-        return load(filePath, parts -> {
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int damage = Integer.parseInt(parts[3]);
-            int handsRequired = Integer.parseInt(parts[4]);
+        return loadTokens(filePath, tokens -> {
+            String name = tokens.next();
+            int price = tokens.nextInt();
+            int level = tokens.nextInt();
+            int damage = tokens.nextInt();
+            int handsRequired = tokens.nextInt();
             return new Weapon(name, price, level, damage, handsRequired, 0);
         });
     }
@@ -0,0 +1,99 @@
+package upload.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A data file held as the bytes read from disk, with the position of every
+ * data line: the header line and blank lines are skipped, as in
+ * {@link TextFileUtils#readDataLines(String)}.
+ *
+ * Lines are never copied into Strings; {@link #map(TokenMapper)} reads
+ * their columns in place, so the same file can be turned into fresh
+ * objects any number of times. Read-only once created, so it can be mapped
+ * from several threads at once.
+ */
+public final class DataFile {
+
+    private final byte[] data;
+    /** Start and end of every data line, without surrounding whitespace */
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    private final int lineCount;
+
+    DataFile(byte[] data) {
+        this.data = data;
+        int lines = 0;
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+
+        int i = skipLine(data, 0);
+        while (i < data.length) {
+            int stop = i;
+            while (stop < data.length && data[stop] != '\n' && data[stop] != '\r') {
+                stop++;
+            }
+            int start = i;
+            int last = stop;
+            while (start < last && LineTokens.isSpace(data[start])) {
+                start++;
+            }
+            while (last > start && LineTokens.isSpace(data[last - 1])) {
+                last--;
+            }
+            if (start < last) {
+                if (lines == starts.length) {
+                    starts = Arrays.copyOf(starts, lines * 2);
+                    ends = Arrays.copyOf(ends, lines * 2);
+                }
+                starts[lines] = start;
+                ends[lines] = last;
+                lines++;
+            }
+            i = stop + 1;
+        }
+        this.lineStarts = starts;
+        this.lineEnds = ends;
+        this.lineCount = lines;
+    }
+
+    /**
+     * @return the number of data lines
+     */
+    public int size() {
+        return lineCount;
+    }
+
+    /**
+     * Maps every data line, in file order.
+     * @param mapper builds one object per line
+     * @return the objects, one per data line
+     */
+    public <T> List<T> map(TokenMapper<T> mapper) {
+        List<T> result = new ArrayList<>(lineCount);
+        LineTokens tokens = new LineTokens(data);
+        for (int line = 0; line < lineCount; line++) {
+            tokens.reset(lineStarts[line], lineEnds[line]);
+            result.add(mapper.map(tokens));
+        }
+        return result;
+    }
+
+    /**
+     * Skips the line starting at the given position, with its line break.
+     */
+    private static int skipLine(byte[] data, int from) {
+        int i = from;
+        while (i < data.length && data[i] != '\n' && data[i] != '\r') {
+            i++;
+        }
+        if (i < data.length && data[i] == '\r') {
+            i++;
+        }
+        if (i < data.length && data[i] == '\n') {
+            i++;
+        }
+        return i;
+    }
+}
@@ -9,8 +9,24 @@ public final class GenericFileLoader {
     }
 
     public static <T> List<T> load(String filePath, LineMapper<T> mapper) {
+        return map(TextFileUtils.readDataLines(filePath), mapper);
+    }
+
+    /**
+     * Loads a file by reading each line's columns in place: numbers are
+     * parsed without building a String per column.
+     */
+    public static <T> List<T> loadTokens(String filePath, TokenMapper<T> mapper) {
+        return TextFileUtils.readDataFile(filePath).map(mapper);
+    }
+
+    /**
+     * Maps data lines that were already read, so they can be turned into
+     * fresh objects any number of times without touching the file again.
+     */
+    public static <T> List<T> map(List<String> lines, LineMapper<T> mapper) {
         List<T> result = new ArrayList<>();
-        for (String line : TextFileUtils.readDataLines(filePath)) {
+        for (String line : lines) {
             String[] parts = line.split("\\s+");
             if (parts.length == 0) {
                 continue;
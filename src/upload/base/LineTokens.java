@@ -0,0 +1,131 @@
+package upload.base;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cursor over the whitespace-separated columns of one data line, read
+ * straight from the bytes of a {@link DataFile}.
+ *
+ * Numbers are parsed in place, so only the columns read with
+ * {@link #next()} (usually just the name) become Strings. One instance is
+ * moved from line to line while a file is mapped; mappers must not keep it.
+ */
+public final class LineTokens {
+
+    private final byte[] data;
+    private int lineStart;
+    private int pos;
+    private int end;
+
+    LineTokens(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Moves the cursor to the start of another line.
+     */
+    void reset(int start, int end) {
+        this.lineStart = start;
+        this.pos = start;
+        this.end = end;
+    }
+
+    /**
+     * Checks whether the line has another column.
+     * @return true if {@link #next()} or {@link #nextInt()} can read one
+     */
+    public boolean hasNext() {
+        skipSpaces();
+        return pos < end;
+    }
+
+    /**
+     * Reads the next column as text.
+     * @return the column
+     */
+    public String next() {
+        int start = startToken();
+        int stop = tokenEnd(start);
+        pos = stop;
+        return new String(data, start, stop - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the next column as a number, accepting what
+     * {@link Integer#parseInt(String)} accepts for plain decimal text.
+     * @return the column's value
+     * @throws NumberFormatException if the column is not a decimal int
+     */
+    public int nextInt() {
+        int start = startToken();
+        int i = start;
+        boolean negative = false;
+        if (data[i] == '-' || data[i] == '+') {
+            negative = data[i] == '-';
+            i++;
+        }
+        // Accumulate negatively, like Integer.parseInt, so MIN_VALUE fits
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int multmin = limit / 10;
+        int result = 0;
+        int digits = 0;
+        for (; i < end && !isSpace(data[i]); i++, digits++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9 || result < multmin) {
+                throw notANumber(start);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw notANumber(start);
+            }
+            result -= digit;
+        }
+        if (digits == 0) {
+            throw notANumber(start);
+        }
+        pos = i;
+        return negative ? result : -result;
+    }
+
+    /**
+     * @return the whole line, e.g. for error messages
+     */
+    @Override
+    public String toString() {
+        return new String(data, lineStart, end - lineStart, StandardCharsets.UTF_8);
+    }
+
+    private int startToken() {
+        if (!hasNext()) {
+            throw new IllegalArgumentException("Missing column in line: " + this);
+        }
+        return pos;
+    }
+
+    private void skipSpaces() {
+        while (pos < end && isSpace(data[pos])) {
+            pos++;
+        }
+    }
+
+    private int tokenEnd(int start) {
+        int stop = start;
+        while (stop < end && !isSpace(data[stop])) {
+            stop++;
+        }
+        return stop;
+    }
+
+    private NumberFormatException notANumber(int start) {
+        String token = new String(data, start, tokenEnd(start) - start, StandardCharsets.UTF_8);
+        return new NumberFormatException("For input string: \"" + token + "\"");
+    }
+
+    /**
+     * Same characters {@link String#trim()} drops; bytes of multi-byte
+     * UTF-8 characters are negative and never match.
+     */
+    static boolean isSpace(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
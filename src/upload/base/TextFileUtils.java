@@ -13,6 +13,20 @@ public final class TextFileUtils {
     private TextFileUtils() {
     }
 
+    /**
+     * Reads a whole data file at once, for loaders that parse its columns
+     * in place instead of splitting lines.
+     * @param filePath the file to read
+     * @return the file's data lines
+     */
+    public static DataFile readDataFile(String filePath) {
+        try {
+            return new DataFile(Files.readAllBytes(Paths.get(filePath)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + filePath, e);
+        }
+    }
+
     public static List<String> readDataLines(String filePath) {
         List<String> lines = new ArrayList<>();
         try (BufferedReader br = Files.newBufferedReader(Paths.get(filePath))) {
@@ -0,0 +1,10 @@
+package upload.base;
+
+/**
+ * Builds one object from a data line, reading its columns in order from
+ * {@link LineTokens} instead of a split {@code String[]}.
+ */
+@FunctionalInterface
+public interface TokenMapper<T> {
+    T map(LineTokens tokens);
+}
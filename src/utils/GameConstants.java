@@ -36,9 +36,14 @@ public final class GameConstants {
     public static final double MONSTER_ATTACK_MULTIPLIER = 0.05;
     public static final int MONSTER_DEFENSE_DIVISOR = 100;
     public static final int MONSTER_MIN_DAMAGE_ON_HIT = 1;
+    public static final int MONSTER_LEVEL_WINDOW = 2; // Levels below the party a level-matched monster may come from
 
     // Battle
     public static final double BATTLE_PROBABILITY = 0.3;
+    public static final int BATTLE_EVENT_LOG_CAPACITY = 1024; // Recent battle events kept for consumers
+    public static final long INITIATIVE_ROUND_TICKS = 1_000_000; // Initiative clock ticks per round
+    public static final int SPELL_EFFECT_ROUNDS = 3; // Rounds a spell's debuff lasts
+    public static final int POTION_EFFECT_ROUNDS = 5; // Rounds a stat potion's boost lasts
 
     // Market
     public static final double SELL_PRICE_MULTIPLIER = 0.5;
@@ -67,6 +72,22 @@ public final class GameConstants {
     public static final int LOV_GOLD_PER_MONSTER_LEVEL = 500; // Gold dropped by monsters
     public static final int LOV_EXP_PER_MONSTER = 2;          // Experience per monster kill
 
+    // Legends of Valor Simulation
+    public static final int LOV_SIMULATION_MAX_ROUNDS = 200;  // Simulated games past this are draws
+    public static final int LOV_PARALLEL_MONSTER_THRESHOLD = 64; // Monster turns this large decide in parallel
+    public static final String SIMULATE_FLAG = "--simulate";
+    public static final String LANE_SHARDS_FLAG = "--shards";     // Followed by the lane groups per game
+
+    // Legends of Valor Advisor
+    public static final long LOV_ADVISOR_BUDGET_MS = 50;        // Thinking time per hero decision
+    public static final int LOV_ADVISOR_HORIZON_ROUNDS = 8;     // Rounds a rollout plays before scoring
+    public static final double LOV_ADVISOR_EXPLORATION = 0.7;   // UCB1 exploration constant
+    public static final String ADVISOR_FLAG = "--advisor";
+    public static final int LOV_ADVISOR_TABLE_SIZE = 1 << 14;   // Searched positions remembered by the advisor
+
+    // Legends of Valor Board Hashing
+    public static final int LOV_ZOBRIST_HP_BUCKETS = 8;         // Dead, then 7 equal bands of max HP
+
     //Data upload
     public static final String BASE_DIR_TO_UPLOAD_FILES = "files";
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package utils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seedable source of randomness for one game.
+ *
+ * A game creates a single root from its seed and hands each subsystem
+ * (map generation, markets, monsters, battles) its own stream via
+ * {@link #split()}. Splitting in the same order always yields the same
+ * streams, so any game can be replayed from its seed.
+ *
+ * Instances are not thread-safe and never need to be: give every thread
+ * its own split instead of sharing one generator.
+ *
+ * The generator is SplitMix64 and yields exactly the sequences of
+ * {@link SplittableRandom}, but keeps its state in plain fields so a game
+ * snapshot can save it with {@link #copy()} and rewind it with
+ * {@link #restore(GameRandom)}.
+ */
+public final class GameRandom {
+
+    /** Seed of a stream that was split off another one rather than seeded directly */
+    public static final long NO_SEED = Long.MIN_VALUE;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /** SplitMix64 state: advanced by gamma before every draw */
+    private long state;
+    private final long gamma;
+    private final long seed;
+
+    /**
+     * Creates a generator that replays the same sequence for the same seed.
+     * @param seed the seed
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA, seed);
+    }
+
+    private GameRandom(long state, long gamma, long seed) {
+        this.state = state;
+        this.gamma = gamma;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a generator with a fresh seed.
+     * Print {@link #getSeed()} to be able to replay the game later.
+     * @return the new generator
+     */
+    public static GameRandom withRandomSeed() {
+        return new GameRandom(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Gets the seed this generator was created with.
+     * @return the seed, or {@link #NO_SEED} for split streams
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates an independent stream for a subsystem or worker thread.
+     * @return the new stream
+     */
+    public GameRandom split() {
+        long splitState = nextLong();
+        return new GameRandom(splitState, mixGamma(nextState()), NO_SEED);
+    }
+
+    /**
+     * Saves the current position in the sequence.
+     * @return a generator that continues exactly where this one is now
+     */
+    public GameRandom copy() {
+        return new GameRandom(state, gamma, seed);
+    }
+
+    /**
+     * Rewinds (or fast-forwards) this stream to a position saved with {@link #copy()}.
+     * @param saved a copy of this same stream
+     */
+    public void restore(GameRandom saved) {
+        if (saved.gamma != gamma) {
+            throw new IllegalArgumentException("Can only restore a copy of the same stream");
+        }
+        this.state = saved.state;
+    }
+
+    /**
+     * Checks whether this stream is at the position a copy was saved at.
+     * @param saved a copy of this same stream
+     * @return true if the next draws of both would be the same
+     */
+    public boolean isAt(GameRandom saved) {
+        return saved.gamma == gamma && saved.state == state;
+    }
+
+    /**
+     * @param bound exclusive upper bound, must be positive
+     * @return a uniform int in [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = mix32(nextState());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;  // power of two
+        }
+        // Reject the top partial block so every value is equally likely
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextState()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * @return a uniform double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * @return a uniform long
+     */
+    public long nextLong() {
+        return mix64(nextState());
+    }
+
+    /**
+     * Rolls against a probability.
+     * @param probability chance of success in [0, 1]
+     * @return true with the given probability
+     */
+    public boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    /**
+     * Picks a uniformly random element.
+     * @param items the candidates, must not be empty
+     * @return the chosen element
+     */
+    public <T> T pick(List<T> items) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Cannot pick from an empty list");
+        }
+        return items.get(nextInt(items.size()));
+    }
+
+    /**
+     * Shuffles a list in place (Fisher-Yates).
+     * @param items the list to shuffle
+     */
+    public <T> void shuffle(List<T> items) {
+        for (int i = items.size() - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            items.set(j, items.set(i, items.get(j)));
+        }
+    }
+
+    // ==================== SPLITMIX64 ====================
+
+    private long nextState() {
+        return state += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /** Odd gamma with enough bit transitions for a well-mixed split stream */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -22,4 +22,13 @@ public interface IOUtils {
     void printlnTitle(String message);
 
     void printlnHeader(String message);
+
+    /**
+     * Tells callers that all output is discarded, so they can skip
+     * building expensive output such as map renders.
+     * @return true if nothing printed through this instance is ever shown
+     */
+    default boolean isSilent() {
+        return false;
+    }
 }
@@ -77,5 +77,17 @@ public final class MessageUtils {
     public static final String MSG_RECALLING_FORMAT = "Recalling %s to their nexus";
     public static final String MSG_RECALL_SUCCESS = "%s has been recalled to lane %d at [row=%d, col=%d]";
     public static final String TRY_ANOTHER_DIRECTION = "You can't move %s from here. Try another direction.";
+    public static final String NO_LEGAL_MOVES = "%s has nowhere to move from here.";
+    public static final String GAME_SEED = "Game seed: %d (pass it as the first argument to replay this game)";
     public static final String SUCCESS_MOVE = "%s moved %s";
+    public static final String NO_OBSTACLES_NEARBY = "%s has no obstacle next to them to remove.";
+    public static final String OBSTACLE_REMOVED = "%s cleared the obstacle %s of them";
+    public static final String HEADLESS_INPUT_REQUESTED = "A headless game tried to read player input";
+    public static final String SIMULATION_REPORT =
+            "%d games in %.2f s (%.0f games/min, %.3f ms/game) | heroes %.1f%%, monsters %.1f%%, "
+                    + "round limit %.1f%% | rounds avg %.1f, min %d, max %d";
+    public static final String ADVISOR_HINT =
+            "Advisor: %s should %s (score %.0f%%, %d rollouts, %.0f rollouts/s)";
+    public static final String ADVISOR_REPORT =
+            "MCTS advisor: %d decisions (%d from the transposition table), %d rollouts, %.0f rollouts/s";
 }
@@ -0,0 +1,62 @@
+package utils;
+
+/**
+ * {@link IOUtils} sink for headless games: discards all output and
+ * refuses to read input.
+ *
+ * A headless game must make every decision through its policies, so any
+ * attempt to read from this instance is a bug and fails fast instead of
+ * blocking or looping forever on empty input.
+ */
+public final class NullIOUtils implements IOUtils {
+
+    /** Stateless, so one instance can be shared by every game and thread */
+    public static final NullIOUtils INSTANCE = new NullIOUtils();
+
+    private NullIOUtils() {
+    }
+
+    @Override
+    public String readLine() {
+        throw new IllegalStateException(MessageUtils.HEADLESS_INPUT_REQUESTED);
+    }
+
+    @Override
+    public Integer readInteger() {
+        throw new IllegalStateException(MessageUtils.HEADLESS_INPUT_REQUESTED);
+    }
+
+    @Override
+    public int readIntInRange(int min, int max) {
+        throw new IllegalStateException(MessageUtils.HEADLESS_INPUT_REQUESTED);
+    }
+
+    @Override
+    public void printlnSuccess(String message) {
+    }
+
+    @Override
+    public void printlnFail(String message) {
+    }
+
+    @Override
+    public void printlnWarning(String message) {
+    }
+
+    @Override
+    public void printPrompt(String message) {
+    }
+
+    @Override
+    public void printlnTitle(String message) {
+    }
+
+    @Override
+    public void printlnHeader(String message) {
+    }
+
+    @Override
+    public boolean isSilent() {
+        return true;
+    }
+}
@@ -0,0 +1,146 @@
+package worldMap;
+
+import java.util.Arrays;
+import worldMap.enums.Direction;
+
+/**
+ * Distance map over a grid, filled by a multi-source breadth-first search.
+ *
+ * Every cell stores the number of steps a piece needs to reach the nearest
+ * source, moving only in the allowed step directions and only over
+ * accessible tiles. Once built, any number of pieces can read their next
+ * step from it in constant time: step to the neighbour with the lowest
+ * distance.
+ *
+ * A field can cover the whole grid or only a band of columns, e.g. one
+ * lane between two walls; cells outside the band are unreachable.
+ *
+ * The field does not track changes itself; its owner calls {@link #clear()},
+ * {@link #addSource(int, int)} and {@link #propagate(IWorldMap)} again
+ * whenever the sources or the terrain change.
+ */
+public final class FlowField {
+
+    /** Distance of cells that cannot reach any source */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int rows;
+
+    /** First column of the band covered, and its width */
+    private final int firstCol;
+    private final int cols;
+
+    /** Directions a piece may step in */
+    private final Direction[] steps;
+
+    /** Steps to the nearest source, indexed by row * cols + col */
+    private final int[] distance;
+
+    /** BFS queue, reused across rebuilds */
+    private final int[] queue;
+    private int queueTail;
+
+    /**
+     * Creates an empty field over the whole grid.
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param steps directions a piece may step in
+     */
+    public FlowField(int rows, int cols, Direction... steps) {
+        this(rows, 0, cols, steps);
+    }
+
+    /**
+     * Creates an empty field over a band of columns.
+     * @param rows number of rows
+     * @param firstCol first column of the band
+     * @param cols number of columns in the band
+     * @param steps directions a piece may step in
+     */
+    public FlowField(int rows, int firstCol, int cols, Direction... steps) {
+        if (rows <= 0 || cols <= 0 || firstCol < 0) {
+            throw new IllegalArgumentException("Flow field needs a non-empty grid");
+        }
+        if (steps.length == 0) {
+            throw new IllegalArgumentException("Flow field needs at least one step direction");
+        }
+        this.rows = rows;
+        this.firstCol = firstCol;
+        this.cols = cols;
+        this.steps = steps.clone();
+        this.distance = new int[rows * cols];
+        this.queue = new int[rows * cols];
+        clear();
+    }
+
+    /**
+     * Removes all sources and marks every cell unreachable.
+     */
+    public void clear() {
+        Arrays.fill(distance, UNREACHABLE);
+        queueTail = 0;
+    }
+
+    /**
+     * Adds a cell the pieces should walk towards.
+     * @param row the row
+     * @param col the column
+     */
+    public void addSource(int row, int col) {
+        if (!inBounds(row, col)) {
+            return;
+        }
+        int square = row * cols + (col - firstCol);
+        if (distance[square] != 0) {
+            distance[square] = 0;
+            queue[queueTail++] = square;
+        }
+    }
+
+    /**
+     * Spreads distances outwards from all sources.
+     * Walks the step directions backwards: a cell gets distance d + 1 when
+     * one of its steps lands on a cell at distance d.
+     * @param map the map whose accessible tiles the pieces can walk on
+     */
+    public void propagate(IWorldMap map) {
+        int head = 0;
+        while (head < queueTail) {
+            int square = queue[head++];
+            int row = square / cols;
+            int col = firstCol + square % cols;
+            int next = distance[square] + 1;
+
+            for (Direction step : steps) {
+                int fromRow = row - step.getRow();
+                int fromCol = col - step.getCol();
+                if (!inBounds(fromRow, fromCol)) {
+                    continue;
+                }
+                int from = fromRow * cols + (fromCol - firstCol);
+                if (distance[from] != UNREACHABLE || !map.isAccessible(fromRow, fromCol)) {
+                    continue;
+                }
+                distance[from] = next;
+                queue[queueTail++] = from;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of steps from a cell to the nearest source.
+     * @param row the row
+     * @param col the column
+     * @return the distance, or {@link #UNREACHABLE} if out of bounds or cut off
+     */
+    public int getDistance(int row, int col) {
+        if (!inBounds(row, col)) {
+            return UNREACHABLE;
+        }
+        return distance[row * cols + (col - firstCol)];
+    }
+
+    private boolean inBounds(int row, int col) {
+        return row >= 0 && row < rows && col >= firstCol && col < firstCol + cols;
+    }
+}
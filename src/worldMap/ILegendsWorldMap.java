@@ -30,4 +30,67 @@ public interface ILegendsWorldMap extends IWorldMap {
     List<Monster> getMonsters();
 
     int[] getMonsterPosition(Monster monster);
+
+    /**
+     * Gets the hero standing on a cell.
+     * @param row the row index
+     * @param col the column index
+     * @return the hero, or null if the cell holds none
+     */
+    Hero getHeroAt(int row, int col);
+
+    /**
+     * Gets the monster standing on a cell.
+     * @param row the row index
+     * @param col the column index
+     * @return the monster, or null if the cell holds none
+     */
+    Monster getMonsterAt(int row, int col);
+
+    /**
+     * Gets the number of rows (board height).
+     * @return the row count
+     */
+    int getRows();
+
+    /**
+     * Gets the number of columns (board width, walls included).
+     * @return the column count
+     */
+    int getCols();
+
+    /**
+     * Gets the number of lanes on the board.
+     * @return the lane count
+     */
+    int getLaneCount();
+
+    /**
+     * Gets the lane a column belongs to.
+     * @param col the column index
+     * @return the lane index, or -1 for wall columns and columns off the board
+     */
+    int getLaneIndex(int col);
+
+    /**
+     * Gets the row of the southernmost live monster in a lane.
+     * Heroes may not move or teleport north of it.
+     * @param lane the lane index
+     * @return the frontier row, or a negative value if the lane has no live monsters
+     */
+    int getLaneFrontier(int lane);
+
+    /**
+     * Gets every direction a hero can currently move in.
+     * @param hero the hero
+     * @return the legal directions
+     */
+    List<Direction> getLegalMoves(Hero hero);
+
+    /**
+     * Gets the heroes a hero can currently teleport next to.
+     * @param hero the hero to teleport
+     * @return the valid teleport targets
+     */
+    List<Hero> getTeleportTargets(Hero hero);
 }
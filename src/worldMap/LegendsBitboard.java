@@ -0,0 +1,259 @@
+package worldMap;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Bitboard view of a Legends of Valor board with at most 64 cells.
+ *
+ * Each square (row * cols + col) maps to one bit, so walls, obstacles,
+ * hero occupancy and monster occupancy each fit in a single long.
+ * Range and victory checks become a few mask operations, which keeps
+ * headless simulations and AI lookahead cheap.
+ *
+ * The owning {@link LegendsOfValorWorldMap} keeps this view in sync;
+ * {@link #copy()} gives a detached snapshot for search. Occupancy can be
+ * updated from several threads at once (lanes played on separate workers
+ * share one board), so hero and monster bits are set with compare-and-set.
+ */
+public final class LegendsBitboard {
+
+    /** Maximum number of cells a bitboard can represent */
+    public static final int MAX_CELLS = Long.SIZE;
+
+    private final int rows;
+    private final int cols;
+
+    /** All valid squares of the board */
+    private final long boardMask;
+
+    /** Attack range of every square: the square itself and its 8 neighbours */
+    private final long[] rangeMasks;
+
+    private final long monsterNexusMask;
+    private final long heroNexusMask;
+
+    private long walls;
+    private long obstacles;
+    private volatile long heroes;
+    private volatile long monsters;
+
+    private static final AtomicLongFieldUpdater<LegendsBitboard> HEROES =
+            AtomicLongFieldUpdater.newUpdater(LegendsBitboard.class, "heroes");
+    private static final AtomicLongFieldUpdater<LegendsBitboard> MONSTERS =
+            AtomicLongFieldUpdater.newUpdater(LegendsBitboard.class, "monsters");
+
+    /**
+     * Creates an empty bitboard.
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param monsterNexusRow row of the Monster Nexus
+     * @param heroNexusRow row of the Hero Nexus
+     */
+    public LegendsBitboard(int rows, int cols, int monsterNexusRow, int heroNexusRow) {
+        if (!fits(rows, cols)) {
+            throw new IllegalArgumentException("Board " + rows + "x" + cols + " does not fit in a bitboard");
+        }
+        this.rows = rows;
+        this.cols = cols;
+
+        int cells = rows * cols;
+        this.boardMask = (cells == MAX_CELLS) ? -1L : (1L << cells) - 1;
+        this.rangeMasks = buildRangeMasks();
+        this.monsterNexusMask = rowMask(monsterNexusRow);
+        this.heroNexusMask = rowMask(heroNexusRow);
+    }
+
+    private LegendsBitboard(LegendsBitboard other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.boardMask = other.boardMask;
+        this.rangeMasks = other.rangeMasks;  // immutable after construction, safe to share
+        this.monsterNexusMask = other.monsterNexusMask;
+        this.heroNexusMask = other.heroNexusMask;
+        this.walls = other.walls;
+        this.obstacles = other.obstacles;
+        this.heroes = other.heroes;
+        this.monsters = other.monsters;
+    }
+
+    /**
+     * Checks whether a board of the given dimensions can be represented.
+     * @param rows number of rows
+     * @param cols number of columns
+     * @return true if the board has at most 64 cells
+     */
+    public static boolean fits(int rows, int cols) {
+        return rows > 0 && cols > 0 && rows * cols <= MAX_CELLS;
+    }
+
+    /**
+     * Creates a detached copy of this bitboard (a handful of longs).
+     * @return the copy
+     */
+    public LegendsBitboard copy() {
+        return new LegendsBitboard(this);
+    }
+
+    // ==================== SQUARES ====================
+
+    public int square(int row, int col) {
+        return row * cols + col;
+    }
+
+    public int rowOf(int square) {
+        return square / cols;
+    }
+
+    public int colOf(int square) {
+        return square % cols;
+    }
+
+    public long bit(int row, int col) {
+        return 1L << square(row, col);
+    }
+
+    private long rowMask(int row) {
+        long mask = 0L;
+        for (int col = 0; col < cols; col++) {
+            mask |= bit(row, col);
+        }
+        return mask;
+    }
+
+    private long[] buildRangeMasks() {
+        long[] masks = new long[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                long mask = 0L;
+                for (int r = row - 1; r <= row + 1; r++) {
+                    for (int c = col - 1; c <= col + 1; c++) {
+                        if (r >= 0 && r < rows && c >= 0 && c < cols) {
+                            mask |= bit(r, c);
+                        }
+                    }
+                }
+                masks[square(row, col)] = mask;
+            }
+        }
+        return masks;
+    }
+
+    // ==================== TERRAIN ====================
+
+    public void setWall(int row, int col, boolean wall) {
+        walls = assign(walls, bit(row, col), wall);
+    }
+
+    public void setObstacle(int row, int col, boolean obstacle) {
+        obstacles = assign(obstacles, bit(row, col), obstacle);
+    }
+
+    /**
+     * Gets every square a piece can stand on.
+     * @return mask of accessible squares
+     */
+    public long getAccessible() {
+        return boardMask & ~(walls | obstacles);
+    }
+
+    public boolean isAccessible(int row, int col) {
+        return (getAccessible() & bit(row, col)) != 0;
+    }
+
+    public long getWalls() {
+        return walls;
+    }
+
+    public long getObstacles() {
+        return obstacles;
+    }
+
+    // ==================== OCCUPANCY ====================
+
+    public long getHeroes() {
+        return heroes;
+    }
+
+    public long getMonsters() {
+        return monsters;
+    }
+
+    public void setHero(int row, int col, boolean present) {
+        update(HEROES, bit(row, col), present);
+    }
+
+    public void setMonster(int row, int col, boolean present) {
+        update(MONSTERS, bit(row, col), present);
+    }
+
+    /**
+     * Removes every hero and monster, keeping the terrain.
+     */
+    public void clearPieces() {
+        heroes = 0;
+        monsters = 0;
+    }
+
+    // ==================== RANGE QUERIES ====================
+
+    /**
+     * Gets the attack range of a square (itself plus its 8 neighbours).
+     * @param square the square index
+     * @return mask of squares in range
+     */
+    public long rangeMask(int square) {
+        return rangeMasks[square];
+    }
+
+    /**
+     * Checks whether two cells are within attack range of each other.
+     */
+    public boolean inRange(int row1, int col1, int row2, int col2) {
+        return (rangeMasks[square(row1, col1)] & bit(row2, col2)) != 0;
+    }
+
+    /**
+     * Gets the occupied monster squares within range of a cell.
+     */
+    public long monstersInRange(int row, int col) {
+        return rangeMasks[square(row, col)] & monsters;
+    }
+
+    /**
+     * Gets the occupied hero squares within range of a cell.
+     */
+    public long heroesInRange(int row, int col) {
+        return rangeMasks[square(row, col)] & heroes;
+    }
+
+    // ==================== VICTORY QUERIES ====================
+
+    /**
+     * Gets the heroes standing on the Monster Nexus row.
+     */
+    public long heroesOnMonsterNexus() {
+        return heroes & monsterNexusMask;
+    }
+
+    /**
+     * Gets the monsters standing on the Hero Nexus row.
+     */
+    public long monstersOnHeroNexus() {
+        return monsters & heroNexusMask;
+    }
+
+    /**
+     * Sets or clears one occupancy bit without losing a concurrent update
+     * to another bit of the same mask.
+     */
+    private void update(AtomicLongFieldUpdater<LegendsBitboard> mask, long bit, boolean set) {
+        long board;
+        do {
+            board = mask.get(this);
+        } while (!mask.compareAndSet(this, board, assign(board, bit, set)));
+    }
+
+    private static long assign(long board, long bit, boolean set) {
+        return set ? (board | bit) : (board & ~bit);
+    }
+}
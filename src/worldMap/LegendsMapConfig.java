@@ -0,0 +1,137 @@
+package worldMap;
+
+/**
+ * Immutable layout settings for a {@link LegendsOfValorWorldMap}.
+ *
+ * A board is made of {@code laneCount} lanes, each {@code laneWidth} columns wide,
+ * separated by single wall columns. Row 0 is the Monster Nexus and the last row
+ * is the Hero Nexus; every row in between is filled with random terrain using
+ * the configured ratios (whatever is left over becomes Plain).
+ *
+ * {@link #DEFAULT} reproduces the classic 8x8 board with three lanes.
+ */
+public final class LegendsMapConfig {
+
+    /** The classic Legends of Valor board: 3 lanes of width 2, 8 rows */
+    public static final LegendsMapConfig DEFAULT = new LegendsMapConfig(
+            LegendsOfValorWorldMap.LANE_COLUMNS.length,
+            LegendsOfValorWorldMap.LANE_COLUMNS[0].length,
+            LegendsOfValorWorldMap.DEFAULT_SIZE,
+            LegendsOfValorWorldMap.BUSH_RATIO,
+            LegendsOfValorWorldMap.CAVE_RATIO,
+            LegendsOfValorWorldMap.KOULOU_RATIO,
+            LegendsOfValorWorldMap.OBSTACLE_RATIO
+    );
+
+    /** Smallest height that still leaves one terrain row between the two nexuses */
+    public static final int MIN_ROWS = 3;
+
+    private final int laneCount;
+    private final int laneWidth;
+    private final int rows;
+    private final double bushRatio;
+    private final double caveRatio;
+    private final double koulouRatio;
+    private final double obstacleRatio;
+
+    /**
+     * Creates a map configuration.
+     * @param laneCount number of lanes (at least 1)
+     * @param laneWidth columns per lane (at least 1)
+     * @param rows board height including both nexus rows (at least {@link #MIN_ROWS})
+     * @param bushRatio share of lane tiles that are Bush
+     * @param caveRatio share of lane tiles that are Cave
+     * @param koulouRatio share of lane tiles that are Koulou
+     * @param obstacleRatio share of lane tiles that are Obstacles
+     */
+    public LegendsMapConfig(int laneCount,
+                            int laneWidth,
+                            int rows,
+                            double bushRatio,
+                            double caveRatio,
+                            double koulouRatio,
+                            double obstacleRatio) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("laneCount must be at least 1");
+        }
+        if (laneWidth < 1) {
+            throw new IllegalArgumentException("laneWidth must be at least 1");
+        }
+        if (rows < MIN_ROWS) {
+            throw new IllegalArgumentException("rows must be at least " + MIN_ROWS);
+        }
+        if (bushRatio < 0 || caveRatio < 0 || koulouRatio < 0 || obstacleRatio < 0
+                || bushRatio + caveRatio + koulouRatio + obstacleRatio > 1.0) {
+            throw new IllegalArgumentException("terrain ratios must be non-negative and sum to at most 1");
+        }
+        this.laneCount = laneCount;
+        this.laneWidth = laneWidth;
+        this.rows = rows;
+        this.bushRatio = bushRatio;
+        this.caveRatio = caveRatio;
+        this.koulouRatio = koulouRatio;
+        this.obstacleRatio = obstacleRatio;
+    }
+
+    /**
+     * Creates a configuration with the default terrain ratios.
+     * @param laneCount number of lanes
+     * @param laneWidth columns per lane
+     * @param rows board height
+     * @return the configuration
+     */
+    public static LegendsMapConfig of(int laneCount, int laneWidth, int rows) {
+        return new LegendsMapConfig(laneCount, laneWidth, rows,
+                DEFAULT.bushRatio, DEFAULT.caveRatio, DEFAULT.koulouRatio, DEFAULT.obstacleRatio);
+    }
+
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    public int getLaneWidth() {
+        return laneWidth;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the board width: all lane columns plus one wall between neighbouring lanes.
+     * @return the number of columns
+     */
+    public int getCols() {
+        return laneCount * laneWidth + (laneCount - 1);
+    }
+
+    /**
+     * Gets the first (left-most) column of a lane.
+     * @param lane the lane index
+     * @return the column index
+     */
+    public int getLaneStartColumn(int lane) {
+        return lane * (laneWidth + 1);
+    }
+
+    public double getBushRatio() {
+        return bushRatio;
+    }
+
+    public double getCaveRatio() {
+        return caveRatio;
+    }
+
+    public double getKoulouRatio() {
+        return koulouRatio;
+    }
+
+    public double getObstacleRatio() {
+        return obstacleRatio;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d lanes x %d cols, %dx%d board", laneCount, laneWidth, rows, getCols());
+    }
+}
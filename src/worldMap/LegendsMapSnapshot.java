@@ -0,0 +1,61 @@
+package worldMap;
+
+import hero.HeroSnapshot;
+import market.model.MarketSnapshot;
+import monster.MonsterSnapshot;
+import worldMap.enums.TileType;
+
+/**
+ * Immutable record of a {@link LegendsOfValorWorldMap}: terrain, every
+ * piece and the nexus markets. Taken with {@link LegendsOfValorWorldMap#snapshot()}
+ * and put back with {@link LegendsOfValorWorldMap#restore(LegendsMapSnapshot)}.
+ *
+ * Only the minimal state is kept; occupancy, counters and frontiers are
+ * rebuilt on restore. Parts that did not change since the previous snapshot
+ * are shared with it: the terrain array until a tile changes, and the
+ * snapshot of every piece and market that did not change.
+ */
+public final class LegendsMapSnapshot {
+
+    final LegendsOfValorWorldMap map;
+
+    /** Tile type of every cell, indexed by row * cols + col; never modified */
+    final TileType[] terrain;
+
+    /** Heroes in id order */
+    final HeroSnapshot[] heroes;
+    final int[] heroLanes;
+
+    /** Monsters on the map, in id order */
+    final MonsterSnapshot[] monsters;
+
+    final MarketSnapshot[] markets;
+
+    LegendsMapSnapshot(LegendsOfValorWorldMap map,
+                       TileType[] terrain,
+                       HeroSnapshot[] heroes,
+                       int[] heroLanes,
+                       MonsterSnapshot[] monsters,
+                       MarketSnapshot[] markets) {
+        this.map = map;
+        this.terrain = terrain;
+        this.heroes = heroes;
+        this.heroLanes = heroLanes;
+        this.monsters = monsters;
+        this.markets = markets;
+    }
+
+    /**
+     * @return the number of heroes recorded
+     */
+    public int getHeroCount() {
+        return heroes.length;
+    }
+
+    /**
+     * @return the number of monsters recorded
+     */
+    public int getMonsterCount() {
+        return monsters.length;
+    }
+}
@@ -2,13 +2,18 @@ package worldMap;
 
 import entity.GamePiece;
 import hero.Hero;
+import hero.HeroSnapshot;
 import hero.Party;
-import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import market.model.Market;
+import market.model.MarketSnapshot;
 import market.service.MarketFactory;
 import monster.Monster;
+import monster.MonsterSnapshot;
 import static utils.ConsoleColors.*;
+import utils.GameRandom;
 import utils.IOUtils;
 import worldMap.enums.Direction;
 import worldMap.enums.TileType;
@@ -19,10 +24,12 @@ import worldMap.feature.NexusFeature;
 
 /**
  * Implementation of {@link IWorldMap} for Legends of Valor game.
- * Represents an 8x8 grid divided into three lanes separated by walls.
+ * Represents a grid divided into lanes separated by single wall columns.
+ * The layout comes from a {@link LegendsMapConfig}; by default it is an
+ * 8x8 grid with three lanes.
  * Manages hero and monster positions via GamePiece interface.
  *
- * Layout:
+ * Default layout:
  * - Columns 0-1: Top Lane
  * - Column 2: Wall (Inaccessible)
  * - Columns 3-4: Mid Lane
@@ -49,7 +56,7 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
     /** Monster Nexus row (top of map) */
     public static final int MONSTER_NEXUS_ROW = 0;
 
-    /** Hero Nexus row (bottom of map) */
+    /** Hero Nexus row (bottom of the default map); see {@link #getHeroNexusRow()} */
     public static final int HERO_NEXUS_ROW = 7;
 
     /** Different distributions of all the different type of tiles */
@@ -59,50 +66,432 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
     public static final double PLAIN_RATIO = 0.3;
     public static final double OBSTACLE_RATIO = 0.1;
 
-    private final int size;
+    private final LegendsMapConfig config;
+    private final int rows;
+    private final int cols;
+    private final int heroNexusRow;
+
+    /** Lane index of every column, or -1 for wall columns */
+    private final int[] laneOfColumn;
+
     private final Tile[][] grid;
-    private final Random random = new SecureRandom();
+    private final GameRandom random;
     private final MarketFactory marketFactory;
     private final IOUtils ioUtils;
 
     // ==================== ENTITY MANAGEMENT ====================
-    // Track entity positions for quick lookup
-    // Key: Entity, Value: int[]{row, col}
+    // Every piece on the map has a dense id: its index in heroes/monsters.
+    // A piece's position lives only on the piece itself (GamePiece row/col);
+    // the map keeps the reverse cell -> id index below, so placing or moving
+    // a piece writes a few ints and never allocates.
 
-    /** Hero positions: maps each hero to their [row, col] */
-    private final Map<Hero, int[]> heroPositions;
+    /** Marks an empty cell in the id grids */
+    private static final int NO_PIECE = -1;
 
-    /** Monster positions: maps each monster to their [row, col] */
-    private final Map<Monster, int[]> monsterPositions;
+    /** Marks "no cell" where a packed cell (row * cols + col) is returned */
+    private static final int NO_CELL = -1;
 
-    /** All heroes in this game */
+    /** All heroes in this game; a hero's index is its id */
     private final List<Hero> heroes;
 
-    /** All monsters currently on the map */
+    /** All monsters currently on the map; a monster's index is its id */
     private final List<Monster> monsters;
 
-    /** Maps each hero to their assigned lane (for recall) */
-    private final Map<Hero, Integer> heroLanes;
+    /** Assigned lane of each hero, indexed by hero id (for recall) */
+    private int[] heroLaneById;
+
+    // ==================== OCCUPANCY INDEX ====================
+    // Per-cell slots (row * cols + col) kept in sync by every place/move/remove
+    // below, so "who stands here?" is an array read instead of a map scan.
+    // A cell holds at most one hero and at most one monster.
+
+    /** Id of the hero standing on each cell, or NO_PIECE */
+    private final int[] heroIdAt;
+
+    /** Id of the monster standing on each cell, or NO_PIECE */
+    private final int[] monsterIdAt;
+
+    /** Bitboard mirror of terrain and occupancy; null when the board exceeds 64 cells */
+    private final LegendsBitboard bitboard;
+
+    // ==================== MONSTER PATHFINDING ====================
+    // Distance fields shared by every monster. They are rebuilt lazily on
+    // the first query after something they depend on changed, so a monster
+    // phase costs one BFS plus O(1) per monster. Walls cut the lanes apart,
+    // so each lane has its own hero field and only lanes whose heroes
+    // changed are rebuilt; lanes can also be updated from different threads.
+
+    /** Monsters only advance: south, or sideways around obstacles. Preferred order. */
+    private static final Direction[] MONSTER_STEPS = {Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    /** Distance to the nearest live hero in the lane, per lane */
+    private final FlowField[] heroFields;
+
+    /** Distance to the Hero Nexus, used when no hero can be reached */
+    private final FlowField nexusField;
+
+    /** Set per lane when a hero enters, leaves or dies in it, or its terrain changes */
+    private final boolean[] heroFieldDirty;
+
+    /** Set when the terrain changes */
+    private boolean nexusFieldDirty = true;
+
+    // ==================== VICTORY TRACKING ====================
+    // Counters kept current by moves, spawns, removals and HP changes
+    // (via HealthListener), so victory checks never rescan the pieces.
+    // The ones a monster phase changes are atomic, so lanes may run it
+    // on different threads.
+
+    /** Heroes (alive or not) standing on the Monster Nexus row */
+    private int heroesOnMonsterNexus;
+
+    /** Live monsters standing on the Hero Nexus row */
+    private final AtomicInteger liveMonstersOnHeroNexus;
+
+    /** Live heroes placed on this map */
+    private final AtomicInteger aliveHeroCount;
+
+    /** Live monsters on this map */
+    private int aliveMonsterCount;
+
+    // ==================== LANE FRONTIERS ====================
+    // Heroes may not move north of a live monster in their lane. Each lane
+    // keeps the row of its southernmost live monster, so the rule is one
+    // comparison; per-row counts let the frontier retreat when monsters die.
+
+    /** Frontier value of a lane with no live monsters */
+    public static final int NO_FRONTIER = -1;
+
+    /** Live monsters per lane and row */
+    private final int[][] laneRowMonsters;
+
+    /** Southernmost row with a live monster, per lane, or NO_FRONTIER */
+    private final int[] laneFrontier;
+
+    // ==================== BOARD HASH ====================
+    // Zobrist hash of obstacles, piece positions and HP buckets, updated by
+    // the same moves, spawns, removals and HP and terrain changes as the
+    // index above, so equal positions are recognized with one comparison.
+    // XOR is order-independent, so lanes updating it concurrently agree.
+
+    private final AtomicLong zobristHash;
+
+    /** Key each hero currently contributes to the hash, by id */
+    private long[] heroKeys;
+
+    /** Key each monster currently contributes to the hash, by id */
+    private long[] monsterKeys;
+
+    // ==================== SNAPSHOTS ====================
+
+    /** Markets on the nexus tiles, in board order */
+    private final List<Market> markets;
+
+    /** Terrain of the last snapshot, shared by every snapshot until a tile changes */
+    private TileType[] terrainSnapshot;
 
     /**
-     * Creates a new Legends of Valor world map.
+     * Creates a new Legends of Valor world map with the default 8x8 layout.
      * @param marketFactory factory for creating markets
      * @param ioUtils I/O utilities
      */
     public LegendsOfValorWorldMap(MarketFactory marketFactory, IOUtils ioUtils) {
-        this.size = DEFAULT_SIZE;
-        this.grid = new Tile[size][size];
+        this(LegendsMapConfig.DEFAULT, marketFactory, ioUtils);
+    }
+
+    /**
+     * Creates a new Legends of Valor world map with a custom layout.
+     * @param config lane count, lane width, height and terrain ratios
+     * @param marketFactory factory for creating markets
+     * @param ioUtils I/O utilities
+     */
+    public LegendsOfValorWorldMap(LegendsMapConfig config, MarketFactory marketFactory, IOUtils ioUtils) {
+        this(config, marketFactory, ioUtils, GameRandom.withRandomSeed());
+    }
+
+    /**
+     * Creates a new Legends of Valor world map with a custom layout drawn from a given random stream.
+     * @param config lane count, lane width, height and terrain ratios
+     * @param marketFactory factory for creating markets
+     * @param ioUtils I/O utilities
+     * @param random stream used to lay out the terrain
+     */
+    public LegendsOfValorWorldMap(LegendsMapConfig config, MarketFactory marketFactory, IOUtils ioUtils,
+                                  GameRandom random) {
+        this.random = random;
+        this.config = config;
+        this.rows = config.getRows();
+        this.cols = config.getCols();
+        this.heroNexusRow = rows - 1;
+        this.laneOfColumn = buildLaneIndex(config);
+        this.grid = new Tile[rows][cols];
         this.marketFactory = marketFactory;
         this.ioUtils = ioUtils;
 
         // Initialize entity management
-        this.heroPositions = new HashMap<>();
-        this.monsterPositions = new HashMap<>();
         this.heroes = new ArrayList<>();
         this.monsters = new ArrayList<>();
-        this.heroLanes = new HashMap<>();
+        this.heroLaneById = new int[config.getLaneCount()];
+        this.heroIdAt = new int[rows * cols];
+        this.monsterIdAt = new int[rows * cols];
+        Arrays.fill(heroIdAt, NO_PIECE);
+        Arrays.fill(monsterIdAt, NO_PIECE);
+        this.bitboard = LegendsBitboard.fits(rows, cols)
+                ? new LegendsBitboard(rows, cols, MONSTER_NEXUS_ROW, heroNexusRow)
+                : null;
+        this.laneRowMonsters = new int[config.getLaneCount()][rows];
+        this.laneFrontier = new int[config.getLaneCount()];
+        Arrays.fill(laneFrontier, NO_FRONTIER);
+        this.heroFields = createLaneFields();
+        this.heroFieldDirty = new boolean[config.getLaneCount()];
+        Arrays.fill(heroFieldDirty, true);
+        this.nexusField = new FlowField(rows, cols, MONSTER_STEPS);
+        this.liveMonstersOnHeroNexus = new AtomicInteger();
+        this.aliveHeroCount = new AtomicInteger();
+        this.zobristHash = new AtomicLong();
+        this.heroKeys = new long[heroLaneById.length];
+        this.monsterKeys = new long[config.getLaneCount()];
 
         generateLayout();
+        watchTerrain();
+        rehashBoard();
+        this.markets = findMarkets();
+    }
+
+    /**
+     * Creates a deep copy of a map, e.g. for search or what-if play.
+     * Tiles, heroes and monsters are copied so nothing done on the copy
+     * shows on the original. Every piece keeps its id, so index i of
+     * {@link #getHeroes()} and {@link #getMonsters()} is the same piece on
+     * both maps. Data that never changes after generation (lane index,
+     * tile features and their markets) is shared.
+     */
+    private LegendsOfValorWorldMap(LegendsOfValorWorldMap other, IOUtils ioUtils) {
+        this.random = other.random;
+        this.config = other.config;
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.heroNexusRow = other.heroNexusRow;
+        this.laneOfColumn = other.laneOfColumn;
+        this.marketFactory = other.marketFactory;
+        this.ioUtils = ioUtils;
+
+        this.grid = new Tile[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                grid[row][col] = other.grid[row][col].copy();
+            }
+        }
+
+        this.heroes = new ArrayList<>(other.heroes.size());
+        for (Hero hero : other.heroes) {
+            Hero copy = hero.copy();
+            watchHealth(copy);
+            heroes.add(copy);
+        }
+        this.monsters = new ArrayList<>(other.monsters.size());
+        for (Monster monster : other.monsters) {
+            Monster copy = monster.copy();
+            watchHealth(copy);
+            monsters.add(copy);
+        }
+        this.heroLaneById = other.heroLaneById.clone();
+        this.heroIdAt = other.heroIdAt.clone();
+        this.monsterIdAt = other.monsterIdAt.clone();
+        this.bitboard = other.bitboard != null ? other.bitboard.copy() : null;
+
+        this.heroesOnMonsterNexus = other.heroesOnMonsterNexus;
+        this.liveMonstersOnHeroNexus = new AtomicInteger(other.liveMonstersOnHeroNexus.get());
+        this.aliveHeroCount = new AtomicInteger(other.aliveHeroCount.get());
+        this.aliveMonsterCount = other.aliveMonsterCount;
+
+        this.laneRowMonsters = new int[other.laneRowMonsters.length][];
+        for (int lane = 0; lane < laneRowMonsters.length; lane++) {
+            laneRowMonsters[lane] = other.laneRowMonsters[lane].clone();
+        }
+        this.laneFrontier = other.laneFrontier.clone();
+        this.zobristHash = new AtomicLong(other.zobristHash.get());
+        this.heroKeys = other.heroKeys.clone();
+        this.monsterKeys = other.monsterKeys.clone();
+
+        // Fresh fields start dirty and are rebuilt on the copy's first monster step
+        this.heroFields = createLaneFields();
+        this.heroFieldDirty = new boolean[heroFields.length];
+        Arrays.fill(heroFieldDirty, true);
+        this.nexusField = new FlowField(rows, cols, MONSTER_STEPS);
+
+        watchTerrain();
+        this.markets = other.markets;  // shared with the features
+        this.terrainSnapshot = other.terrainSnapshot;
+    }
+
+    /**
+     * Creates a deep copy of this map and every piece on it.
+     * Index i of {@link #getHeroes()} and {@link #getMonsters()} on the copy
+     * is the copy of the piece at index i here.
+     * @param ioUtils where the copy prints, usually a silent one
+     * @return the copy
+     */
+    public LegendsOfValorWorldMap copy(IOUtils ioUtils) {
+        return new LegendsOfValorWorldMap(this, ioUtils);
+    }
+
+    /**
+     * Records the board: terrain, every piece with its stats and items, and
+     * the nexus markets. Costs microseconds, and shares every part that did
+     * not change with the previous snapshot.
+     * @return the snapshot
+     */
+    public LegendsMapSnapshot snapshot() {
+        if (terrainSnapshot == null) {
+            TileType[] terrain = new TileType[rows * cols];
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    terrain[row * cols + col] = grid[row][col].getType();
+                }
+            }
+            terrainSnapshot = terrain;
+        }
+        HeroSnapshot[] heroStates = new HeroSnapshot[heroes.size()];
+        for (int id = 0; id < heroStates.length; id++) {
+            heroStates[id] = heroes.get(id).snapshot();
+        }
+        MonsterSnapshot[] monsterStates = new MonsterSnapshot[monsters.size()];
+        for (int id = 0; id < monsterStates.length; id++) {
+            monsterStates[id] = monsters.get(id).snapshot();
+        }
+        MarketSnapshot[] marketStates = new MarketSnapshot[markets.size()];
+        for (int i = 0; i < marketStates.length; i++) {
+            marketStates[i] = markets.get(i).snapshot();
+        }
+        return new LegendsMapSnapshot(this, terrainSnapshot, heroStates,
+                Arrays.copyOf(heroLaneById, heroStates.length), monsterStates, marketStates);
+    }
+
+    /**
+     * Puts the board back as recorded. The same hero, monster and item
+     * instances return to where they were; monsters spawned since are
+     * dropped and monsters killed since come back.
+     * @param snapshot a snapshot of this map
+     */
+    public void restore(LegendsMapSnapshot snapshot) {
+        if (snapshot.map != this) {
+            throw new IllegalArgumentException("Snapshot belongs to another map");
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                TileType type = snapshot.terrain[row * cols + col];
+                Tile tile = grid[row][col];
+                if (tile.getType() != type) {
+                    tile.setFeature(createFeatureForType(type));
+                    tile.setType(type);
+                }
+            }
+        }
+        terrainSnapshot = snapshot.terrain;
+
+        heroes.clear();
+        for (HeroSnapshot state : snapshot.heroes) {
+            Hero hero = state.getHero();
+            hero.restore(state);
+            heroes.add(hero);
+            watchHealth(hero);
+        }
+        heroLaneById = Arrays.copyOf(snapshot.heroLanes, Math.max(snapshot.heroLanes.length, heroLaneById.length));
+
+        for (Monster monster : monsters) {
+            monster.setHealthListener(null);
+        }
+        monsters.clear();
+        for (MonsterSnapshot state : snapshot.monsters) {
+            Monster monster = state.getMonster();
+            monster.restore(state);
+            monsters.add(monster);
+            watchHealth(monster);
+        }
+
+        for (MarketSnapshot state : snapshot.markets) {
+            state.getMarket().restore(state);
+        }
+        rebuildOccupancy();
+    }
+
+    /**
+     * Recomputes the occupancy index, bitboard, counters and lane frontiers
+     * from the pieces' own positions and HP.
+     */
+    private void rebuildOccupancy() {
+        Arrays.fill(heroIdAt, NO_PIECE);
+        Arrays.fill(monsterIdAt, NO_PIECE);
+        if (bitboard != null) bitboard.clearPieces();
+        for (int[] counts : laneRowMonsters) {
+            Arrays.fill(counts, 0);
+        }
+        Arrays.fill(laneFrontier, NO_FRONTIER);
+        heroesOnMonsterNexus = 0;
+        liveMonstersOnHeroNexus.set(0);
+        aliveHeroCount.set(0);
+        aliveMonsterCount = 0;
+
+        for (int id = 0; id < heroes.size(); id++) {
+            Hero hero = heroes.get(id);
+            int row = hero.getRow();
+            int col = hero.getCol();
+            heroIdAt[row * cols + col] = id;
+            if (bitboard != null) bitboard.setHero(row, col, true);
+            if (row == MONSTER_NEXUS_ROW) {
+                heroesOnMonsterNexus++;
+            }
+            if (hero.isAlive()) {
+                aliveHeroCount.incrementAndGet();
+            }
+        }
+        for (int id = 0; id < monsters.size(); id++) {
+            Monster monster = monsters.get(id);
+            int row = monster.getRow();
+            int col = monster.getCol();
+            monsterIdAt[row * cols + col] = id;
+            if (bitboard != null) bitboard.setMonster(row, col, true);
+            if (monster.isAlive()) {
+                aliveMonsterCount++;
+                addToFrontier(row, col);
+                if (row == heroNexusRow) {
+                    liveMonstersOnHeroNexus.incrementAndGet();
+                }
+            }
+        }
+        Arrays.fill(heroFieldDirty, true);
+        rehashBoard();
+    }
+
+    /**
+     * Gets the markets on the board, in board order.
+     * @return the markets
+     */
+    public List<Market> getMarkets() {
+        return Collections.unmodifiableList(markets);
+    }
+
+    private List<Market> findMarkets() {
+        List<Market> found = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Market market = grid[row][col].getMarket();
+                if (market != null) {
+                    found.add(market);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the bitboard view of this map.
+     * Available whenever the board has at most 64 cells.
+     * @return the bitboard, or null if the board is too large
+     */
+    public LegendsBitboard getBitboard() {
+        return bitboard;
     }
 
     // ==================== UNIFIED GAMEPIECE QUERY ====================
@@ -145,29 +534,76 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      *
      * Also updates the Hero's position via GamePiece interface.
      *
+     * If every nexus cell of the lane is taken (e.g. allies teleported in),
+     * the hero lands on the nearest free nexus cell of another lane; the
+     * lane stays the hero's home lane.
+     *
      * @param hero The hero to place
-     * @param lane The lane to place them in (0=top, 1=mid, 2=bot)
+     * @param lane The lane to place them in (0=top, 1=mid, 2=bot on the default map)
+     * @throws IllegalStateException if every nexus cell holds another hero
      */
     public void placeHeroAtNexus(Hero hero, int lane) {
-        int row = HERO_NEXUS_ROW;
-        int col = LANE_COLUMNS[lane][0]; // Left column of lane
-
-        heroPositions.put(hero, new int[]{row, col});
-        hero.setPosition(row, col);  // Sync GamePiece position
-        heroLanes.put(hero, lane);
+        int row = heroNexusRow;
+        int col = findFreeNexusColumn(hero, lane);
+        if (col < 0) {
+            throw new IllegalStateException("No free Hero Nexus cell for " + hero.getName());
+        }
 
-        if (!heroes.contains(hero)) {
+        int id = heroId(hero);
+        boolean onMap = id != NO_PIECE;
+        if (!onMap) {
+            id = heroes.size();
             heroes.add(hero);
+            if (id == heroLaneById.length) {
+                heroLaneById = Arrays.copyOf(heroLaneById, 2 * id);
+                heroKeys = Arrays.copyOf(heroKeys, 2 * id);
+            }
+            if (hero.isAlive()) {
+                aliveHeroCount.incrementAndGet();
+            }
+            watchHealth(hero);
         }
+        setHeroPosition(id, onMap, row, col);
+        heroLaneById[id] = lane;
+    }
+
+    /**
+     * Finds a nexus column for a hero: the left-most free one of its lane,
+     * else of the closest lane that has one.
+     * @return the column, or -1 if every nexus cell holds another hero
+     */
+    private int findFreeNexusColumn(Hero hero, int lane) {
+        int col = findFreeNexusColumnInLane(hero, lane);
+        for (int distance = 1; col < 0 && distance < getLaneCount(); distance++) {
+            if (lane - distance >= 0) {
+                col = findFreeNexusColumnInLane(hero, lane - distance);
+            }
+            if (col < 0 && lane + distance < getLaneCount()) {
+                col = findFreeNexusColumnInLane(hero, lane + distance);
+            }
+        }
+        return col;
+    }
+
+    private int findFreeNexusColumnInLane(Hero hero, int lane) {
+        for (int col = getHeroSpawnColumn(lane); col <= getMonsterSpawnColumn(lane); col++) {
+            Hero occupant = getHeroAt(heroNexusRow, col);
+            if (occupant == null || occupant == hero) {
+                return col;
+            }
+        }
+        return -1;
     }
 
     /**
      * Gets the position of a hero.
+     * Allocates a fresh array; prefer {@link Hero#getRow()} and {@link Hero#getCol()}.
      * @param hero the hero
      * @return int[]{row, col} or null if not found
      */
     public int[] getHeroPosition(Hero hero) {
-        return heroPositions.get(hero);
+        if (heroId(hero) == NO_PIECE) return null;
+        return new int[]{hero.getRow(), hero.getCol()};
     }
 
     /**
@@ -177,13 +613,11 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return the hero at that position, or null if none
      */
     public Hero getHeroAt(int row, int col) {
-        for (Map.Entry<Hero, int[]> entry : heroPositions.entrySet()) {
-            int[] pos = entry.getValue();
-            if (pos[0] == row && pos[1] == col) {
-                return entry.getKey();
-            }
+        if (!checkBounds(row, col)) {
+            return null;
         }
-        return null;
+        int id = heroIdAt[row * cols + col];
+        return id == NO_PIECE ? null : heroes.get(id);
     }
 
     /**
@@ -214,8 +648,8 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return lane index (0, 1, 2) or -1 if not assigned
      */
     public int getHeroLane(Hero hero) {
-        Integer lane = heroLanes.get(hero);
-        return lane != null ? lane : -1;
+        int id = heroId(hero);
+        return id != NO_PIECE ? heroLaneById[id] : -1;
     }
 
     /**
@@ -228,15 +662,11 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if the move was successful
      */
     public boolean moveHero(Hero hero, Direction direction) {
-        int[] pos = heroPositions.get(hero);
-        if (pos == null) return false;
+        int id = heroId(hero);
+        if (id == NO_PIECE) return false;
 
-        int curRow = pos[0];
-        int curCol = pos[1];
-
-        int newRow = pos[0] + direction.getRow();
-        int newCol = pos[1] + direction.getCol();
-        
+        int newRow = hero.getRow() + direction.getRow();
+        int newCol = hero.getCol() + direction.getCol();
 
         // Check bounds and accessibility
         if (!isAccessible(newRow, newCol)) {
@@ -248,44 +678,82 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
             return false;
         }
 
-
-        if (direction == Direction.UP) {
-            if (wouldPassMonsterInLane(newRow, newCol) && getMonsterAt(newRow, newCol) == null) {
-                return false;
-            }
+        // Heroes CAN move onto a monster tile (co-occupancy allowed per Dis.txt),
+        // but cannot move behind (north of) a live monster in their lane
+        if (direction == Direction.UP && isBehindFrontier(newRow, newCol)) {
+            return false;
         }
 
+        setHeroPosition(id, true, newRow, newCol);
+        return true;
+    }
 
-        // Heroes CAN move onto a monster tile (co-occupancy allowed per Dis.txt)
-
-        // Check if trying to move behind (north of) a monster
-        if (direction == Direction.UP) {
-            // Cannot move north if there's a monster between current and target
-            if (!canMoveNorth(hero, pos[0], pos[1], newRow, newCol)) {
-                return false;
+    /**
+     * Gets every direction the hero can currently move in.
+     * @param hero the hero
+     * @return the legal directions, empty if the hero is not on the map
+     */
+    public List<Direction> getLegalMoves(Hero hero) {
+        if (heroId(hero) == NO_PIECE) return Collections.emptyList();
+
+        List<Direction> legal = new ArrayList<>(4);
+        for (Direction direction : Direction.values()) {
+            int newRow = hero.getRow() + direction.getRow();
+            int newCol = hero.getCol() + direction.getCol();
+            if (!isAccessible(newRow, newCol) || getHeroAt(newRow, newCol) != null) {
+                continue;
             }
+            if (direction == Direction.UP && isBehindFrontier(newRow, newCol)) {
+                continue;
+            }
+            legal.add(direction);
         }
+        return legal;
+    }
 
-        // Update position (both Map and GamePiece)
-        heroPositions.put(hero, new int[]{newRow, newCol});
-        hero.setPosition(newRow, newCol);  // Sync GamePiece position
-        return true;
+    /**
+     * Gets the row of the southernmost live monster in a lane.
+     * Heroes cannot enter any row north of it.
+     * @param lane the lane index
+     * @return the frontier row, or {@link #NO_FRONTIER} if the lane has no live monsters
+     */
+    public int getLaneFrontier(int lane) {
+        if (lane < 0 || lane >= laneFrontier.length) {
+            return NO_FRONTIER;
+        }
+        return laneFrontier[lane];
     }
 
     /**
-     * Checks if hero can move north (towards monster nexus).
-     * Rule: Cannot move past a monster without killing it first.
+     * Checks whether a cell lies north of its lane's frontier.
      */
-    private boolean canMoveNorth(Hero hero, int fromRow, int fromCol, int toRow, int toCol) {
-        // Check if there's a monster at the same column that would block movement
-        for (int row = fromRow; row >= toRow; row--) {
-            Monster m = getMonsterAt(row, toCol);
-            if (m != null && row > toRow) {
-                // Monster is blocking the path
-                return false;
+    private boolean isBehindFrontier(int row, int col) {
+        int lane = laneOfColumn[col];
+        return lane >= 0 && row < laneFrontier[lane];
+    }
+
+    private void addToFrontier(int row, int col) {
+        int lane = laneOfColumn[col];
+        if (lane < 0) return;
+        laneRowMonsters[lane][row]++;
+        if (row > laneFrontier[lane]) {
+            laneFrontier[lane] = row;
+        }
+    }
+
+    private void removeFromFrontier(int row, int col) {
+        int lane = laneOfColumn[col];
+        if (lane < 0) return;
+        int[] counts = laneRowMonsters[lane];
+        counts[row]--;
+        if (row == laneFrontier[lane] && counts[row] == 0) {
+            // Retreat to the next row that still holds a live monster
+            int frontier = row - 1;
+            while (frontier >= 0 && counts[frontier] == 0) {
+                frontier--;
             }
+            laneFrontier[lane] = frontier;  // -1 == NO_FRONTIER
         }
-        return true;
     }
 
     /**
@@ -301,35 +769,60 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if teleport successful
      */
     public boolean teleportHero(Hero hero, Hero targetHero) {
-        int[] fromPos = heroPositions.get(hero);
-        int[] targetPos = heroPositions.get(targetHero);
+        int destination = findTeleportDestination(hero, targetHero);
+        if (destination == NO_CELL) return false;
 
-        if (fromPos == null || targetPos == null) return false;
+        setHeroPosition(heroId(hero), true, destination / cols, destination % cols);
+        return true;
+    }
 
-        int fromLane = getLaneIndex(fromPos[1]);
-        int targetLane = getLaneIndex(targetPos[1]);
+    /**
+     * Gets the heroes the given hero can currently teleport next to.
+     * @param hero the hero to teleport
+     * @return live heroes in other lanes with a free, legal cell beside them
+     */
+    public List<Hero> getTeleportTargets(Hero hero) {
+        List<Hero> targets = new ArrayList<>();
+        for (Hero target : heroes) {
+            if (target != hero && target.isAlive() && findTeleportDestination(hero, target) != NO_CELL) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Finds the cell a teleport next to the target hero would land on.
+     * @return the cell (row * cols + col), or NO_CELL if the teleport is not allowed
+     */
+    private int findTeleportDestination(Hero hero, Hero targetHero) {
+        if (heroId(hero) == NO_PIECE || heroId(targetHero) == NO_PIECE) return NO_CELL;
+
+        int fromLane = getLaneIndex(hero.getCol());
+        int targetLane = getLaneIndex(targetHero.getCol());
 
         // Must be different lanes
-        if (fromLane == targetLane) return false;
+        if (fromLane == targetLane) return NO_CELL;
+
+        int targetRow = targetHero.getRow();
+        int targetCol = targetHero.getCol();
 
-        int targetRow = targetPos[0];
-        int[] targetLaneCols = LANE_COLUMNS[targetLane];
+        // Destination must be adjacent to the target, so only the lane columns next
+        // to it and the target row or the one behind it need checking.
+        int firstCol = Math.max(getHeroSpawnColumn(targetLane), targetCol - 1);
+        int lastCol = Math.min(getMonsterSpawnColumn(targetLane), targetCol + 1);
+        int firstRow = Math.max(targetRow, laneFrontier[targetLane]); // Never land behind a monster
+        int lastRow = Math.min(rows - 1, targetRow + 1);
 
         // Find valid teleport destination (co-occupancy with monsters allowed per Dis.txt)
-        for (int col : targetLaneCols) {
-            for (int row = targetRow; row < size; row++) { // Cannot teleport ahead (lower row)
-                if (getHeroAt(row, col) == null) { // Only check for other heroes, monsters OK
-                    Tile destTile = getTile(row, col);
-                    if (destTile.isAccessible() && isAdjacent(targetPos[0], targetPos[1], row, col)) {
-                        // Valid teleport destination (update both Map and GamePiece)
-                        heroPositions.put(hero, new int[]{row, col});
-                        hero.setPosition(row, col);  // Sync GamePiece position
-                        return true;
-                    }
+        for (int col = firstCol; col <= lastCol; col++) {
+            for (int row = firstRow; row <= lastRow; row++) { // Cannot teleport ahead (lower row)
+                if (getHeroAt(row, col) == null && isAccessible(row, col)) { // Only check for other heroes, monsters OK
+                    return row * cols + col;
                 }
             }
         }
-        return false;
+        return NO_CELL;
     }
 
     /**
@@ -337,9 +830,9 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @param hero the hero to recall
      */
     public void recallHero(Hero hero) {
-        Integer lane = heroLanes.get(hero);
-        if (lane != null) {
-            placeHeroAtNexus(hero, lane);
+        int id = heroId(hero);
+        if (id != NO_PIECE) {
+            placeHeroAtNexus(hero, heroLaneById[id]);
         }
     }
 
@@ -353,30 +846,43 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      *
      * @param monster the monster to spawn
      * @param lane the lane to spawn in (0=top, 1=mid, 2=bot)
+     * @return false if the spawn cell was taken and the monster stayed away
      */
-    public void spawnMonster(Monster monster, int lane) {
+    public boolean spawnMonster(Monster monster, int lane) {
         int row = MONSTER_NEXUS_ROW;
-        int col = LANE_COLUMNS[lane][1]; // Right column of lane
+        int col = getMonsterSpawnColumn(lane); // Right column of lane
 
         // Do not spawn on top of an existing piece.
         if (getHeroAt(row, col) != null || getMonsterAt(row, col) != null) {
-            return;
+            return false;
         }
 
-        monsterPositions.put(monster, new int[]{row, col});
-        monster.setPosition(row, col);  // Sync GamePiece position
-        if (!monsters.contains(monster)) {
+        int id = monsterId(monster);
+        boolean onMap = id != NO_PIECE;
+        if (!onMap) {
+            id = monsters.size();
             monsters.add(monster);
+            if (id == monsterKeys.length) {
+                monsterKeys = Arrays.copyOf(monsterKeys, Math.max(1, 2 * id));
+            }
+            if (monster.isAlive()) {
+                aliveMonsterCount++;
+            }
+            watchHealth(monster);
         }
+        setMonsterPosition(id, onMap, row, col);
+        return true;
     }
 
     /**
      * Gets the position of a monster.
+     * Allocates a fresh array; prefer {@link Monster#getRow()} and {@link Monster#getCol()}.
      * @param monster the monster
      * @return int[]{row, col} or null if not found
      */
     public int[] getMonsterPosition(Monster monster) {
-        return monsterPositions.get(monster);
+        if (monsterId(monster) == NO_PIECE) return null;
+        return new int[]{monster.getRow(), monster.getCol()};
     }
 
     /**
@@ -386,38 +892,12 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return the monster at that position, or null if none
      */
     public Monster getMonsterAt(int row, int col) {
-        for (Map.Entry<Monster, int[]> entry : monsterPositions.entrySet()) {
-            int[] pos = entry.getValue();
-            if (pos[0] == row && pos[1] == col) {
-                return entry.getKey();
-            }
-        }
-        return null;
-    }
-
-
-    // Check to see if a move will pass a monster
-    private boolean wouldPassMonsterInLane(int newRow, int newCol) {
-    int lane = getLaneIndex(newCol);
-    if (lane == -1) return false;
-
-    int[] laneCols = LANE_COLUMNS[lane];
-
-    for (Monster m : getAliveMonsters()) {
-        int[] mp = monsterPositions.get(m);
-        if (mp == null) continue;
-
-        boolean sameLane = (mp[1] == laneCols[0] || mp[1] == laneCols[1]);
-        if (!sameLane) continue;
-
-        // If hero would be north of the monster, that's "past" it (illegal)
-        if (newRow < mp[0]) {
-            return true;
+        if (!checkBounds(row, col)) {
+            return null;
         }
+        int id = monsterIdAt[row * cols + col];
+        return id == NO_PIECE ? null : monsters.get(id);
     }
-    return false;
-}
-
 
 
     /**
@@ -448,144 +928,256 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if move successful
      */
     public boolean moveMonsterSouth(Monster monster) {
-        int[] pos = monsterPositions.get(monster);
-        if (pos == null) return false;
-
-        int newRow = pos[0] + 1; // Move south
-        int col = pos[1];
-
-        if (newRow >= size) return false;
-
-        Tile tile = getTile(newRow, col);
-        if (!tile.isAccessible()) return false;
-
-        // Check if another monster is there
-        if (getMonsterAt(newRow, col) != null) return false;
-
-        // Monsters cannot move onto a hero tile (they must attack when in range)
-        if (getHeroAt(newRow, col) != null) return false;
-
-        // Update position (both Map and GamePiece)
-        monsterPositions.put(monster, new int[]{newRow, col});
-        monster.setPosition(newRow, col);  // Sync GamePiece position
-        return true;
+        return stepMonster(monster, Direction.DOWN);
     }
 
-
-
+    /**
+     * Moves a monster one step east.
+     * @param monster the monster to move
+     * @return true if move successful
+     */
     public boolean moveMonsterEast(Monster monster) {
-        int[] pos = monsterPositions.get(monster);
-        if (pos == null) return false;
-
-        int newRow = pos[0];
-        int col = pos[1] + 1; // Move east (FIXED: was pos[0] - 1)
-
-        if (col >= size) return false; // FIXED: check column bounds
-
-        Tile tile = getTile(newRow, col);
-        if (!tile.isAccessible()) return false;
-
-        // Check if another monster is there
-        if (getMonsterAt(newRow, col) != null) return false;
-
-        // Monsters cannot move onto a hero tile (they must attack when in range)
-        if (getHeroAt(newRow, col) != null) return false;
-
-        // Update position (both Map and GamePiece)
-        monsterPositions.put(monster, new int[]{newRow, col});
-        monster.setPosition(newRow, col);  // Sync GamePiece position
-        return true;
+        return stepMonster(monster, Direction.RIGHT);
     }
 
-
+    /**
+     * Moves a monster one step west.
+     * @param monster the monster to move
+     * @return true if move successful
+     */
     public boolean moveMonsterWest(Monster monster) {
-        int[] pos = monsterPositions.get(monster);
-        if (pos == null) return false;
+        return stepMonster(monster, Direction.LEFT);
+    }
 
-        int newRow = pos[0];
-        int col = pos[1] - 1; // Move west (FIXED: was pos[0] + 1)
+    private boolean stepMonster(Monster monster, Direction direction) {
+        int id = monsterId(monster);
+        if (id == NO_PIECE) return false;
 
-        if (col < 0) return false; // FIXED: check column bounds
+        int newRow = monster.getRow() + direction.getRow();
+        int newCol = monster.getCol() + direction.getCol();
 
-        Tile tile = getTile(newRow, col);
-        if (!tile.isAccessible()) return false;
+        // Bounds, walls and obstacles
+        if (!isAccessible(newRow, newCol)) return false;
 
         // Check if another monster is there
-        if (getMonsterAt(newRow, col) != null) return false;
+        if (getMonsterAt(newRow, newCol) != null) return false;
 
         // Monsters cannot move onto a hero tile (they must attack when in range)
-        if (getHeroAt(newRow, col) != null) return false;
+        if (getHeroAt(newRow, newCol) != null) return false;
 
-        // Update position (both Map and GamePiece)
-        monsterPositions.put(monster, new int[]{newRow, col});
-        monster.setPosition(newRow, col);  // Sync GamePiece position
+        setMonsterPosition(id, true, newRow, newCol);
         return true;
     }
 
     /**
      * Removes a dead monster from the world.
+     * The last monster takes over the freed id so ids stay dense.
      * @param monster the monster to remove
      */
     public void removeMonster(Monster monster) {
-        monsterPositions.remove(monster);
-        monsters.remove(monster);
+        int id = monsterId(monster);
+        if (id == NO_PIECE) {
+            return;
+        }
+        int row = monster.getRow();
+        int col = monster.getCol();
+        monsterIdAt[row * cols + col] = NO_PIECE;
+        if (bitboard != null) bitboard.setMonster(row, col, false);
+        if (monster.isAlive()) {
+            aliveMonsterCount--;
+            removeFromFrontier(row, col);
+            if (row == heroNexusRow) {
+                liveMonstersOnHeroNexus.decrementAndGet();
+            }
+        }
+        monster.setHealthListener(null);
+        toggleHash(monsterKeys[id]);
+
+        int last = monsters.size() - 1;
+        if (id != last) {
+            Monster moved = monsters.get(last);
+            monsters.set(id, moved);
+            monsterIdAt[moved.getRow() * cols + moved.getCol()] = id;
+            monsterKeys[id] = monsterKeys[last];
+        }
+        monsterKeys[last] = 0;
+        monsters.remove(last);
     }
 
+    // ==================== OCCUPANCY UPDATES ====================
+
     /**
-     * Finds the closest alive hero to the given monster using BFS.
-     * Returns null if no hero is reachable.
+     * Gets a hero's dense id.
+     * @return the id, or NO_PIECE if the hero is not on this map
      */
-    public Hero findClosestHero(Monster monster) {
-        int[] monsterPos = monsterPositions.get(monster);
-        if (monsterPos == null) return null;
+    private int heroId(Hero hero) {
+        int row = hero.getRow();
+        int col = hero.getCol();
+        if (!checkBounds(row, col)) return NO_PIECE;
+        int id = heroIdAt[row * cols + col];
+        return (id != NO_PIECE && heroes.get(id) == hero) ? id : NO_PIECE;
+    }
 
-        Hero closest = null;
-        int minDist = Integer.MAX_VALUE;
+    /**
+     * Gets a monster's dense id.
+     * @return the id, or NO_PIECE if the monster is not on this map
+     */
+    private int monsterId(Monster monster) {
+        int row = monster.getRow();
+        int col = monster.getCol();
+        if (!checkBounds(row, col)) return NO_PIECE;
+        int id = monsterIdAt[row * cols + col];
+        return (id != NO_PIECE && monsters.get(id) == monster) ? id : NO_PIECE;
+    }
 
-        for (Hero hero : heroes) {
-            if (!hero.isAlive()) continue;
-            int[] heroPos = heroPositions.get(hero);
-            if (heroPos == null) continue;
+    /**
+     * Moves a hero to a cell, keeping the occupancy index, the counters
+     * and the GamePiece position in sync.
+     * @param onMap whether the hero already stands on a cell that must be vacated
+     */
+    private void setHeroPosition(int id, boolean onMap, int row, int col) {
+        Hero hero = heroes.get(id);
+        if (onMap) {
+            int oldRow = hero.getRow();
+            int oldCol = hero.getCol();
+            if (oldRow == MONSTER_NEXUS_ROW) {
+                heroesOnMonsterNexus--;
+            }
+            heroIdAt[oldRow * cols + oldCol] = NO_PIECE;
+            if (bitboard != null) bitboard.setHero(oldRow, oldCol, false);
+            markHeroFieldDirty(oldCol);
+        }
+        if (row == MONSTER_NEXUS_ROW) {
+            heroesOnMonsterNexus++;
+        }
+        heroIdAt[row * cols + col] = id;
+        if (bitboard != null) bitboard.setHero(row, col, true);
+        hero.setPosition(row, col);  // The piece holds the only copy of its position
+        markHeroFieldDirty(col);
+        rehashHero(id);
+    }
 
-            // Simple Manhattan distance (good enough for seeking)
-            int dist = Math.abs(monsterPos[0] - heroPos[0]) + Math.abs(monsterPos[1] - heroPos[1]);
-            if (dist < minDist) {
-                minDist = dist;
-                closest = hero;
+    /**
+     * Moves a monster to a cell, keeping the occupancy index, the counters
+     * and the GamePiece position in sync.
+     * @param onMap whether the monster already stands on a cell that must be vacated
+     */
+    private void setMonsterPosition(int id, boolean onMap, int row, int col) {
+        Monster monster = monsters.get(id);
+        boolean alive = monster.isAlive();
+        if (onMap) {
+            int oldRow = monster.getRow();
+            int oldCol = monster.getCol();
+            if (alive) {
+                removeFromFrontier(oldRow, oldCol);
+                if (oldRow == heroNexusRow) {
+                    liveMonstersOnHeroNexus.decrementAndGet();
+                }
             }
+            monsterIdAt[oldRow * cols + oldCol] = NO_PIECE;
+            if (bitboard != null) bitboard.setMonster(oldRow, oldCol, false);
         }
-        return closest;
+        if (alive) {
+            addToFrontier(row, col);
+            if (row == heroNexusRow) {
+                liveMonstersOnHeroNexus.incrementAndGet();
+            }
+        }
+        monsterIdAt[row * cols + col] = id;
+        if (bitboard != null) bitboard.setMonster(row, col, true);
+        monster.setPosition(row, col);  // The piece holds the only copy of its position
+        rehashMonster(id);
     }
 
+    // ==================== BOARD HASH UPDATES ====================
+
     /**
-     * Gets the next step direction for monster to move toward a target hero.
-     * Returns the best direction to move, or null if no valid move.
+     * Gets the Zobrist hash of the position: obstacles, where every piece
+     * stands and how much HP it has, in {@link utils.GameConstants#LOV_ZOBRIST_HP_BUCKETS}
+     * bands. Boards of the same shape in the same position hash the same,
+     * including copies, so the hash can key a transposition table or spot
+     * duplicate positions. Maintained incrementally; reading it is free.
+     * @return the 64-bit hash
      */
-    public Direction findNextStepTowardHero(Monster monster, Hero target) {
-        int[] monsterPos = monsterPositions.get(monster);
-        int[] targetPos = heroPositions.get(target);
-        if (monsterPos == null || targetPos == null) return null;
+    public long getZobristHash() {
+        return zobristHash.get();
+    }
 
-        int mRow = monsterPos[0], mCol = monsterPos[1];
-        int tRow = targetPos[0], tCol = targetPos[1];
+    private void toggleHash(long key) {
+        zobristHash.accumulateAndGet(key, (hash, k) -> hash ^ k);
+    }
 
-        // Priority: South first (toward hero nexus), then East/West to get closer
-        Direction best = null;
-        int bestDist = Integer.MAX_VALUE;
+    /**
+     * Replaces a hero's key after it moved or its HP changed.
+     */
+    private void rehashHero(int id) {
+        Hero hero = heroes.get(id);
+        long key = ZobristKeys.hero(id, hero.getRow() * cols + hero.getCol(),
+                ZobristKeys.hpBucket(hero.getHp(), hero.getMaxHp()));
+        toggleHash(heroKeys[id] ^ key);
+        heroKeys[id] = key;
+    }
 
-        // Try all 4 directions
-        Direction[] dirs = {Direction.DOWN, Direction.LEFT, Direction.RIGHT, Direction.UP};
-        for (Direction dir : dirs) {
-            int newRow = mRow + dir.getRow();
-            int newCol = mCol + dir.getCol();
+    /**
+     * Replaces a monster's key after it moved or its HP changed.
+     */
+    private void rehashMonster(int id) {
+        Monster monster = monsters.get(id);
+        long key = ZobristKeys.monster(monster.getLevel(), monster.getRow() * cols + monster.getCol(),
+                ZobristKeys.hpBucket(monster.getHp(), monster.getMaxHp()));
+        toggleHash(monsterKeys[id] ^ key);
+        monsterKeys[id] = key;
+    }
 
-            if (newRow < 0 || newRow >= size || newCol < 0 || newCol >= size) continue;
-            Tile tile = getTile(newRow, newCol);
-            if (!tile.isAccessible()) continue;
-            if (getMonsterAt(newRow, newCol) != null) continue; // Don't stack monsters
+    /**
+     * Computes the hash from scratch, when the board is created or restored.
+     */
+    private void rehashBoard() {
+        long hash = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (grid[row][col].isObstacle()) {
+                    hash ^= ZobristKeys.obstacle(row * cols + col);
+                }
+            }
+        }
+        zobristHash.set(hash);
+        heroKeys = new long[Math.max(heroKeys.length, heroes.size())];
+        for (int id = 0; id < heroes.size(); id++) {
+            rehashHero(id);
+        }
+        monsterKeys = new long[Math.max(monsterKeys.length, monsters.size())];
+        for (int id = 0; id < monsters.size(); id++) {
+            rehashMonster(id);
+        }
+    }
+
+    /**
+     * Gets the step that brings a monster closest to a live hero.
+     * Monsters with no reachable hero in their lane head for the Hero Nexus
+     * instead, walking around obstacles. Cells held by other pieces are
+     * skipped, so a blocked monster takes its next best step or waits.
+     *
+     * @param monster the monster to move
+     * @return DOWN, LEFT or RIGHT, or null if the monster should stay put
+     */
+    public Direction findNextMonsterStep(Monster monster) {
+        if (monsterId(monster) == NO_PIECE) return null;
+        int row = monster.getRow();
+        int col = monster.getCol();
+
+        FlowField field = getHeroField(laneOfColumn[col]);
+        if (field.getDistance(row, col) == FlowField.UNREACHABLE) {
+            field = getNexusField();
+        }
 
-            int dist = Math.abs(newRow - tRow) + Math.abs(newCol - tCol);
-            if (dist < bestDist) {
+        Direction best = null;
+        int bestDist = field.getDistance(row, col);
+        for (Direction dir : MONSTER_STEPS) {
+            int newRow = row + dir.getRow();
+            int newCol = col + dir.getCol();
+            int dist = field.getDistance(newRow, newCol);
+            if (dist < bestDist && getMonsterAt(newRow, newCol) == null && getHeroAt(newRow, newCol) == null) {
                 bestDist = dist;
                 best = dir;
             }
@@ -593,6 +1185,76 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
         return best;
     }
 
+    /**
+     * Brings the monster distance fields up to date. Afterwards, until the
+     * board next changes, {@link #findNextMonsterStep} and
+     * {@link #getHeroesInRange(Monster)} only read the board and may be
+     * called from several threads at once, e.g. to decide every monster's
+     * move in parallel.
+     */
+    public void prepareMonsterSteps() {
+        for (int lane = 0; lane < heroFields.length; lane++) {
+            getHeroField(lane);
+        }
+        getNexusField();
+    }
+
+    /**
+     * Gets a lane's hero field, rebuilt from the live heroes in the lane
+     * if needed. Touches nothing outside the lane, so lanes can be served
+     * from different threads.
+     */
+    private FlowField getHeroField(int lane) {
+        if (heroFieldDirty[lane]) {
+            FlowField field = heroFields[lane];
+            field.clear();
+            for (Hero hero : heroes) {  // Heroes never leave the map
+                // Lane first: heroes elsewhere may be changing on another thread
+                if (laneOfColumn[hero.getCol()] == lane && hero.isAlive()) {
+                    field.addSource(hero.getRow(), hero.getCol());
+                }
+            }
+            field.propagate(this);
+            heroFieldDirty[lane] = false;
+        }
+        return heroFields[lane];
+    }
+
+    private FlowField[] createLaneFields() {
+        FlowField[] fields = new FlowField[config.getLaneCount()];
+        for (int lane = 0; lane < fields.length; lane++) {
+            fields[lane] = new FlowField(rows, getHeroSpawnColumn(lane), config.getLaneWidth(), MONSTER_STEPS);
+        }
+        return fields;
+    }
+
+    /**
+     * Marks the hero field of a column's lane for rebuilding; a change in
+     * a wall column could connect lanes, so it marks every lane.
+     */
+    private void markHeroFieldDirty(int col) {
+        int lane = laneOfColumn[col];
+        if (lane == -1) {
+            Arrays.fill(heroFieldDirty, true);
+        } else {
+            heroFieldDirty[lane] = true;
+        }
+    }
+
+    private FlowField getNexusField() {
+        if (nexusFieldDirty) {
+            nexusField.clear();
+            for (int col = 0; col < cols; col++) {
+                if (isAccessible(heroNexusRow, col)) {
+                    nexusField.addSource(heroNexusRow, col);
+                }
+            }
+            nexusField.propagate(this);
+            nexusFieldDirty = false;
+        }
+        return nexusField;
+    }
+
     // ==================== COMBAT RANGE QUERIES ====================
 
     /**
@@ -602,6 +1264,9 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if positions are adjacent or same
      */
     public boolean isAdjacent(int row1, int col1, int row2, int col2) {
+        if (bitboard != null && checkBounds(row1, col1) && checkBounds(row2, col2)) {
+            return bitboard.inRange(row1, col1, row2, col2);
+        }
         int rowDiff = Math.abs(row1 - row2);
         int colDiff = Math.abs(col1 - col2);
         return rowDiff <= 1 && colDiff <= 1;
@@ -611,9 +1276,8 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * Checks if a hero is within attack range of a position.
      */
     public boolean isInAttackRange(Hero hero, int targetRow, int targetCol) {
-        int[] pos = heroPositions.get(hero);
-        if (pos == null) return false;
-        return isAdjacent(pos[0], pos[1], targetRow, targetCol);
+        if (heroId(hero) == NO_PIECE) return false;
+        return isAdjacent(hero.getRow(), hero.getCol(), targetRow, targetCol);
     }
 
     /**
@@ -622,14 +1286,22 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return list of monsters in range
      */
     public List<Monster> getMonstersInRange(Hero hero) {
-        List<Monster> inRange = new ArrayList<>();
-        int[] heroPos = heroPositions.get(hero);
-        if (heroPos == null) return inRange;
+        if (heroId(hero) == NO_PIECE) return new ArrayList<>();
+        int heroRow = hero.getRow();
+        int heroCol = hero.getCol();
+
+        if (bitboard != null) {
+            return collectMonsters(bitboard.monstersInRange(heroRow, heroCol));
+        }
 
-        for (Monster m : getAliveMonsters()) {
-            int[] monsterPos = monsterPositions.get(m);
-            if (monsterPos != null && isAdjacent(heroPos[0], heroPos[1], monsterPos[0], monsterPos[1])) {
-                inRange.add(m);
+        List<Monster> inRange = new ArrayList<>();
+        // Only the 3x3 block around the hero can be in range
+        for (int row = heroRow - 1; row <= heroRow + 1; row++) {
+            for (int col = heroCol - 1; col <= heroCol + 1; col++) {
+                Monster m = getMonsterAt(row, col);
+                if (m != null && m.isAlive()) {
+                    inRange.add(m);
+                }
             }
         }
         return inRange;
@@ -641,14 +1313,20 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return list of heroes in range
      */
     public List<Hero> getHeroesInRange(Monster monster) {
-        List<Hero> inRange = new ArrayList<>();
-        int[] monsterPos = monsterPositions.get(monster);
-        if (monsterPos == null) return inRange;
+        if (monsterId(monster) == NO_PIECE) return new ArrayList<>();
+        int monsterRow = monster.getRow();
+        int monsterCol = monster.getCol();
 
-        for (Hero h : heroes) {
-            if (h.isAlive()) {
-                int[] heroPos = heroPositions.get(h);
-                if (heroPos != null && isAdjacent(monsterPos[0], monsterPos[1], heroPos[0], heroPos[1])) {
+        if (bitboard != null) {
+            return collectHeroes(bitboard.heroesInRange(monsterRow, monsterCol));
+        }
+
+        List<Hero> inRange = new ArrayList<>();
+        // Only the 3x3 block around the monster can be in range
+        for (int row = monsterRow - 1; row <= monsterRow + 1; row++) {
+            for (int col = monsterCol - 1; col <= monsterCol + 1; col++) {
+                Hero h = getHeroAt(row, col);
+                if (h != null && h.isAlive()) {
                     inRange.add(h);
                 }
             }
@@ -656,6 +1334,48 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
         return inRange;
     }
 
+    /**
+     * Resolves a monster occupancy mask into the alive monsters on those squares.
+     * Returns a shared empty list when nothing is in range (no allocation).
+     */
+    private List<Monster> collectMonsters(long squares) {
+        if (squares == 0L) {
+            return Collections.emptyList();
+        }
+        List<Monster> result = new ArrayList<>(Long.bitCount(squares));
+        while (squares != 0L) {
+            int square = Long.numberOfTrailingZeros(squares);
+            squares &= squares - 1;
+            int id = monsterIdAt[square];  // Bitboard squares use the same row * cols + col numbering
+            Monster m = (id == NO_PIECE) ? null : monsters.get(id);
+            if (m != null && m.isAlive()) {
+                result.add(m);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resolves a hero occupancy mask into the alive heroes on those squares.
+     * Returns a shared empty list when nothing is in range (no allocation).
+     */
+    private List<Hero> collectHeroes(long squares) {
+        if (squares == 0L) {
+            return Collections.emptyList();
+        }
+        List<Hero> result = new ArrayList<>(Long.bitCount(squares));
+        while (squares != 0L) {
+            int square = Long.numberOfTrailingZeros(squares);
+            squares &= squares - 1;
+            int id = heroIdAt[square];  // Bitboard squares use the same row * cols + col numbering
+            Hero h = (id == NO_PIECE) ? null : heroes.get(id);
+            if (h != null && h.isAlive()) {
+                result.add(h);
+            }
+        }
+        return result;
+    }
+
     // ==================== TERRAIN BONUS QUERIES ====================
 
     /**
@@ -669,10 +1389,9 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      */
     public Map<String, Double> getTerrainBonus(Hero hero) {
         Map<String, Double> bonus = new HashMap<>();
-        int[] pos = heroPositions.get(hero);
-        if (pos == null) return bonus;
+        if (heroId(hero) == NO_PIECE) return bonus;
 
-        Tile tile = getTile(pos[0], pos[1]);
+        Tile tile = getTile(hero.getRow(), hero.getCol());
 
         double strMult = tile.getStrengthMultiplier();
         double dexMult = tile.getDexterityMultiplier();
@@ -692,34 +1411,112 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if a hero is at row 0
      */
     public boolean isHeroVictory() {
-        for (Hero hero : heroes) {
-            int[] pos = heroPositions.get(hero);
-            if (pos != null && pos[0] == MONSTER_NEXUS_ROW) {
-                return true;
-            }
-        }
-        return false;
+        return heroesOnMonsterNexus > 0;
     }
 
     /**
      * Checks if any monster has reached the hero nexus (monsters win).
-     * @return true if a monster is at row 7
+     * @return true if a live monster is at the hero nexus row
      */
     public boolean isMonsterVictory() {
-        for (Monster monster : getAliveMonsters()) {
-            int[] pos = monsterPositions.get(monster);
-            if (pos != null && pos[0] == HERO_NEXUS_ROW) {
-                return true;
-            }
+        return liveMonstersOnHeroNexus.get() > 0;
+    }
+
+    /**
+     * Checks if every hero on the map has fainted.
+     * @return true if heroes were placed and none of them is alive
+     */
+    public boolean areAllHeroesDefeated() {
+        return !heroes.isEmpty() && aliveHeroCount.get() == 0;
+    }
+
+    /**
+     * Gets the number of live monsters without building a list.
+     * @return the live monster count
+     */
+    public int getAliveMonsterCount() {
+        return aliveMonsterCount;
+    }
+
+    private void watchHealth(Hero hero) {
+        hero.setHealthListener((piece, oldHp, newHp) -> onHeroHealthChanged((Hero) piece, oldHp, newHp));
+    }
+
+    private void watchHealth(Monster monster) {
+        monster.setHealthListener((piece, oldHp, newHp) -> onMonsterHealthChanged((Monster) piece, oldHp, newHp));
+    }
+
+    private void onHeroHealthChanged(Hero hero, int oldHp, int newHp) {
+        int id = heroId(hero);
+        if (id != NO_PIECE) {
+            rehashHero(id);
+        }
+        boolean wasAlive = oldHp > 0;
+        boolean isAlive = newHp > 0;
+        if (wasAlive == isAlive) {
+            return;
+        }
+        aliveHeroCount.addAndGet(isAlive ? 1 : -1);
+        if (id != NO_PIECE) {
+            markHeroFieldDirty(hero.getCol());  // Fainted heroes are no longer chased, revived ones are
+        }
+    }
+
+    private void onMonsterHealthChanged(Monster monster, int oldHp, int newHp) {
+        int id = monsterId(monster);
+        if (id != NO_PIECE) {
+            rehashMonster(id);
+        }
+        boolean wasAlive = oldHp > 0;
+        boolean isAlive = newHp > 0;
+        if (wasAlive == isAlive) {
+            return;
+        }
+        int delta = isAlive ? 1 : -1;
+        aliveMonsterCount += delta;
+        if (id == NO_PIECE) {
+            return;
+        }
+        int row = monster.getRow();
+        int col = monster.getCol();
+        if (isAlive) {
+            addToFrontier(row, col);
+        } else {
+            removeFromFrontier(row, col);
+        }
+        if (row == heroNexusRow) {
+            liveMonstersOnHeroNexus.addAndGet(delta);
         }
-        return false;
     }
 
     // ==================== IWorldMap INTERFACE ====================
 
+    /**
+     * Gets the size of the map.
+     * The default board is square; for custom layouts this is the column count,
+     * use {@link #getRows()} and {@link #getCols()} for the exact dimensions.
+     */
     @Override
     public int getSize() {
-        return size;
+        return cols;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the layout this map was generated from.
+     * @return the map configuration
+     */
+    public LegendsMapConfig getConfig() {
+        return config;
     }
 
     @Override
@@ -732,12 +1529,18 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
 
     @Override
     public boolean checkBounds(int row, int col) {
-        return row >= 0 && row < size && col >= 0 && col < size;
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
     @Override
     public boolean isAccessible(int row, int col) {
-        return checkBounds(row, col) && grid[row][col].isAccessible();
+        if (!checkBounds(row, col)) {
+            return false;
+        }
+        if (bitboard != null) {
+            return bitboard.isAccessible(row, col);
+        }
+        return grid[row][col].isAccessible();
     }
 
     @Override
@@ -772,6 +1575,9 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * Uses LegendsMapFormatter for block-style colored cells.
      */
     public void printMap() {
+        if (ioUtils.isSilent()) {
+            return;  // headless game: don't render a board nobody will see
+        }
         ui.formatter.LegendsMapFormatter formatter = new ui.formatter.LegendsMapFormatter();
         List<ui.formatter.RenderedLine> lines = formatter.render(this);
         
@@ -799,7 +1605,7 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
 
         // Print column headers (5 chars + 1 for separator = 6 per column)
         StringBuilder header = new StringBuilder("     ");
-        for (int col = 0; col < size; col++) {
+        for (int col = 0; col < cols; col++) {
             header.append(String.format("  %d   ", col));
         }
         ioUtils.printlnTitle(header.toString());
@@ -807,11 +1613,11 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
         // Print top border
         printRowBorder();
 
-        for (int row = 0; row < size; row++) {
+        for (int row = 0; row < rows; row++) {
             StringBuilder line = new StringBuilder();
             line.append(String.format(" %d |", row));
 
-            for (int col = 0; col < size; col++) {
+            for (int col = 0; col < cols; col++) {
                 Tile tile = grid[row][col];
                 String cellContent = getCellContent(row, col, tile);
                 line.append(cellContent).append("|");
@@ -819,7 +1625,7 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
 
             ioUtils.printlnTitle(line.toString());
 
-            if (row < size - 1) {
+            if (row < rows - 1) {
                 printRowSeparator();
             }
         }
@@ -832,26 +1638,16 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
     private String getCellContent(int row, int col, Tile tile) {
         // Check for hero at this position
         String heroChar = " ";
-        int heroIndex = 0;
-        for (Hero h : heroes) {
-            int[] pos = heroPositions.get(h);
-            if (pos != null && pos[0] == row && pos[1] == col) {
-                heroChar = "H" + (heroIndex + 1);
-                break;
-            }
-            heroIndex++;
+        int heroIndex = heroIdAt[row * cols + col];
+        if (heroIndex != NO_PIECE) {
+            heroChar = "H" + (heroIndex + 1);
         }
 
         // Check for monster at this position
         String monsterChar = " ";
-        int monsterIndex = 0;
-        for (Monster m : monsters) {
-            int[] pos = monsterPositions.get(m);
-            if (pos != null && pos[0] == row && pos[1] == col) {
-                monsterChar = "M" + (monsterIndex + 1);
-                break;
-            }
-            monsterIndex++;
+        int monsterIndex = monsterIdAt[row * cols + col];
+        if (monsterIndex != NO_PIECE) {
+            monsterChar = "M" + (monsterIndex + 1);
         }
 
 
@@ -905,7 +1701,7 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
 
     private void printRowBorder() {
         StringBuilder border = new StringBuilder("   +");
-        for (int col = 0; col < size; col++) {
+        for (int col = 0; col < cols; col++) {
             border.append("-----+"); // 5 chars wide
         }
         ioUtils.printlnTitle(border.toString());
@@ -913,7 +1709,7 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
 
     private void printRowSeparator() {
         StringBuilder separator = new StringBuilder("   +");
-        for (int col = 0; col < size; col++) {
+        for (int col = 0; col < cols; col++) {
             separator.append("-----+"); // 5 chars wide
         }
         ioUtils.printlnTitle(separator.toString());
@@ -939,20 +1735,49 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
 
     // ==================== LANE UTILITIES ====================
 
+    /**
+     * Builds the column-to-lane lookup table for a layout.
+     */
+    private static int[] buildLaneIndex(LegendsMapConfig config) {
+        int[] lanes = new int[config.getCols()];
+        Arrays.fill(lanes, -1);
+        for (int lane = 0; lane < config.getLaneCount(); lane++) {
+            int start = config.getLaneStartColumn(lane);
+            for (int i = 0; i < config.getLaneWidth(); i++) {
+                lanes[start + i] = lane;
+            }
+        }
+        return lanes;
+    }
+
+    /**
+     * Gets the number of lanes on this map.
+     * @return the lane count
+     */
+    @Override
+    public int getLaneCount() {
+        return config.getLaneCount();
+    }
+
+    /**
+     * Gets the Hero Nexus row (the bottom row of the map).
+     * @return the hero nexus row index
+     */
+    public int getHeroNexusRow() {
+        return heroNexusRow;
+    }
+
     /**
      * Gets the lane index for a given column.
      * @param col the column index
-     * @return the lane index (0=top, 1=mid, 2=bot), or -1 if wall
+     * @return the lane index (0=top, 1=mid, 2=bot on the default map), or -1 if wall
      */
+    @Override
     public int getLaneIndex(int col) {
-        for (int lane = 0; lane < LANE_COLUMNS.length; lane++) {
-            for (int laneCol : LANE_COLUMNS[lane]) {
-                if (col == laneCol) {
-                    return lane;
-                }
-            }
+        if (col < 0 || col >= cols) {
+            return -1;
         }
-        return -1; // Wall column
+        return laneOfColumn[col]; // -1 for wall columns
     }
 
     /**
@@ -961,12 +1786,7 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if the column is a wall
      */
     public boolean isWallColumn(int col) {
-        for (int wallCol : WALL_COLUMNS) {
-            if (col == wallCol) {
-                return true;
-            }
-        }
-        return false;
+        return col >= 0 && col < cols && laneOfColumn[col] == -1;
     }
 
     /**
@@ -975,32 +1795,27 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * @return true if the column is a wall
      */
     public boolean isObstacle(int col) {
-        for (int wallCol : WALL_COLUMNS) {
-            if (col == wallCol) {
-                return true;
-            }
-        }
-        return false;
+        return isWallColumn(col);
     }
 
     /**
      * Gets the spawn column for a hero in the given lane.
      * Heroes spawn in the left column of their lane.
-     * @param laneIndex the lane index (0=top, 1=mid, 2=bot)
+     * @param laneIndex the lane index (0=top, 1=mid, 2=bot on the default map)
      * @return the spawn column
      */
     public int getHeroSpawnColumn(int laneIndex) {
-        return LANE_COLUMNS[laneIndex][0];
+        return config.getLaneStartColumn(laneIndex);
     }
 
     /**
      * Gets the spawn column for a monster in the given lane.
      * Monsters spawn in the right column of their lane.
-     * @param laneIndex the lane index (0=top, 1=mid, 2=bot)
+     * @param laneIndex the lane index (0=top, 1=mid, 2=bot on the default map)
      * @return the spawn column
      */
     public int getMonsterSpawnColumn(int laneIndex) {
-        return LANE_COLUMNS[laneIndex][1];
+        return config.getLaneStartColumn(laneIndex) + config.getLaneWidth() - 1;
     }
 
     /**
@@ -1018,33 +1833,35 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * Generates the Legends of Valor map layout.
      */
     private void generateLayout() {
-        // First, set all tiles to inaccessible
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
+        // First, set all wall tiles to inaccessible
+        for (int col = 0; col < cols; col++) {
+            if (laneOfColumn[col] != -1) {
+                continue;
+            }
+            for (int row = 0; row < rows; row++) {
                 grid[row][col] = new Tile(TileType.INACCESSIBLE, null);
             }
         }
 
         // Generate lane tiles
-        for (int laneIndex = 0; laneIndex < LANE_COLUMNS.length; laneIndex++) {
-            int[] laneCols = LANE_COLUMNS[laneIndex];
-            generateLaneTiles(laneIndex, laneCols);
+        for (int laneIndex = 0; laneIndex < config.getLaneCount(); laneIndex++) {
+            generateLaneTiles(laneIndex, getHeroSpawnColumn(laneIndex), config.getLaneWidth());
         }
     }
 
     /**
      * Generates tiles for a single lane.
      */
-    private void generateLaneTiles(int laneIndex, int[] laneCols) {
-        int tilesPerColumn = size - 2; // Rows 1 to 6
-        int totalLaneTiles = tilesPerColumn * laneCols.length;
+    private void generateLaneTiles(int laneIndex, int firstCol, int laneWidth) {
+        int tilesPerColumn = rows - 2; // Every row between the two nexuses
+        int totalLaneTiles = tilesPerColumn * laneWidth;
 
         // Create distribution of tile types
-        List<TileType> tileTypes = new ArrayList<>();
-        int numBush = (int) Math.round(totalLaneTiles * BUSH_RATIO);
-        int numCave = (int) Math.round(totalLaneTiles * CAVE_RATIO);
-        int numKoulou = (int) Math.round(totalLaneTiles * KOULOU_RATIO);
-        int numObstacles = (int) Math.round(totalLaneTiles * OBSTACLE_RATIO);
+        List<TileType> tileTypes = new ArrayList<>(totalLaneTiles);
+        int numBush = (int) Math.round(totalLaneTiles * config.getBushRatio());
+        int numCave = (int) Math.round(totalLaneTiles * config.getCaveRatio());
+        int numKoulou = (int) Math.round(totalLaneTiles * config.getKoulouRatio());
+        int numObstacles = (int) Math.round(totalLaneTiles * config.getObstacleRatio());
         int numPlain = totalLaneTiles - numBush - numCave - numKoulou - numObstacles;
 
         // Adds the different file types to a list that we can then shuffle
@@ -1054,18 +1871,24 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
         addTileTypes(tileTypes, TileType.OBSTACLE, numObstacles);
         addTileTypes(tileTypes, TileType.PLAIN, numPlain);
 
-        Collections.shuffle(tileTypes, random);
+        // Rounding every ratio up can overshoot on tiny lanes; trim back to the lane size
+        while (tileTypes.size() > totalLaneTiles) {
+            tileTypes.remove(tileTypes.size() - 1);
+        }
+
+        random.shuffle(tileTypes);
 
         // Set Nexus tiles
-        for (int col : laneCols) {
+        int lastCol = firstCol + laneWidth - 1;
+        for (int col = firstCol; col <= lastCol; col++) {
             grid[MONSTER_NEXUS_ROW][col] = createNexusTile(false, laneIndex);
-            grid[HERO_NEXUS_ROW][col] = createNexusTile(true, laneIndex);
+            grid[heroNexusRow][col] = createNexusTile(true, laneIndex);
         }
 
-        // Fill lane tiles (rows 1 to 6)
+        // Fill lane tiles (every row between the nexuses)
         int tileIndex = 0;
-        for (int row = 1; row < size - 1; row++) {
-            for (int col : laneCols) {
+        for (int row = 1; row < rows - 1; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
                 TileType type = tileTypes.get(tileIndex++);
                 TileFeature feature = createFeatureForType(type);
                 grid[row][col] = new Tile(type, feature);
@@ -1074,6 +1897,38 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
     }
 
 
+    /**
+     * Subscribes to terrain changes on every tile (e.g. obstacle removal)
+     * and seeds the bitboard terrain masks.
+     */
+    private void watchTerrain() {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                final int r = row;
+                final int c = col;
+                grid[row][col].setChangeListener((tile, oldType) -> onTerrainChanged(r, c, tile, oldType));
+                onTerrainChanged(row, col, grid[row][col], null);
+            }
+        }
+    }
+
+    /**
+     * Keeps derived terrain data in sync with a tile's current type.
+     * @param oldType the tile's previous type, or null when the tile is first watched
+     */
+    private void onTerrainChanged(int row, int col, Tile tile, TileType oldType) {
+        terrainSnapshot = null;  // copy-on-write: the next snapshot records the new terrain
+        if (oldType != null && (oldType == TileType.OBSTACLE) != tile.isObstacle()) {
+            toggleHash(ZobristKeys.obstacle(row * cols + col));
+        }
+        if (bitboard != null) {
+            bitboard.setWall(row, col, tile.getType() == TileType.INACCESSIBLE);
+            bitboard.setObstacle(row, col, tile.isObstacle());
+        }
+        markHeroFieldDirty(col);
+        nexusFieldDirty = true;
+    }
+
     // Creates the nexuses for heroes and monsters
     private Tile createNexusTile(boolean isHeroNexus, int laneIndex) {
         Market market = isHeroNexus ? marketFactory.createRandomMarket() : null;
@@ -1112,6 +1967,6 @@ public class LegendsOfValorWorldMap implements ILegendsWorldMap {
      * Checks if a monster has reached the hero's Nexus.
      */
     public boolean isAtHeroNexus(int row) {
-        return row == HERO_NEXUS_ROW;
+        return row == heroNexusRow;
     }
 }
@@ -5,14 +5,12 @@ import market.model.Market;
 import market.service.MarketFactory;
 import utils.IOUtils;
 import utils.GameConstants;
+import utils.GameRandom;
 import worldMap.enums.Direction;
 import worldMap.enums.TileType;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 import static utils.ConsoleColors.*;
 
@@ -24,11 +22,23 @@ public class MonstersAndHeroesWorldMap implements IWorldMap {
 
     private final int size;
     private final Tile[][] grid;
-    private final Random random = new SecureRandom();
+    private final GameRandom random;
     private final MarketFactory marketFactory;
     private final IOUtils ioUtils;
 
     public MonstersAndHeroesWorldMap(int size, MarketFactory marketFactory, IOUtils ioUtils) {
+        this(size, marketFactory, ioUtils, GameRandom.withRandomSeed());
+    }
+
+    /**
+     * Creates a world map whose layout is drawn from the given random stream.
+     * @param size width and height of the map
+     * @param marketFactory factory for creating markets
+     * @param ioUtils I/O utilities
+     * @param random stream used to lay out the tiles
+     */
+    public MonstersAndHeroesWorldMap(int size, MarketFactory marketFactory, IOUtils ioUtils, GameRandom random) {
+        this.random = random;
         this.size = size;
         this.grid = new Tile[size][size];
         this.marketFactory = marketFactory;
@@ -136,7 +146,7 @@ public class MonstersAndHeroesWorldMap implements IWorldMap {
         addTileByType(types, TileType.MARKET, numMarket);
         addTileByType(types, TileType.COMMON, numCommon);
 
-        Collections.shuffle(types, random);
+        random.shuffle(types);
 
         int index = 0;
         for (int row = 0; row < size; row++) {
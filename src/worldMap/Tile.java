@@ -13,6 +13,7 @@ public class Tile {
 
     private TileType type;
     private TileFeature feature;
+    private TileChangeListener changeListener;
 
     public Tile(TileType type, TileFeature feature) {
         if (type == null) {
@@ -22,6 +23,15 @@ public class Tile {
         this.feature = feature;
     }
 
+    /**
+     * Creates a tile of the same type sharing this tile's feature.
+     * The change listener is not copied.
+     * @return the copy
+     */
+    public Tile copy() {
+        return new Tile(type, feature);
+    }
+
     public TileType getType() {
         return type;
     }
@@ -31,7 +41,9 @@ public class Tile {
      * @param type the new tile type
      */
     public void setType(TileType type) {
+        TileType oldType = this.type;
         this.type = type;
+        notifyTypeChanged(oldType);
     }
 
     /**
@@ -50,6 +62,20 @@ public class Tile {
         this.feature = feature;
     }
 
+    /**
+     * Registers the listener notified when this tile's type changes.
+     * @param changeListener the listener, or null to remove it
+     */
+    public void setChangeListener(TileChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void notifyTypeChanged(TileType oldType) {
+        if (changeListener != null && oldType != type) {
+            changeListener.onTileTypeChanged(this, oldType);
+        }
+    }
+
     /**
      * Checks if this tile is accessible (can be entered).
      * @return true if accessible, false otherwise
@@ -74,6 +100,7 @@ public class Tile {
         if (type == TileType.OBSTACLE) {
             type = TileType.PLAIN;
             feature = null;
+            notifyTypeChanged(TileType.OBSTACLE);
             return true;
         }
         return false;
@@ -0,0 +1,19 @@
+package worldMap;
+
+import worldMap.enums.TileType;
+
+/**
+ * Callback notified when a {@link Tile} changes its terrain type
+ * (for example when a hero removes an obstacle).
+ * Lets the owning map keep derived terrain data in sync.
+ */
+@FunctionalInterface
+public interface TileChangeListener {
+
+    /**
+     * Called after the tile type has changed.
+     * @param tile the tile that changed
+     * @param oldType the type the tile had before the change
+     */
+    void onTileTypeChanged(Tile tile, TileType oldType);
+}
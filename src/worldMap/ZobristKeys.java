@@ -0,0 +1,76 @@
+package worldMap;
+
+import utils.GameConstants;
+
+/**
+ * Zobrist keys for hashing a Legends of Valor board.
+ *
+ * Every feature of a position (a hero on a cell with some HP, a monster of
+ * some level on a cell with some HP, an obstacle on a cell) has a
+ * pseudo-random 64-bit key, and a board's hash is the XOR of the keys of its
+ * features. Moving a piece or changing a tile is then two XORs.
+ *
+ * Keys come from a fixed mixing function instead of a stored table, so every
+ * board of the same shape, every copy and every thread agree on them
+ * without sharing state.
+ */
+final class ZobristKeys {
+
+    /** Bucket of a piece with no HP left */
+    static final int DEAD = 0;
+
+    private static final long HERO = 0x1L;
+    private static final long MONSTER = 0x2L;
+    private static final long OBSTACLE = 0x3L;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private ZobristKeys() {
+    }
+
+    /**
+     * Gets the key of a hero standing on a cell.
+     * @param id the hero's id on the board
+     * @param cell row * cols + col
+     * @param bucket HP bucket from {@link #hpBucket(int, int)}
+     */
+    static long hero(int id, int cell, int bucket) {
+        return key(HERO, ((long) id << 32) | ((long) cell << 8) | bucket);
+    }
+
+    /**
+     * Gets the key of a monster standing on a cell. Monsters are told
+     * apart by level only, so boards that differ just in which of two
+     * equal monsters stands where hash the same.
+     */
+    static long monster(int level, int cell, int bucket) {
+        return key(MONSTER, ((long) level << 32) | ((long) cell << 8) | bucket);
+    }
+
+    static long obstacle(int cell) {
+        return key(OBSTACLE, cell);
+    }
+
+    /**
+     * Puts HP into one of {@link GameConstants#LOV_ZOBRIST_HP_BUCKETS} bands:
+     * {@link #DEAD}, then equal slices of the maximum HP.
+     */
+    static int hpBucket(int hp, int maxHp) {
+        if (hp <= 0) {
+            return DEAD;
+        }
+        int slices = GameConstants.LOV_ZOBRIST_HP_BUCKETS - 1;
+        if (hp >= maxHp) {
+            return slices;
+        }
+        return 1 + (int) ((long) (hp - 1) * slices / maxHp);
+    }
+
+    /** SplitMix64 finalizer over the feature's index, salted by its kind */
+    private static long key(long kind, long index) {
+        long z = (index + 1) * GOLDEN_GAMMA + (kind << 60);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}